@@ -0,0 +1,62 @@
+package trivia.framework.dao;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Synthetic data directory shared by the benchmarks, written by
+ * {@link SyntheticDataGenerator}: one player and one quiz per 50 attempts, with
+ * Zipf-skewed activity and quiz popularity.
+ *
+ * {@link #install(int)} must run before any DAO class is touched, since the DAOs
+ * fix their file paths from -Dtrivia.data.dir when they are first loaded.
+ */
+public final class BenchmarkData {
+
+    public static final int ATTEMPTS_PER_PLAYER = 50;
+
+    private final Path directory;
+    private final int players;
+
+    private BenchmarkData(Path directory, int players) {
+        this.directory = directory;
+        this.players = players;
+    }
+
+    /** Writes a history of {@code attempts} attempts to a temp directory and points the DAOs at it. */
+    public static BenchmarkData install(int attempts) throws IOException {
+        Path directory = Files.createTempDirectory("trivia-bench");
+        int players = Math.max(1, attempts / ATTEMPTS_PER_PLAYER);
+        // set first: writing the files already loads QuestionTable, which fixes its path
+        System.setProperty(DataDirectory.PROPERTY, directory.toString());
+        new SyntheticDataGenerator(42)
+                .setPlayers(players)
+                .setQuizzesPerPlayer(1)
+                .setAttemptsPerPlayer(ATTEMPTS_PER_PLAYER)
+                .write(directory);
+        // the DAOs log every lookup; keep that out of the benchmark output
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        return new BenchmarkData(directory, players);
+    }
+
+    public int getPlayerCount() {
+        return players;
+    }
+
+    public static String playerName(int index) {
+        return SyntheticDataGenerator.playerName(index);
+    }
+
+    public void delete() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
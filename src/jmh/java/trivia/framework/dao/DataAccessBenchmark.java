@@ -0,0 +1,73 @@
+package trivia.framework.dao;
+
+import org.openjdk.jmh.annotations.*;
+import trivia.entity.Player;
+import trivia.use_case.generate_from_wrong.WrongQuestionRecord;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The DAO hot paths over histories of 1k, 100k and 1M attempts: loading and saving
+ * the quiz store, looking up a player, and the wrong questions of a player.
+ *
+ * Run with e.g. {@code mvn -P benchmarks compile exec:exec -Djmh.args="DataAccess -p attempts=1000"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class DataAccessBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int attempts;
+
+    private BenchmarkData data;
+    private QuizDataAccessObject quizDao;
+    private PlayerDataAccessObject playerDao;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        data = BenchmarkData.install(attempts);
+        quizDao = new QuizDataAccessObject();
+        playerDao = new PlayerDataAccessObject();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        data.delete();
+    }
+
+    private String nextPlayer() {
+        next = (next + 7919) % data.getPlayerCount();
+        return BenchmarkData.playerName(next);
+    }
+
+    /** Parsing custom_quizzes.json and quiz_attempts.json and rebuilding the indexes. */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public QuizDataAccessObject quizStoreLoad() {
+        return QuizDataAccessObject.reload();
+    }
+
+    /** Rewriting quiz_attempts.json, as journal compaction does. */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean quizStoreSave() {
+        return quizDao.saveAttemptsToFile();
+    }
+
+    @Benchmark
+    public Player loadPlayer() {
+        return playerDao.loadPlayer(nextPlayer());
+    }
+
+    @Benchmark
+    public List<WrongQuestionRecord> wrongQuestionsForPlayer() {
+        return playerDao.getWrongQuestionsForPlayer(nextPlayer());
+    }
+}
@@ -0,0 +1,112 @@
+package trivia.framework.dao;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.*;
+import trivia.entity.Player;
+import trivia.entity.Question;
+import trivia.entity.Quiz;
+import trivia.entity.QuizAttempt;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading and saving a player file with the old reflective, pretty-printed
+ * Gson binding against the streaming adapters from JsonCodecs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityCodecBenchmark {
+
+    private static final Type PLAYER_LIST = new TypeToken<List<Player>>() {}.getType();
+
+    @Param({"100", "1000"})
+    public int players;
+
+    @Param({"20"})
+    public int attemptsPerPlayer;
+
+    private Path tempDir;
+    private Gson reflective;
+    private Gson codecs;
+    private List<Player> data;
+    private String reflectiveJson;
+    private String codecJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("codec-bench");
+        reflective = new GsonBuilder().setPrettyPrinting().create();
+        codecs = JsonCodecs.create(new QuestionTable(tempDir.resolve("questions.journal").toString()));
+
+        Random random = new Random(42);
+        List<Quiz> quizzes = new ArrayList<>();
+        for (int q = 0; q < 200; q++) {
+            List<Question> questions = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                questions.add(new Question("q" + q + "-" + i, "Question " + q + "." + i + "?",
+                        Arrays.asList("A" + i, "B" + i, "C" + i, "D" + i), "B" + i, "General", "medium"));
+            }
+            quizzes.add(new Quiz("quiz-" + q, "Quiz " + q, "General", "medium", "creator", questions));
+        }
+
+        data = new ArrayList<>();
+        for (int p = 0; p < players; p++) {
+            Player player = new Player("player" + p, "pw" + p);
+            for (int a = 0; a < attemptsPerPlayer; a++) {
+                Quiz quiz = quizzes.get(random.nextInt(quizzes.size()));
+                List<String> answers = new ArrayList<>();
+                for (Question question : quiz.getQuestions()) {
+                    answers.add(question.getOptions().get(random.nextInt(4)));
+                }
+                player.addAttempt(new QuizAttempt("attempt-" + p + "-" + a, quiz, answers.size(),
+                        player.getPlayerName(), "2024-01-01T10:00", answers, random.nextInt(11)));
+            }
+            data.add(player);
+        }
+
+        reflectiveJson = reflective.toJson(data, PLAYER_LIST);
+        codecJson = codecs.toJson(data, PLAYER_LIST);
+        System.out.printf("%nplayer file: reflective %d chars, codecs %d chars%n",
+                reflectiveJson.length(), codecJson.length());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(tempDir.resolve("questions.journal"));
+        Files.deleteIfExists(tempDir);
+    }
+
+    @Benchmark
+    public String saveReflective() {
+        return reflective.toJson(data, PLAYER_LIST);
+    }
+
+    @Benchmark
+    public String saveCodecs() {
+        return codecs.toJson(data, PLAYER_LIST);
+    }
+
+    @Benchmark
+    public List<Player> loadReflective() {
+        return reflective.fromJson(reflectiveJson, PLAYER_LIST);
+    }
+
+    @Benchmark
+    public List<Player> loadCodecs() {
+        return codecs.fromJson(codecJson, PLAYER_LIST);
+    }
+}
@@ -0,0 +1,168 @@
+package trivia.framework.dao;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import trivia.entity.Player;
+import trivia.entity.Question;
+import trivia.entity.Quiz;
+import trivia.entity.QuizAttempt;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Reports how much heap a large loaded history takes with the compact entities,
+ * next to the same history held in the previous layout: a List of options and
+ * separately parsed category/difficulty strings per question, and a List of
+ * answer texts plus a List of Integer indices per attempt.
+ *
+ * Not a JMH benchmark; run it on its own with
+ * {@code mvn -P benchmarks compile exec:exec -Dbench.main=trivia.framework.dao.HeapFootprintReport
+ * -Djmh.args="players attemptsPerPlayer quizzes"}.
+ */
+public class HeapFootprintReport {
+
+    private static final Type PLAYER_LIST = new TypeToken<List<Player>>() {}.getType();
+    private static final String[] CATEGORIES = {"Sports", "History", "Science: Computers", "Geography", "Music"};
+    private static final String[] DIFFICULTIES = {"easy", "medium", "hard"};
+
+    public static void main(String[] args) throws IOException {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int attemptsPerPlayer = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        int quizzes = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+
+        Path tempDir = Files.createTempDirectory("heap-footprint");
+        Path journal = tempDir.resolve("questions.journal");
+        try {
+            String json = syntheticHistory(journal, players, attemptsPerPlayer, quizzes);
+
+            // a fresh table and codec load the file the way PlayerDataAccessObject does
+            long before = usedHeap();
+            QuestionTable table = new QuestionTable(journal.toString());
+            List<Player> loaded = JsonCodecs.create(table).fromJson(json, PLAYER_LIST);
+            long compact = usedHeap() - before;
+
+            // the option and answer arrays the previous layout did not have
+            before = usedHeap();
+            List<Object> arrays = layout(loaded, false);
+            long compactOnly = usedHeap() - before;
+
+            before = usedHeap();
+            List<Object> legacy = layout(loaded, true);
+            long legacyOnly = usedHeap() - before;
+            long previous = compact - compactOnly + legacyOnly;
+
+            long attempts = (long) players * attemptsPerPlayer;
+            System.out.printf("history: %d players, %d attempts, %d quizzes x 10 questions%n",
+                    players, attempts, quizzes);
+            System.out.printf("compact layout:  %,d KB (%d bytes/attempt)%n", compact / 1024, compact / attempts);
+            System.out.printf("previous layout: %,d KB (%d bytes/attempt)%n", previous / 1024, previous / attempts);
+            System.out.printf("saved: %.1f%%%n", 100.0 * (previous - compact) / previous);
+
+            // keep everything alive until after the last measurement
+            if (loaded.size() + arrays.size() + legacy.size() < 0) {
+                System.out.println(table);
+            }
+        } finally {
+            Files.deleteIfExists(journal);
+            Files.deleteIfExists(tempDir);
+        }
+    }
+
+    /**
+     * Rebuilds the per-question and per-attempt parts that differ between the layouts.
+     * Compact: an option array per question and a byte array per attempt. Previous:
+     * an ArrayList of options and separately parsed category and difficulty strings
+     * per question, and an answer text list plus a boxed index list per attempt.
+     */
+    private static List<Object> layout(List<Player> loaded, boolean previous) {
+        List<Object> held = new ArrayList<>();
+        Set<Quiz> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Player player : loaded) {
+            for (QuizAttempt attempt : player.getPastAttempts()) {
+                Quiz quiz = attempt.getQuiz();
+                if (quiz != null && seen.add(quiz)) {
+                    for (Question q : quiz.getQuestions()) {
+                        if (previous) {
+                            held.add(new ArrayList<>(q.getOptions()));
+                            held.add(new String(q.getCategory()));
+                            held.add(new String(q.getDifficulty()));
+                        } else {
+                            held.add(q.getOptions().toArray(new String[0]));
+                        }
+                    }
+                }
+                List<Integer> indices = attempt.getSelectedOptionIndices();
+                if (previous) {
+                    held.add(attempt.getUserAnswers());
+                    held.add(indices);
+                } else {
+                    held.add(new byte[indices.size()]);
+                }
+            }
+        }
+        return held;
+    }
+
+    private static String syntheticHistory(Path journal, int players, int attemptsPerPlayer, int quizzes) {
+        Random random = new Random(42);
+        List<Quiz> quizList = new ArrayList<>();
+        for (int z = 0; z < quizzes; z++) {
+            String category = CATEGORIES[z % CATEGORIES.length];
+            String difficulty = DIFFICULTIES[z % DIFFICULTIES.length];
+            List<Question> questions = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                String stem = z + "." + i;
+                questions.add(new Question("q" + stem, "Question " + stem + "?",
+                        Arrays.asList("A " + stem, "B " + stem, "C " + stem, "D " + stem),
+                        "B " + stem, category, difficulty));
+            }
+            quizList.add(new Quiz("quiz-" + z, "Quiz " + z, category, difficulty, "creator", questions));
+        }
+
+        List<Player> data = new ArrayList<>();
+        for (int p = 0; p < players; p++) {
+            Player player = new Player("player" + p, "pw" + p);
+            for (int a = 0; a < attemptsPerPlayer; a++) {
+                Quiz quiz = quizList.get(random.nextInt(quizList.size()));
+                List<String> answers = new ArrayList<>();
+                List<Integer> indices = new ArrayList<>();
+                for (Question question : quiz.getQuestions()) {
+                    int index = random.nextInt(4);
+                    answers.add(question.getOption(index));
+                    indices.add(index);
+                }
+                QuizAttempt attempt = new QuizAttempt("attempt-" + p + "-" + a, quiz, answers.size(),
+                        player.getPlayerName(), "2024-01-01T10:00", answers, random.nextInt(11));
+                attempt.setSelectedOptionIndices(indices);
+                player.addAttempt(attempt);
+            }
+            data.add(player);
+        }
+
+        Gson writer = JsonCodecs.create(new QuestionTable(journal.toString()));
+        return writer.toJson(data, PLAYER_LIST);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,70 @@
+package trivia.interface_adapter.api;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import trivia.entity.Question;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * One APIManager round trip against a local stub that answers every request with
+ * the same gzipped two-question response, so the figure is the client's own cost:
+ * connection reuse, decompression and decoding. Add -prof gc to jmh.args for the
+ * bytes allocated per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class APIManagerBenchmark {
+
+    private static final String BODY = "{\"response_code\":0,\"results\":["
+            + "{\"type\":\"multiple\",\"difficulty\":\"easy\",\"category\":\"Sports\","
+            + "\"question\":\"Who won &quot;the&quot; cup?\",\"correct_answer\":\"Fish &amp; Co\","
+            + "\"incorrect_answers\":[\"A\",\"B\",\"It&#039;s C\"]},"
+            + "{\"type\":\"multiple\",\"difficulty\":\"easy\",\"category\":\"Sports\","
+            + "\"question\":\"Second?\",\"correct_answer\":\"Yes\",\"incorrect_answers\":[\"No\",\"Maybe\",\"Never\"]}]}";
+
+    private HttpServer server;
+    private APIManager api;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ByteArrayOutputStream zipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(zipped)) {
+            gzip.write(BODY.getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] body = zipped.toByteArray();
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api.php", exchange -> {
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        api = new APIManager("http://127.0.0.1:" + server.getAddress().getPort() + "/api.php", 2000, 2000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public List<Question> fetchQuestions() {
+        return api.fetchQuestions("21", "easy", 2);
+    }
+}
@@ -0,0 +1,44 @@
+package trivia.interface_adapter.api;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-pass trie decoding against the chain of String.replace calls that
+ * APIManager and QuizScreen used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HtmlEntityDecoderBenchmark {
+
+    @Param({
+            "In the TV series &quot;Friends&quot;, what&#039;s the name of Ross&#039;s monkey?",
+            "Which of these is NOT a member of the band Queen?",
+            "&quot;Pok&eacute;mon&quot; &amp; &lt;Digimon&gt; &ndash; 90&deg; &mdash; &rsquo;"
+    })
+    public String text;
+
+    @Benchmark
+    public String trie() {
+        return HtmlEntityDecoder.decode(text);
+    }
+
+    /** QuizScreen.decodeHtmlEntities as it was. */
+    @Benchmark
+    public String replaceChain() {
+        return text.replace("&quot;", "\"")
+                .replace("&#039;", "'")
+                .replace("&apos;", "'")
+                .replace("&amp;", "&")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&deg;", "°")
+                .replace("&ndash;", "–")
+                .replace("&mdash;", "—");
+    }
+}
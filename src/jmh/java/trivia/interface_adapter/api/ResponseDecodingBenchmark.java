@@ -0,0 +1,66 @@
+package trivia.interface_adapter.api;
+
+import org.openjdk.jmh.annotations.*;
+import trivia.entity.Question;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding an API response body into questions, entity decoding included, for as
+ * many questions as a history of 1k, 100k or 1M attempts was built from (one
+ * fresh question per attempt). The body is split into 50-question responses, as
+ * the API sends them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ResponseDecodingBenchmark {
+
+    private static final String[] TEXTS = {
+            "In the TV series &quot;Friends&quot;, what&#039;s the name of Ross&#039;s monkey?",
+            "Which of these is NOT a member of the band Queen?",
+            "&quot;Pok&eacute;mon&quot; &amp; &lt;Digimon&gt; &ndash; 90&deg; &mdash; &rsquo;"
+    };
+
+    @Param({"1000", "100000", "1000000"})
+    public int attempts;
+
+    private String[] bodies;
+    private final APIManager decoder = new APIManager("http://127.0.0.1:1/api.php", 1000, 1000);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bodies = new String[(attempts + RequestScheduler.MAX_BATCH - 1) / RequestScheduler.MAX_BATCH];
+        for (int b = 0; b < bodies.length; b++) {
+            StringBuilder body = new StringBuilder("{\"response_code\":0,\"results\":[");
+            for (int i = 0; i < RequestScheduler.MAX_BATCH; i++) {
+                int n = b * RequestScheduler.MAX_BATCH + i;
+                if (i > 0) {
+                    body.append(',');
+                }
+                body.append("{\"type\":\"multiple\",\"difficulty\":\"easy\",\"category\":\"Entertainment: Television\",")
+                        .append("\"question\":\"").append(TEXTS[n % TEXTS.length].replace("\"", "\\\"")).append(' ').append(n)
+                        .append("\",\"correct_answer\":\"Marcel &amp; ").append(n)
+                        .append("\",\"incorrect_answers\":[\"Jo&euml;y\",\"Chandler&#039;s\",\"Gunther ").append(n)
+                        .append("\"]}");
+            }
+            bodies[b] = body.append("]}").toString();
+        }
+    }
+
+    @Benchmark
+    public int decodeResponses() throws IOException {
+        int decoded = 0;
+        for (String body : bodies) {
+            List<Question> questions = decoder.readResponse(new StringReader(body));
+            decoded += questions.size();
+        }
+        return decoded;
+    }
+}
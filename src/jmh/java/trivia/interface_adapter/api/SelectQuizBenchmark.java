@@ -0,0 +1,67 @@
+package trivia.interface_adapter.api;
+
+import org.openjdk.jmh.annotations.*;
+import trivia.use_case.select_quiz.SelectQuizInputData;
+import trivia.use_case.select_quiz.SelectQuizInteractor;
+import trivia.use_case.select_quiz.SelectQuizOutputBoundary;
+import trivia.use_case.select_quiz.SelectQuizOutputData;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Select Quiz throughput and latency percentiles against the local OpenTDB stand-in,
+ * so results do not depend on the network or on OpenTDB's rate limit.
+ *
+ * Runs the interactor straight on APIManager (no pool, no scheduler) to measure the
+ * request path itself. SampleTime mode reports p50/p90/p99/p99.9.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Threads(4)
+@Fork(1)
+public class SelectQuizBenchmark {
+
+    /** Injected server latency in milliseconds; 0 measures client and server overhead only. */
+    @Param({"0", "20"})
+    public long latencyMs;
+
+    private OpenTdbStandInServer server;
+    private SelectQuizInteractor interactor;
+    private final AtomicLong served = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path corpus = Files.createTempDirectory("stand-in-corpus");
+        server = new OpenTdbStandInServer(corpus, 42).setLatency(latencyMs, latencyMs / 4).start(0);
+        APIManager api = new APIManager(server.getBaseUrl(), 2000, 5000);
+        interactor = new SelectQuizInteractor(api, new SelectQuizOutputBoundary() {
+            @Override
+            public void presentSuccess(SelectQuizOutputData outputData) {
+                served.addAndGet(outputData.getQuestions().size());
+            }
+
+            @Override
+            public void presentFailure(String errorMessage) {
+                throw new IllegalStateException(errorMessage);
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    public long selectQuiz() {
+        interactor.execute(new SelectQuizInputData("9", "easy", 5));
+        return served.get();
+    }
+}
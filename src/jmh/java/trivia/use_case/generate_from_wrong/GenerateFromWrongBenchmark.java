@@ -0,0 +1,71 @@
+package trivia.use_case.generate_from_wrong;
+
+import org.openjdk.jmh.annotations.*;
+import trivia.framework.dao.BenchmarkData;
+import trivia.framework.dao.PlayerDataAccessObject;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generating a practice quiz from a player's wrong questions, which de-duplicates
+ * every wrong question the player has, over histories of 1k, 100k and 1M attempts.
+ * The new quiz is not stored, so only the lookup and de-duplication are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class GenerateFromWrongBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int attempts;
+
+    private BenchmarkData data;
+    private GenerateFromWrongQuizInteractor interactor;
+    private Object presented;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        data = BenchmarkData.install(attempts);
+        PlayerDataAccessObject players = new PlayerDataAccessObject();
+        GenerateFromWrongDataAccessInterface dataAccess = new GenerateFromWrongDataAccessInterface() {
+            @Override
+            public List<WrongQuestionRecord> getWrongQuestionsForPlayer(String playerName) {
+                return players.getWrongQuestionsForPlayer(playerName);
+            }
+
+            @Override
+            public String createQuizFromWrongQuestions(String playerName, List<WrongQuestionRecord> questions) {
+                return "practice-" + playerName;
+            }
+        };
+        interactor = new GenerateFromWrongQuizInteractor(dataAccess, new GenerateFromWrongOutputBoundary() {
+            @Override
+            public void prepareSuccessView(GenerateFromWrongOutputData response) {
+                presented = response;
+            }
+
+            @Override
+            public void prepareFailView(String errorMessage) {
+                presented = errorMessage;
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        data.delete();
+    }
+
+    @Benchmark
+    public Object generateFromWrong() {
+        next = (next + 7919) % data.getPlayerCount();
+        interactor.execute(new GenerateFromWrongInputData(BenchmarkData.playerName(next), 10));
+        return presented;
+    }
+}
@@ -0,0 +1,76 @@
+package trivia.use_case.review_quiz;
+
+import org.openjdk.jmh.annotations.*;
+import trivia.framework.dao.BenchmarkData;
+import trivia.framework.dao.PlayerDataAccessObject;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listing a player's past quizzes, wired as in AppFactory, over histories of
+ * 1k, 100k and 1M attempts: the whole list, and the first page as PastQuizScreen
+ * asks for it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ReviewQuizBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int attempts;
+
+    private BenchmarkData data;
+    private ReviewQuizInteractor interactor;
+    private ReviewQuizResponseModel presented;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        data = BenchmarkData.install(attempts);
+        PlayerDataAccessObject players = new PlayerDataAccessObject();
+        interactor = new ReviewQuizInteractor(players, players, new ReviewQuizOutputBoundary() {
+            @Override
+            public void presentPastQuizList(ReviewQuizResponseModel responseModel) {
+                presented = responseModel;
+            }
+
+            @Override
+            public void presentQuizAttempt(ReviewQuizResponseModel responseModel) {
+                presented = responseModel;
+            }
+
+            @Override
+            public void presentSaveResult(ReviewQuizResponseModel responseModel) {
+                presented = responseModel;
+            }
+
+            @Override
+            public void presentRedoQuiz(ReviewQuizResponseModel responseModel) {
+                presented = responseModel;
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        data.delete();
+    }
+
+    @Benchmark
+    public ReviewQuizResponseModel viewPastQuizzes() {
+        next = (next + 7919) % data.getPlayerCount();
+        interactor.viewPastQuizzes(BenchmarkData.playerName(next));
+        return presented;
+    }
+
+    @Benchmark
+    public ReviewQuizResponseModel viewFirstPageOfPastQuizzes() {
+        next = (next + 7919) % data.getPlayerCount();
+        interactor.viewPastQuizzes(BenchmarkData.playerName(next), null, 50);
+        return presented;
+    }
+}
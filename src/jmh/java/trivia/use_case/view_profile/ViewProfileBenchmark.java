@@ -0,0 +1,47 @@
+package trivia.use_case.view_profile;
+
+import org.openjdk.jmh.annotations.*;
+import trivia.framework.dao.BenchmarkData;
+import trivia.framework.dao.PlayerDataAccessObject;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Viewing a profile, including the player's rank, against the real player store
+ * holding 1k, 100k and 1M attempts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ViewProfileBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int attempts;
+
+    private BenchmarkData data;
+    private ViewProfileInteractor interactor;
+    private ViewProfileOutputData presented;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        data = BenchmarkData.install(attempts);
+        interactor = new ViewProfileInteractor(new PlayerDataAccessObject(), output -> presented = output);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        data.delete();
+    }
+
+    @Benchmark
+    public ViewProfileOutputData viewProfile() {
+        next = (next + 7919) % data.getPlayerCount();
+        interactor.execute(new ViewProfileInputData(BenchmarkData.playerName(next)));
+        return presented;
+    }
+}
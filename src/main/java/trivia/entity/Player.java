@@ -8,6 +8,9 @@ public class Player {
     private String password; // added for login authentication
     private int score;
     private List<QuizAttempt> pastAttempts = new ArrayList<>();
+    // bumped by the player store on every change other than a finished quiz, so
+    // processes sharing the data directory can tell whose copy is newer
+    private int version;
 
     // Constructor for registration (new player)
     public Player(String playerName, String password) {
@@ -29,6 +32,9 @@ public class Player {
     public int getScore() { return score; }
     public void setScore(int score) { this.score = score; }
 
+    public int getVersion() { return version; }
+    public void setVersion(int version) { this.version = version; }
+
     public List<QuizAttempt> getPastAttempts() { return pastAttempts; }
     public void addAttempt(QuizAttempt attempt) { pastAttempts.add(attempt); }
 
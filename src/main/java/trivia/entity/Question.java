@@ -1,20 +1,29 @@
 package trivia.entity;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * An immutable trivia question entity.
+ *
+ * Options are kept in a plain array with the correct index worked out once, and
+ * category and difficulty are interned, since a large history repeats the same
+ * handful of values ("easy", "Sports", ...) in every question.
  */
 public class Question {
 
     private final String id;             // unique identifier for the question
 
     private final String questionText;
-    private final List<String> options;
+    private final String[] options;
     private final String correctAnswer;
     private final String category;
     private final String difficulty;
 
+    // derived from options and correctAnswer, so not part of the stored form
+    private final transient int correctIndex;
+
     public Question(String id,
                     String questionText,
                     List<String> options,
@@ -24,17 +33,25 @@ public class Question {
 
         this.id = id;
         this.questionText = questionText;
-        this.options = options;
+        this.options = options == null ? null : options.toArray(new String[0]);
         this.correctAnswer = correctAnswer;
-        this.category = category;
-        this.difficulty = difficulty;
+        this.category = category == null ? null : category.intern();
+        this.difficulty = difficulty == null ? null : difficulty.intern();
+        this.correctIndex = indexOf(this.options, correctAnswer);
     }
 
     public String getId() { return id; }
 
     public String getQuestionText() { return questionText; }
 
-    public List<String> getOptions() { return options; }
+    /** Read-only view of the options; null if the question has none. */
+    public List<String> getOptions() {
+        return options == null ? null : Collections.unmodifiableList(Arrays.asList(options));
+    }
+
+    public int getOptionCount() { return options == null ? 0 : options.length; }
+
+    public String getOption(int index) { return options[index]; }
 
     public String getCorrectAnswer() { return correctAnswer; }
 
@@ -47,9 +64,13 @@ public class Question {
      * Returns -1 if the correct answer is not found in the options.
      */
     public int getCorrectOptionIndex() {
+        return correctIndex;
+    }
+
+    private static int indexOf(String[] options, String correctAnswer) {
         if (options == null || correctAnswer == null) return -1;
-        for (int i = 0; i < options.size(); i++) {
-            if (options.get(i).equals(correctAnswer)) return i;
+        for (int i = 0; i < options.length; i++) {
+            if (correctAnswer.equals(options[i])) return i;
         }
         return -1;
     }
@@ -1,15 +1,22 @@
 package trivia.entity;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * One completed (or in-progress) run through a quiz.
+ *
+ * The selected option per question is kept as a byte each. Answer texts are only
+ * held separately when they cannot be read off the quiz's options, see
+ * {@link #compactAnswers()}.
+ */
 public class QuizAttempt {
     private String attemptId;
     private Quiz quiz;
+    private String quizId;
     private int score;
     private int totalQuestions;
-    private List<String> userAnswers;
-    private List<Integer> selectedOptionIndices;
+    private List<String> userAnswers;        // null when derived from the quiz and selectedOptions
+    private byte[] selectedOptions;          // -1 where nothing valid was selected; null if not recorded
     private String completedAt;
     private boolean editable;
     private String userName;
@@ -19,6 +26,7 @@ public class QuizAttempt {
 
         this.attemptId = attemptId;
         this.quiz = quiz;
+        this.quizId = quiz != null ? quiz.getId() : null;
         this.totalQuestions = totalQuestions;
         this.userName = userName;
         this.completedAt = completedAt;
@@ -48,7 +56,7 @@ public class QuizAttempt {
     }
 
     public String getQuizId() {
-        return quiz != null ? quiz.getId() : null;
+        return quiz != null ? quiz.getId() : quizId;
     }
 
     public int getScore() {
@@ -59,10 +67,19 @@ public class QuizAttempt {
         return totalQuestions;
     }
 
-    public List<String> getUserAnswers() { return new ArrayList<>(userAnswers); }
+    public List<String> getUserAnswers() {
+        return userAnswers != null ? new ArrayList<>(userAnswers) : deriveAnswers(quiz);
+    }
 
     public List<Integer> getSelectedOptionIndices() {
-        return selectedOptionIndices;
+        if (selectedOptions == null) {
+            return null;
+        }
+        List<Integer> indices = new ArrayList<>(selectedOptions.length);
+        for (byte index : selectedOptions) {
+            indices.add((int) index);
+        }
+        return indices;
     }
 
     public String getCompletedAt() {
@@ -76,6 +93,21 @@ public class QuizAttempt {
     public String getUserName() { return userName; }
 
     // Setters
+    public void setQuiz(Quiz quiz) {
+        if (userAnswers == null) {
+            userAnswers = deriveAnswers(this.quiz);  // they were read off the old quiz
+        }
+        this.quiz = quiz;
+        if (quiz != null) {
+            this.quizId = quiz.getId();
+        }
+    }
+
+    // keeps the reference when the quiz itself could not be loaded
+    public void setQuizId(String quizId) {
+        this.quizId = quizId;
+    }
+
     public void setScore(int score) {
         this.score = score;
     }
@@ -85,7 +117,30 @@ public class QuizAttempt {
     }
 
     public void setSelectedOptionIndices(List<Integer> selectedOptionIndices) {
-        this.selectedOptionIndices = selectedOptionIndices;
+        if (selectedOptionIndices == null) {
+            if (userAnswers == null) {
+                userAnswers = deriveAnswers(quiz);
+            }
+            this.selectedOptions = null;
+            return;
+        }
+        byte[] packed = new byte[selectedOptionIndices.size()];
+        for (int i = 0; i < packed.length; i++) {
+            Integer index = selectedOptionIndices.get(i);
+            packed[i] = index == null || index < 0 || index > Byte.MAX_VALUE ? -1 : index.byteValue();
+        }
+        this.selectedOptions = packed;
+    }
+
+    /**
+     * Drops the stored answer texts when they are exactly the options picked by the
+     * selected indices, so that {@link #getUserAnswers()} reads them off the quiz instead.
+     */
+    public void compactAnswers() {
+        if (userAnswers != null && quiz != null && selectedOptions != null
+                && userAnswers.equals(deriveAnswers(quiz))) {
+            userAnswers = null;
+        }
     }
 
     public void setEditable(boolean editable) {
@@ -100,6 +155,21 @@ public class QuizAttempt {
         this.userName = userName;
     }
 
+    /** Answer texts picked by the selected indices, "" where nothing valid was selected. */
+    private List<String> deriveAnswers(Quiz source) {
+        if (selectedOptions == null) {
+            return new ArrayList<>();
+        }
+        List<Question> questions = source != null ? source.getQuestions() : null;
+        List<String> answers = new ArrayList<>(selectedOptions.length);
+        for (int i = 0; i < selectedOptions.length; i++) {
+            int index = selectedOptions[i];
+            Question q = questions != null && i < questions.size() ? questions.get(i) : null;
+            answers.add(q != null && index >= 0 && index < q.getOptionCount() ? q.getOption(index) : "");
+        }
+        return answers;
+    }
+
     // Calculate accuracy percentage
     public double getAccuracy() {
         if (totalQuestions == 0) return 0.0;
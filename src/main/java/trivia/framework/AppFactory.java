@@ -3,19 +3,45 @@ package trivia.framework;
 import trivia.interface_adapter.controller.*;
 import trivia.framework.dao.PlayerDataAccessObject;   // ✅ UPDATED
 import trivia.framework.dao.QuizDataAccessObject;    // ✅ UPDATED
+import trivia.framework.dao.DataDirectory;
+import trivia.framework.dao.LocalQuestionSource;
+import trivia.framework.dao.QuestionTable;
+import trivia.framework.metrics.MetricsRegistry;
 import trivia.interface_adapter.presenter.*;
+import trivia.use_case.complete_quiz.CompleteQuizInputBoundary;
 import trivia.use_case.complete_quiz.CompleteQuizInteractor;
 import trivia.use_case.complete_quiz.CompleteQuizOutputBoundary;
+import trivia.use_case.complete_quiz.PlayerProgressDataAccessInterface;
+import trivia.use_case.complete_quiz.QuizAttemptDataAccessInterface;
+import trivia.use_case.create_quiz.CreateQuizDataAccessInterface;
+import trivia.use_case.create_quiz.CreateQuizInputBoundary;
 import trivia.use_case.create_quiz.CreateQuizInteractor;
 import trivia.use_case.generate_from_wrong.GenerateFromWrongDataAccessInterface;
+import trivia.use_case.generate_from_wrong.GenerateFromWrongInputBoundary;
 import trivia.use_case.generate_from_wrong.GenerateFromWrongQuizInteractor;
+import trivia.use_case.load_quiz.LoadQuizInputBoundary;
 import trivia.use_case.load_quiz.LoadQuizInteractor;
 import trivia.use_case.load_quiz.LoadQuizDataAccessInterface;
+import trivia.use_case.review_quiz.ReviewQuizAttemptDataAccessInterface;
+import trivia.use_case.review_quiz.ReviewQuizInputBoundary;
 import trivia.use_case.review_quiz.ReviewQuizInteractor;
+import trivia.use_case.review_quiz.ReviewQuizQuizDataAccessInterface;
+import trivia.use_case.register_player.RegisterPlayerDataAccessInterface;
 import trivia.use_case.register_player.RegisterPlayerInteractor;
+import trivia.use_case.review_summary.ReviewSummaryInputBoundary;
 import trivia.use_case.review_summary.ReviewSummaryInteractor;
+import trivia.use_case.select_quiz.SelectQuizAPIDataAccessInterface;
+import trivia.use_case.select_quiz.SelectQuizInputBoundary;
 import trivia.use_case.select_quiz.SelectQuizInteractor;
+import trivia.use_case.view_profile.ViewProfileDataAccessInterface;
+import trivia.use_case.view_profile.ViewProfileInputBoundary;
+import trivia.use_case.view_profile.ViewProfileInteractor;
 import trivia.interface_adapter.api.APIManager;
+import trivia.interface_adapter.api.QuestionPool;
+import trivia.interface_adapter.api.RequestScheduler;
+
+import javax.swing.SwingUtilities;
+import java.nio.file.Paths;
 
 /**
  * AppFactory — centralized dependency injection container.
@@ -27,6 +53,10 @@ import trivia.interface_adapter.api.APIManager;
  * FIXED: SelectQuizController now properly includes presenter and viewmodel
  * 
  * This ensures clean architecture by keeping all dependencies in one place.
+ *
+ * Every interactor and every DAO handed to an interactor is wrapped by
+ * MetricsRegistry, so each call is counted and timed (see jconsole under
+ * "trivia", or data/metrics.txt, rewritten every -Dtrivia.metrics.dumpSeconds).
  */
 public class AppFactory {
     
@@ -34,6 +64,11 @@ public class AppFactory {
     private static final QuizDataAccessObject quizDAO = new QuizDataAccessObject();
     private static final PlayerDataAccessObject playerDAO = new PlayerDataAccessObject();
     private static final APIManager apiManager = new APIManager();
+    // Select Quiz reads from the pool; refills go through the scheduler, which paces API calls
+    // and falls back to questions stored locally when the API is unavailable
+    private static final QuestionPool questionPool = new QuestionPool(
+            new RequestScheduler(apiManager, new LocalQuestionSource(QuestionTable.getInstance())),
+            DataDirectory.resolve("question_pool.json"));
     
     // Singleton ViewModels to maintain state across screens
     private static final CreateQuizViewModel createQuizViewModel = new CreateQuizViewModel();
@@ -42,14 +77,20 @@ public class AppFactory {
     private static final GenerateFromWrongViewModel generateFromWrongViewModel = new GenerateFromWrongViewModel();
     private static final ReviewSummaryViewModel reviewSummaryViewModel = new ReviewSummaryViewModel();
     private static final SelectQuizViewModel selectQuizViewModel = new SelectQuizViewModel();  // ✅ NEW
-    
-    // --- DAO Access ---
-    public static QuizDataAccessObject getQuizDAO() {
-        return quizDAO;
+
+    private static final MetricsRegistry metrics = MetricsRegistry.global();
+    // the screens' own player lookups are measured like the use cases'
+    private static final RegisterPlayerDataAccessInterface playerData =
+            metrics.instrument(playerDAO, RegisterPlayerDataAccessInterface.class);
+
+    static {
+        metrics.startDumping(Paths.get(DataDirectory.resolve("metrics.txt")),
+                Long.getLong("trivia.metrics.dumpSeconds", 60));
     }
     
-    public static PlayerDataAccessObject getPlayerDAO() {
-        return playerDAO;
+    // --- Player DAO (login, sign-up and profile reloads from the screens) ---
+    public static RegisterPlayerDataAccessInterface getPlayerData() {
+        return playerData;
     }
     
     // --- Select Quiz (Use Case: Select API Quiz) ---
@@ -61,8 +102,13 @@ public class AppFactory {
      */
     public static SelectQuizController createSelectQuizController() {
         SelectQuizPresenter presenter = new SelectQuizPresenter(selectQuizViewModel);
-        SelectQuizInteractor interactor = new SelectQuizInteractor(apiManager, presenter);
-        return new SelectQuizController(interactor, presenter, selectQuizViewModel);
+        // results come back on a worker thread; the screen must only be touched on the EDT,
+        // where a cancel from the screen is also seen before a stale result is presented
+        SelectQuizInteractor interactor = new SelectQuizInteractor(
+                metrics.instrument(questionPool, SelectQuizAPIDataAccessInterface.class),
+                presenter, SelectQuizInteractor.sharedExecutor(), SwingUtilities::invokeLater);
+        return new SelectQuizController(metrics.instrument(interactor, SelectQuizInputBoundary.class),
+                presenter, selectQuizViewModel);
     }
     
     public static SelectQuizViewModel createSelectQuizViewModel() {
@@ -72,8 +118,9 @@ public class AppFactory {
     // --- Create Quiz (Use Case: Create Custom Quiz) ---
     public static CreateQuizController createCreateQuizController() {
         CreateQuizPresenter presenter = new CreateQuizPresenter(createQuizViewModel);
-        CreateQuizInteractor interactor = new CreateQuizInteractor(quizDAO, presenter);
-        return new CreateQuizController(interactor);
+        CreateQuizInteractor interactor = new CreateQuizInteractor(
+                metrics.instrument(quizDAO, CreateQuizDataAccessInterface.class), presenter);
+        return new CreateQuizController(metrics.instrument(interactor, CreateQuizInputBoundary.class));
     }
     
     public static CreateQuizViewModel createCreateQuizViewModel() {
@@ -83,9 +130,9 @@ public class AppFactory {
     // --- Load Quiz (Use Case: Load Custom Quiz) ---
     public static LoadQuizController createLoadQuizController() {
         LoadQuizPresenter presenter = new LoadQuizPresenter();
-        LoadQuizDataAccessInterface dataAccess = quizDAO;
+        LoadQuizDataAccessInterface dataAccess = metrics.instrument(quizDAO, LoadQuizDataAccessInterface.class);
         LoadQuizInteractor interactor = new LoadQuizInteractor(dataAccess, presenter);
-        return new LoadQuizController(interactor, presenter);
+        return new LoadQuizController(metrics.instrument(interactor, LoadQuizInputBoundary.class), presenter);
     }
     
     public static LoadQuizViewModel createLoadQuizViewModel() {
@@ -97,18 +144,23 @@ public class AppFactory {
         CompleteQuizOutputBoundary presenter = new CompleteQuizOutputBoundary() {
             @Override
             public void present(trivia.use_case.complete_quiz.CompleteQuizOutputData data) {
-                // Silent presenter - just records the data
+                // only reached once the completion is committed; the screen shows its own summary
+                System.out.println("✓ Quiz attempt saved: " + data.getScore() + "/" + data.getTotal());
             }
         };
-        CompleteQuizInteractor interactor = new CompleteQuizInteractor(quizDAO, presenter);
-        return new CompleteQuizController(interactor);
+        CompleteQuizInteractor interactor = new CompleteQuizInteractor(
+                metrics.instrument(quizDAO, QuizAttemptDataAccessInterface.class),
+                metrics.instrument(playerDAO, PlayerProgressDataAccessInterface.class), presenter);
+        return new CompleteQuizController(metrics.instrument(interactor, CompleteQuizInputBoundary.class));
     }
     
     // --- Review Quiz (Use Case: Review Past Quizzes) ---
     public static ReviewController createReviewController() {
         PastQuizPresenter presenter = new PastQuizPresenter(pastQuizViewModel);
-        ReviewQuizInteractor interactor = new ReviewQuizInteractor(playerDAO, playerDAO, presenter);
-        return new ReviewController(interactor);
+        ReviewQuizInteractor interactor = new ReviewQuizInteractor(
+                metrics.instrument(playerDAO, ReviewQuizAttemptDataAccessInterface.class),
+                metrics.instrument(playerDAO, ReviewQuizQuizDataAccessInterface.class), presenter);
+        return new ReviewController(metrics.instrument(interactor, ReviewQuizInputBoundary.class));
     }
     
     public static PastQuizViewModel createPastQuizViewModel() {
@@ -122,10 +174,12 @@ public class AppFactory {
     // --- Generate From Wrong (Use Case: Practice Wrong Questions) ---
     public static GenerateFromWrongController createGenerateFromWrongController() {
         GenerateFromWrongPresenter presenter = new GenerateFromWrongPresenter(generateFromWrongViewModel);
-        GenerateFromWrongDataAccessInterface dataAccess = quizDAO;
+        GenerateFromWrongDataAccessInterface dataAccess =
+                metrics.instrument(quizDAO, GenerateFromWrongDataAccessInterface.class);
         GenerateFromWrongQuizInteractor interactor = 
                 new GenerateFromWrongQuizInteractor(dataAccess, presenter);
-        return new GenerateFromWrongController(interactor);
+        return new GenerateFromWrongController(
+                metrics.instrument(interactor, GenerateFromWrongInputBoundary.class));
     }
     
     public static GenerateFromWrongViewModel createGenerateFromWrongViewModel() {
@@ -144,12 +198,22 @@ public class AppFactory {
     public static ReviewSummaryController createReviewSummaryController() {
         ReviewSummaryPresenter presenter = new ReviewSummaryPresenter(reviewSummaryViewModel);
         ReviewSummaryInteractor interactor = new ReviewSummaryInteractor(presenter);
-        return new ReviewSummaryController(interactor);
+        return new ReviewSummaryController(metrics.instrument(interactor, ReviewSummaryInputBoundary.class));
     }
     
+    // --- View Profile (Use Case: View Profile / Statistics) ---
+    public static ViewProfileController createViewProfileController(ViewProfileViewModel viewModel) {
+        ViewProfilePresenter presenter = new ViewProfilePresenter(viewModel);
+        ViewProfileInteractor interactor = new ViewProfileInteractor(
+                metrics.instrument(playerDAO, ViewProfileDataAccessInterface.class), presenter);
+        return new ViewProfileController(metrics.instrument(interactor, ViewProfileInputBoundary.class));
+    }
+
     // --- Register Player (Use Case: Login/Register) ---
     public static PlayerController createPlayerController() {
-        RegisterPlayerInteractor interactor = new RegisterPlayerInteractor(playerDAO);
+        // PlayerController takes the concrete interactor, so only its DAO is instrumented
+        RegisterPlayerInteractor interactor = new RegisterPlayerInteractor(
+                metrics.instrument(playerDAO, RegisterPlayerDataAccessInterface.class));
         return new PlayerController(interactor);
     }
 }
\ No newline at end of file
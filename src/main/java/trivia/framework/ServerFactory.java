@@ -0,0 +1,114 @@
+package trivia.framework;
+
+import trivia.framework.dao.DataDirectory;
+import trivia.framework.dao.LocalQuestionSource;
+import trivia.framework.dao.PlayerDataAccessObject;
+import trivia.framework.dao.QuestionTable;
+import trivia.framework.dao.QuizDataAccessObject;
+import trivia.framework.metrics.MetricsRegistry;
+import trivia.interface_adapter.api.APIManager;
+import trivia.interface_adapter.api.QuestionPool;
+import trivia.interface_adapter.api.RequestScheduler;
+import trivia.interface_adapter.presenter.JsonPresenter;
+import trivia.use_case.complete_quiz.CompleteQuizInputBoundary;
+import trivia.use_case.complete_quiz.CompleteQuizInteractor;
+import trivia.use_case.complete_quiz.PlayerProgressDataAccessInterface;
+import trivia.use_case.complete_quiz.QuizAttemptDataAccessInterface;
+import trivia.use_case.create_quiz.CreateQuizDataAccessInterface;
+import trivia.use_case.create_quiz.CreateQuizInputBoundary;
+import trivia.use_case.create_quiz.CreateQuizInteractor;
+import trivia.use_case.generate_from_wrong.GenerateFromWrongDataAccessInterface;
+import trivia.use_case.generate_from_wrong.GenerateFromWrongInputBoundary;
+import trivia.use_case.generate_from_wrong.GenerateFromWrongQuizInteractor;
+import trivia.use_case.load_quiz.LoadQuizDataAccessInterface;
+import trivia.use_case.load_quiz.LoadQuizInputBoundary;
+import trivia.use_case.load_quiz.LoadQuizInteractor;
+import trivia.use_case.review_quiz.ReviewQuizAttemptDataAccessInterface;
+import trivia.use_case.review_quiz.ReviewQuizInputBoundary;
+import trivia.use_case.review_quiz.ReviewQuizInteractor;
+import trivia.use_case.review_quiz.ReviewQuizQuizDataAccessInterface;
+import trivia.use_case.register_player.RegisterPlayerDataAccessInterface;
+import trivia.use_case.select_quiz.SelectQuizAPIDataAccessInterface;
+import trivia.use_case.select_quiz.SelectQuizInputBoundary;
+import trivia.use_case.select_quiz.SelectQuizInteractor;
+import trivia.use_case.view_profile.ViewProfileDataAccessInterface;
+import trivia.use_case.view_profile.ViewProfileInputBoundary;
+import trivia.use_case.view_profile.ViewProfileInteractor;
+
+/**
+ * ServerFactory — the AppFactory of the headless HTTP server.
+ *
+ * The DAOs and the question pool are created once and shared by every request,
+ * as in the Swing app. Interactors are cheap and hold their presenter, so a new
+ * one is built for every request around that request's {@link JsonPresenter};
+ * there are no ViewModels.
+ *
+ * The shared DAOs go through MetricsRegistry like AppFactory's do. The
+ * interactors are not wrapped one by one; the server times each endpoint instead.
+ */
+public class ServerFactory {
+
+    private final SelectQuizAPIDataAccessInterface questionSource;
+    private final CreateQuizDataAccessInterface createQuizData;
+    private final LoadQuizDataAccessInterface loadQuizData;
+    private final QuizAttemptDataAccessInterface attemptData;
+    private final PlayerProgressDataAccessInterface progressData;
+    private final GenerateFromWrongDataAccessInterface wrongQuestionData;
+    private final ReviewQuizAttemptDataAccessInterface reviewAttemptData;
+    private final ReviewQuizQuizDataAccessInterface reviewQuizData;
+    private final ViewProfileDataAccessInterface profileData;
+    private final RegisterPlayerDataAccessInterface playerData;
+
+    public ServerFactory() {
+        MetricsRegistry metrics = MetricsRegistry.global();
+        QuizDataAccessObject quizDAO = new QuizDataAccessObject();
+        PlayerDataAccessObject playerDAO = new PlayerDataAccessObject();
+        QuestionPool questionPool = new QuestionPool(
+                new RequestScheduler(new APIManager(), new LocalQuestionSource(QuestionTable.getInstance())),
+                DataDirectory.resolve("question_pool.json"));
+
+        this.questionSource = metrics.instrument(questionPool, SelectQuizAPIDataAccessInterface.class);
+        this.createQuizData = metrics.instrument(quizDAO, CreateQuizDataAccessInterface.class);
+        this.loadQuizData = metrics.instrument(quizDAO, LoadQuizDataAccessInterface.class);
+        this.attemptData = metrics.instrument(quizDAO, QuizAttemptDataAccessInterface.class);
+        this.progressData = metrics.instrument(playerDAO, PlayerProgressDataAccessInterface.class);
+        this.wrongQuestionData = metrics.instrument(quizDAO, GenerateFromWrongDataAccessInterface.class);
+        this.reviewAttemptData = metrics.instrument(playerDAO, ReviewQuizAttemptDataAccessInterface.class);
+        this.reviewQuizData = metrics.instrument(playerDAO, ReviewQuizQuizDataAccessInterface.class);
+        this.profileData = metrics.instrument(playerDAO, ViewProfileDataAccessInterface.class);
+        this.playerData = metrics.instrument(playerDAO, RegisterPlayerDataAccessInterface.class);
+    }
+
+    // --- Player DAO (sign-up, as StartScreen uses AppFactory.getPlayerData()) ---
+    public RegisterPlayerDataAccessInterface getPlayerData() {
+        return playerData;
+    }
+
+    public SelectQuizInputBoundary createSelectQuizInteractor(JsonPresenter presenter) {
+        return new SelectQuizInteractor(questionSource, presenter);
+    }
+
+    public CreateQuizInputBoundary createCreateQuizInteractor(JsonPresenter presenter) {
+        return new CreateQuizInteractor(createQuizData, presenter);
+    }
+
+    public LoadQuizInputBoundary createLoadQuizInteractor(JsonPresenter presenter) {
+        return new LoadQuizInteractor(loadQuizData, presenter);
+    }
+
+    public CompleteQuizInputBoundary createCompleteQuizInteractor(JsonPresenter presenter) {
+        return new CompleteQuizInteractor(attemptData, progressData, presenter);
+    }
+
+    public ReviewQuizInputBoundary createReviewQuizInteractor(JsonPresenter presenter) {
+        return new ReviewQuizInteractor(reviewAttemptData, reviewQuizData, presenter);
+    }
+
+    public GenerateFromWrongInputBoundary createGenerateFromWrongInteractor(JsonPresenter presenter) {
+        return new GenerateFromWrongQuizInteractor(wrongQuestionData, presenter);
+    }
+
+    public ViewProfileInputBoundary createViewProfileInteractor(JsonPresenter presenter) {
+        return new ViewProfileInteractor(profileData, presenter);
+    }
+}
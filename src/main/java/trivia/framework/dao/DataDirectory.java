@@ -0,0 +1,21 @@
+package trivia.framework.dao;
+
+import java.nio.file.Paths;
+
+/**
+ * Where the DAOs keep their files: data/ under the working directory, or the
+ * directory given with -Dtrivia.data.dir (used by benchmarks and load tests so
+ * they never touch the real data).
+ */
+public final class DataDirectory {
+
+    public static final String PROPERTY = "trivia.data.dir";
+
+    private DataDirectory() {
+    }
+
+    /** Path of a data file, read when the DAO classes are first loaded. */
+    public static String resolve(String fileName) {
+        return Paths.get(System.getProperty(PROPERTY, "data"), fileName).toString();
+    }
+}
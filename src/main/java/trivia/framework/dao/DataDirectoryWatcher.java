@@ -0,0 +1,122 @@
+package trivia.framework.dao;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tells the DAOs when a file in the data directory changes, so that what another
+ * process sharing the directory committed is picked up as it happens instead of
+ * on the next restart.
+ *
+ * Listeners run one at a time on a single daemon thread, started with the first
+ * listener. Changes made by this process are reported too, so listeners have to
+ * be cheap when there is nothing new. Watching is on unless -Dtrivia.data.watch=false.
+ */
+public final class DataDirectoryWatcher {
+
+    public static final String PROPERTY = "trivia.data.watch";
+
+    private static DataDirectoryWatcher shared;
+
+    private final Path directory;
+    private final Map<String, List<Runnable>> listeners = new ConcurrentHashMap<>();
+    private WatchService service;
+
+    /** Returns the watcher of the data directory, or null if watching is turned off. */
+    public static synchronized DataDirectoryWatcher shared() {
+        if (!Boolean.parseBoolean(System.getProperty(PROPERTY, "true"))) {
+            return null;
+        }
+        if (shared == null) {
+            shared = new DataDirectoryWatcher(Paths.get(DataDirectory.resolve("")));
+        }
+        return shared;
+    }
+
+    public DataDirectoryWatcher(Path directory) {
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    /** Runs the listener whenever the named file in the directory is created or modified. */
+    public synchronized void onChange(String fileName, Runnable listener) {
+        listeners.computeIfAbsent(fileName, name -> new CopyOnWriteArrayList<>()).add(listener);
+        if (service != null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            service = FileSystems.getDefault().newWatchService();
+            directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            System.err.println("Cannot watch " + directory + " for changes by other processes: " + e.getMessage());
+            return;
+        }
+        Thread thread = new Thread(this::run, "data-directory-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized void close() {
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close watcher of " + directory + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private void run() {
+        WatchService watching;
+        synchronized (this) {
+            watching = service;
+        }
+        while (true) {
+            WatchKey key;
+            try {
+                key = watching.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            // one call per changed file, however many events a burst of writes produced
+            Set<String> changed = new LinkedHashSet<>();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    changed.addAll(listeners.keySet());
+                } else {
+                    changed.add(((Path) event.context()).getFileName().toString());
+                }
+            }
+            if (!key.reset()) {
+                System.err.println("Stopped watching " + directory + ": it is no longer accessible");
+                return;
+            }
+
+            for (String name : changed) {
+                for (Runnable listener : listeners.getOrDefault(name, new ArrayList<>())) {
+                    try {
+                        listener.run();
+                    } catch (RuntimeException e) {
+                        System.err.println("Failed to pick up changes to " + name + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package trivia.framework.dao;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import trivia.entity.Player;
+import trivia.entity.Question;
+import trivia.entity.Quiz;
+import trivia.entity.QuizAttempt;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the Gson instance used by the DAOs, with hand-written streaming adapters
+ * registered for every entity so that no reflection is involved in loading or saving.
+ *
+ * Output is compact by default; run with -Dtrivia.json.pretty=true to get indented
+ * files for debugging.
+ */
+public final class JsonCodecs {
+
+    public static final String PRETTY_PROPERTY = "trivia.json.pretty";
+
+    private JsonCodecs() {
+    }
+
+    public static Gson create(QuestionTable table) {
+        QuestionAdapter questionAdapter = new QuestionAdapter();
+        QuizAdapter quizAdapter = new QuizAdapter(table, questionAdapter);
+        QuizAttemptAdapter attemptAdapter = new QuizAttemptAdapter(table, quizAdapter);
+
+        GsonBuilder builder = new GsonBuilder()
+                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+                .registerTypeAdapter(Question.class, questionAdapter.nullSafe())
+                .registerTypeAdapter(Quiz.class, quizAdapter.nullSafe())
+                .registerTypeAdapter(QuizAttempt.class, attemptAdapter.nullSafe())
+                .registerTypeAdapter(Player.class, new PlayerAdapter(attemptAdapter).nullSafe());
+        if (Boolean.getBoolean(PRETTY_PROPERTY)) {
+            builder.setPrettyPrinting();
+        }
+        return builder.create();
+    }
+
+    static String readString(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    static List<String> readStrings(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            values.add(readString(in));
+        }
+        in.endArray();
+        return values;
+    }
+
+    static void writeStrings(JsonWriter out, List<String> values) throws IOException {
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (String value : values) {
+            out.value(value);
+        }
+        out.endArray();
+    }
+}
@@ -0,0 +1,202 @@
+package trivia.framework.dao;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Players ordered by score (highest first), ties broken by name.
+ *
+ * Backed by a treap whose nodes know the size of their subtree, so updating a
+ * score, finding a player's rank and reading the top K are all O(log n) (plus K).
+ * Names are compared case-insensitively, like everywhere else in the player store.
+ * Not thread-safe; PlayerDataAccessObject guards it with its store lock.
+ */
+public class Leaderboard {
+
+    private final Map<String, Node> nodesByKey = new HashMap<>();
+    private final Random random = new Random();
+    private Node root;
+
+    /** Inserts the player or moves them to their new score. */
+    public void update(String playerName, int score) {
+        String key = key(playerName);
+        Node existing = nodesByKey.get(key);
+        if (existing != null) {
+            if (existing.score == score && existing.name.equals(playerName)) {
+                return;
+            }
+            root = delete(root, existing);
+        }
+        Node node = new Node(playerName, key, score, random.nextInt());
+        nodesByKey.put(key, node);
+        root = insert(root, node);
+    }
+
+    public void remove(String playerName) {
+        Node existing = nodesByKey.remove(key(playerName));
+        if (existing != null) {
+            root = delete(root, existing);
+        }
+    }
+
+    /** 1-based position of the player, or -1 if they are not on the board. */
+    public int rankOf(String playerName) {
+        Node target = nodesByKey.get(key(playerName));
+        if (target == null) {
+            return -1;
+        }
+        int before = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(target, node);
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                before += size(node.left);
+                if (cmp == 0) {
+                    return before + 1;
+                }
+                before++;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    /** Names of the first {@code k} players, best first. */
+    public List<String> top(int k) {
+        List<String> names = new ArrayList<>(Math.max(0, Math.min(k, size())));
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        while (names.size() < k && (node != null || !stack.isEmpty())) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            names.add(node.name);
+            node = node.right;
+        }
+        return names;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public void clear() {
+        nodesByKey.clear();
+        root = null;
+    }
+
+    // ===== Treap =====
+
+    private static String key(String playerName) {
+        return playerName == null ? "" : playerName.toLowerCase(Locale.ROOT);
+    }
+
+    /** Negative if {@code a} ranks ahead of {@code b}. */
+    private static int compare(Node a, Node b) {
+        if (a.score != b.score) {
+            return Integer.compare(b.score, a.score);
+        }
+        return a.key.compareTo(b.key);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.priority > node.priority) {
+            Node[] parts = split(node, added);
+            added.left = parts[0];
+            added.right = parts[1];
+            return added.resize();
+        }
+        if (compare(added, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return node.resize();
+    }
+
+    private static Node delete(Node node, Node removed) {
+        if (node == null) {
+            return null;
+        }
+        if (node == removed) {
+            return merge(node.left, node.right);
+        }
+        if (compare(removed, node) < 0) {
+            node.left = delete(node.left, removed);
+        } else {
+            node.right = delete(node.right, removed);
+        }
+        return node.resize();
+    }
+
+    /** Splits into nodes ranking ahead of {@code pivot} and the rest. */
+    private static Node[] split(Node node, Node pivot) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (compare(node, pivot) < 0) {
+            Node[] parts = split(node.right, pivot);
+            node.right = parts[0];
+            parts[0] = node.resize();
+            return parts;
+        }
+        Node[] parts = split(node.left, pivot);
+        node.left = parts[1];
+        parts[1] = node.resize();
+        return parts;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left.resize();
+        }
+        right.left = merge(left, right.left);
+        return right.resize();
+    }
+
+    private static class Node {
+        private final String name;
+        private final String key;
+        private final int score;
+        private final int priority;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        Node(String name, String key, int score, int priority) {
+            this.name = name;
+            this.key = key;
+            this.score = score;
+            this.priority = priority;
+        }
+
+        Node resize() {
+            size = 1 + Leaderboard.size(left) + Leaderboard.size(right);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package trivia.framework.dao;
+
+import trivia.entity.Question;
+import trivia.use_case.select_quiz.SelectQuizAPIDataAccessInterface;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves questions already stored in the QuestionTable (from past quizzes and attempts),
+ * used when the trivia API cannot be reached.
+ */
+public class LocalQuestionSource implements SelectQuizAPIDataAccessInterface {
+
+    /** Open Trivia DB names of the categories offered on the Select Quiz screen. */
+    private static final Map<String, String> CATEGORY_NAMES = Map.of(
+            "9", "General Knowledge",
+            "11", "Entertainment: Film",
+            "17", "Science & Nature",
+            "21", "Sports",
+            "23", "History");
+
+    private final QuestionTable table;
+
+    public LocalQuestionSource(QuestionTable table) {
+        this.table = table;
+    }
+
+    @Override
+    public List<Question> fetchQuestions(String categoryId, String difficulty, int amount) {
+        String category = CATEGORY_NAMES.get(categoryId);
+        List<Question> matching = table.findQuestions(q ->
+                (category == null || category.equalsIgnoreCase(q.getCategory()))
+                        && (difficulty == null || difficulty.equalsIgnoreCase(q.getDifficulty()))
+                        && q.getOptions() != null && q.getOptions().size() > 1);
+        Collections.shuffle(matching);
+        return new ArrayList<>(matching.subList(0, Math.min(amount, matching.size())));
+    }
+}
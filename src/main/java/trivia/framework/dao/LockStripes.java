@@ -0,0 +1,23 @@
+package trivia.framework.dao;
+
+/**
+ * A fixed set of monitors standing in for one lock per key: writers of the same
+ * key are serialized, writers of different keys rarely share a monitor, and the
+ * memory used does not grow with the number of keys.
+ */
+final class LockStripes {
+
+    private final Object[] stripes;
+
+    LockStripes(int count) {
+        stripes = new Object[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    /** Monitor guarding the key; null keys share the first one. */
+    Object forKey(String key) {
+        return stripes[key == null ? 0 : (key.hashCode() & 0x7fffffff) % stripes.length];
+    }
+}
@@ -0,0 +1,145 @@
+package trivia.framework.dao;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list that is cheap to "change": {@link #plus} and {@link #with} return a
+ * new vector sharing all but one path of a 32-way tree with the old one, so they
+ * cost O(log32 n) instead of copying the list. Old versions stay valid and
+ * unchanged, which is what lets {@link SnapshotStore} hand them to readers.
+ *
+ * Elements live in 32-slot leaves under a tree of 32-slot nodes; the last,
+ * partially filled leaf is kept aside as the tail so appends usually copy only it.
+ */
+final class PersistentVector<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentVector<?> EMPTY =
+            new PersistentVector<>(0, BITS, new Object[WIDTH], new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    /** This vector with {@code value} added at the end. */
+    PersistentVector<T> plus(T value) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        // the tail is full: it becomes a leaf of the tree and a new tail is started
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{value});
+    }
+
+    /** This vector with the element at {@code index} replaced. */
+    PersistentVector<T> with(int index, T value) {
+        Objects.checkIndex(index, size);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = value;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, assoc(shift, root, index, value), tail);
+    }
+
+    /** This vector without the element at {@code index}. Rebuilds the vector, so O(n). */
+    PersistentVector<T> without(int index) {
+        Objects.checkIndex(index, size);
+        PersistentVector<T> result = empty();
+        for (int i = 0; i < size; i++) {
+            if (i != index) {
+                result = result.plus(get(i));
+            }
+        }
+        return result;
+    }
+
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] leaf) {
+        int slot = ((size - 1) >>> level) & MASK;
+        Object[] copy = parent.clone();
+        if (level == BITS) {
+            copy[slot] = leaf;
+        } else {
+            Object[] child = (Object[]) parent[slot];
+            copy[slot] = child != null ? pushTail(level - BITS, child, leaf) : newPath(level - BITS, leaf);
+        }
+        return copy;
+    }
+
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    private static Object[] assoc(int level, Object[] node, int index, Object value) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = value;
+        } else {
+            int slot = (index >>> level) & MASK;
+            copy[slot] = assoc(level - BITS, (Object[]) node[slot], index, value);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,96 @@
+package trivia.framework.dao;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import trivia.entity.Player;
+import trivia.entity.QuizAttempt;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming Gson adapter for Player; past attempts go through QuizAttemptAdapter.
+ */
+public class PlayerAdapter extends TypeAdapter<Player> {
+
+    private final QuizAttemptAdapter attemptAdapter;
+
+    public PlayerAdapter(QuizAttemptAdapter attemptAdapter) {
+        this.attemptAdapter = attemptAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter out, Player player) throws IOException {
+        out.beginObject();
+        out.name("playerName").value(player.getPlayerName());
+        out.name("password").value(player.getPassword());
+        out.name("score").value(player.getScore());
+        out.name("version").value(player.getVersion());
+        out.name("pastAttempts").beginArray();
+        for (QuizAttempt attempt : player.getPastAttempts()) {
+            if (attempt == null) {
+                out.nullValue();
+            } else {
+                attemptAdapter.write(out, attempt);
+            }
+        }
+        out.endArray();
+        out.endObject();
+    }
+
+    @Override
+    public Player read(JsonReader in) throws IOException {
+        String playerName = null;
+        String password = null;
+        int score = 0;
+        int version = 0;
+        List<QuizAttempt> pastAttempts = new ArrayList<>();
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "playerName":
+                    playerName = JsonCodecs.readString(in);
+                    break;
+                case "password":
+                    password = JsonCodecs.readString(in);
+                    break;
+                case "score":
+                    score = in.nextInt();
+                    break;
+                case "version":
+                    version = in.nextInt();
+                    break;
+                case "pastAttempts":
+                    if (in.peek() == JsonToken.NULL) {
+                        in.nextNull();
+                        break;
+                    }
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        if (in.peek() == JsonToken.NULL) {
+                            in.nextNull();
+                        } else {
+                            pastAttempts.add(attemptAdapter.read(in));
+                        }
+                    }
+                    in.endArray();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        Player player = new Player(playerName, password);
+        player.setScore(score);
+        player.setVersion(version);
+        for (QuizAttempt attempt : pastAttempts) {
+            player.addAttempt(attempt);
+        }
+        return player;
+    }
+}
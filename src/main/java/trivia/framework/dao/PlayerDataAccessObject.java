@@ -1,100 +1,304 @@
 package trivia.framework.dao;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import trivia.entity.Player;
 import trivia.entity.Quiz;
 import trivia.entity.QuizAttempt;
+import trivia.framework.metrics.MetricsRegistry;
+import trivia.use_case.complete_quiz.PlayerProgressDataAccessInterface;
 import trivia.use_case.generate_from_wrong.GenerateFromWrongDataAccessInterface;
 import trivia.use_case.generate_from_wrong.WrongQuestionRecord;
+import trivia.use_case.review_quiz.PastQuizCursor;
 import trivia.use_case.review_quiz.ReviewQuizAttemptDataAccessInterface;
 import trivia.use_case.review_quiz.ReviewQuizQuizDataAccessInterface;
 import trivia.use_case.register_player.RegisterPlayerDataAccessInterface;
+import trivia.use_case.view_profile.PlayerStatistics;
+import trivia.use_case.view_profile.PlayerSummary;
 import trivia.use_case.view_profile.ViewProfileDataAccessInterface;
 
 import java.io.*;
 import java.lang.reflect.Type;
-import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Player DAO that implements multiple use case data access interfaces.
  * Now properly implements ViewProfileDataAccessInterface and RegisterPlayerDataAccessInterface.
+ *
+ * player.json is parsed once into a resident store indexed by lower-cased player
+ * name and by attempt id, so lookups never touch the disk. Writes update the store
+ * immediately and are flushed to disk by a debounced write-behind task.
+ * Past attempts are written as quiz ids plus answer indices (see QuizAttemptAdapter);
+ * the questions themselves live once in the shared QuestionTable.
+ * A Leaderboard kept alongside answers rank and top-K queries without sorting.
+ * Profile statistics are rolled up per player as attempts change (PlayerStatsIndex)
+ * and written next to player.json in player_stats.json, so a restart can reuse them.
+ *
+ * A player's score, attempts, wrong-question index and statistics are guarded by that
+ * player's lock stripe, so completions for different players run in parallel and
+ * two for the same player are applied one after the other. The store lock only
+ * guards the name directory, the leaderboard and the flush bookkeeping. Players are
+ * handed out as copies, so a change only reaches the store, its indexes and
+ * player.json through savePlayer, applyCompletion or updateAttempt.
+ *
+ * Processes sharing the data directory write player.json under a ProcessLock. A
+ * process that finds the file changed since it last read or wrote it merges the
+ * other's players and attempts in before writing, and the watcher has it merge as
+ * soon as the file changes. Finished quizzes also travel through the attempt
+ * journal, so they are merged by attempt id and each is credited once. Every other
+ * change bumps the player's version; a player whose version in the file moved since
+ * this process last synced it is taken from the file, unless this process changed
+ * it too and holds the higher version.
  */
 public class PlayerDataAccessObject implements
         GenerateFromWrongDataAccessInterface,
         ReviewQuizAttemptDataAccessInterface,
         ReviewQuizQuizDataAccessInterface,
         ViewProfileDataAccessInterface,
-        RegisterPlayerDataAccessInterface {
-
-    private static final String FILE_PATH = "data/player.json";
-    private final Gson gson;
+        RegisterPlayerDataAccessInterface,
+        PlayerProgressDataAccessInterface {
+
+    private static final String FILE_PATH = DataDirectory.resolve("player.json");
+    private static final String STATS_FILE_PATH = DataDirectory.resolve("player_stats.json");
+    private static final ProcessLock fileLock = ProcessLock.forFile(Paths.get(FILE_PATH + ".lock"));
+
+    /** Changes made within this window are coalesced into one write of player.json. */
+    private static final long FLUSH_DELAY_MS = 250;
+
+    // Resident store shared by every instance; player.json is parsed once per process.
+    // LOCK guards playersByName, the leaderboard and the flush state; the other
+    // maps are concurrent, and what they index is written under the owner's stripe.
+    private static final Object LOCK = new Object();
+    private static final LockStripes playerLocks = new LockStripes(64);
+    private static final Map<String, Player> playersByName = new LinkedHashMap<>();
+    private static final Map<String, QuizAttempt> attemptsById = new ConcurrentHashMap<>();
+    private static final Map<String, Player> attemptOwners = new ConcurrentHashMap<>();
+    // each player's attempts sorted by their place in the past quiz listing, and the place
+    // each attempt id was filed at, since attempts are mutable; both change under the owner's stripe
+    private static final Map<String, NavigableMap<PastQuizCursor, QuizAttempt>> attemptsByPosition =
+            new ConcurrentHashMap<>();
+    private static final Map<String, PastQuizCursor> attemptPositions = new ConcurrentHashMap<>();
+    private static final Map<String, Quiz> quizzesById = new ConcurrentHashMap<>();
+    private static final Map<String, WrongQuestionIndex> wrongQuestionsByPlayer = new ConcurrentHashMap<>();
+    private static final Map<String, PlayerStatsIndex> statsByPlayer = new ConcurrentHashMap<>();
+    private static final Leaderboard leaderboard = new Leaderboard();
+    private static boolean loaded = false;
+    private static boolean watching = false; // guarded by fileLock
+    private static boolean dirty = false;
+    private static ScheduledFuture<?> pendingFlush;
+    // player.json as this process last read or wrote it; guarded by fileLock
+    private static String seenVersion;
+    // each player's version as this process last read or wrote it; guarded by fileLock
+    private static final Map<String, Integer> syncedVersions = new HashMap<>();
+
+    private static final ScheduledExecutorService flushExecutor =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "player-store-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private static final Gson gson = JsonCodecs.create(QuestionTable.getInstance());
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(PlayerDataAccessObject::flush));
+    }
 
     public PlayerDataAccessObject() {
-        this.gson = new GsonBuilder()
-                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-                .setPrettyPrinting()
-                .create();
+        synchronized (LOCK) {
+            if (loaded) {
+                return;
+            }
+        }
+        // read under the file lock so the version seen matches what was parsed;
+        // it also keeps a second constructor from loading the file again
+        lockFile();
+        try {
+            boolean load;
+            synchronized (LOCK) {
+                load = !loaded;
+            }
+            if (load) {
+                JsonObject storedStats = loadStoredStats();
+                for (Player player : loadAllPlayers()) {
+                    putPlayer(player, restoreStats(storedStats, player));
+                    syncedVersions.put(key(player.getPlayerName()), player.getVersion());
+                }
+                seenVersion = fileVersion();
+                synchronized (LOCK) {
+                    loaded = true;
+                }
+            }
+            DataDirectoryWatcher watcher = DataDirectoryWatcher.shared();
+            if (!watching && watcher != null) {
+                watcher.onChange(Paths.get(FILE_PATH).getFileName().toString(),
+                        PlayerDataAccessObject::refresh);
+                watching = true;
+            }
+        } finally {
+            unlockFile();
+        }
     }
 
+    /**
+     * Forgets the resident store and reads player.json again, as a fresh process
+     * would. Unflushed changes are dropped. Meant for benchmarks of the load path.
+     */
+    static PlayerDataAccessObject reload() {
+        synchronized (LOCK) {
+            if (pendingFlush != null) {
+                pendingFlush.cancel(false);
+            }
+            dirty = false;
+            playersByName.clear();
+            attemptsById.clear();
+            attemptOwners.clear();
+            attemptsByPosition.clear();
+            attemptPositions.clear();
+            quizzesById.clear();
+            wrongQuestionsByPlayer.clear();
+            statsByPlayer.clear();
+            syncedVersions.clear();
+            leaderboard.clear();
+            loaded = false;
+        }
+        return new PlayerDataAccessObject();
+    }
+
+    /** Stores a copy of the player, replacing any player of that name. */
     @Override
     public void savePlayer(Player player) {
-        List<Player> players = loadAllPlayers();
-
-        boolean updated = false;
-        for (int i = 0; i < players.size(); i++) {
-            if (players.get(i).getPlayerName().equalsIgnoreCase(player.getPlayerName())) {
-                players.set(i, player);
-                updated = true;
-                break;
+        synchronized (playerLocks.forKey(key(player.getPlayerName()))) {
+            Player stored = copyOf(player);
+            Player previous = lookup(player.getPlayerName());
+            if (previous != null) {
+                stored.setVersion(Math.max(previous.getVersion(), player.getVersion()) + 1);
             }
+            putPlayer(stored);
+        }
+        synchronized (LOCK) {
+            scheduleFlush();
         }
+        System.out.println("Saved player: " + player.getPlayerName());
+    }
 
-        if (!updated) players.add(player);
+    /**
+     * Records a finished quiz on the player: adds the attempt and the points in memory
+     * and leaves the write to the write-behind flush. Applying the same attempt twice
+     * is a no-op, so journal replay after a crash can call this again safely.
+     *
+     * This is the only way a completion changes a player. The attempt and its points
+     * are applied under the player's stripe in one step, so concurrent completions for
+     * the same player never lose an update and nobody sees one without the other.
+     *
+     * @return false if the player does not exist
+     */
+    @Override
+    public boolean applyCompletion(String playerName, QuizAttempt attempt, int scoreDelta) {
+        // the stripe is reentrant, so the attempt and its points land together
+        synchronized (playerLocks.forKey(key(playerName))) {
+            if (lookup(playerName) == null) {
+                System.err.println("⚠ Warning: Could not load player to save attempt: " + playerName);
+                return false;
+            }
+            if (addAttempt(playerName, attempt)) {
+                addToScore(playerName, scoreDelta);
+            }
+        }
+        return true;
+    }
 
-        try {
-            File file = new File(FILE_PATH);
-            file.getParentFile().mkdirs();
+    private static void addToScore(String playerName, int delta) {
+        synchronized (playerLocks.forKey(key(playerName))) {
+            Player player = lookup(playerName);
+            if (player == null) {
+                return;
+            }
+            int score = player.getScore() + delta;
+            player.setScore(score);
+            synchronized (LOCK) {
+                leaderboard.update(player.getPlayerName(), score);
+                scheduleFlush();
+            }
+        }
+    }
 
-            Writer writer = new FileWriter(FILE_PATH);
-            gson.toJson(players, writer);
-            writer.close();
-            System.out.println("Saved player: " + player.getPlayerName());
-        } catch (IOException e) {
-            System.err.println("Failed to save player: " + e.getMessage());
-            e.printStackTrace();
+    private static boolean addAttempt(String playerName, QuizAttempt attempt) {
+        synchronized (playerLocks.forKey(key(playerName))) {
+            Player player = lookup(playerName);
+            if (player == null || attemptOwners.get(attempt.getAttemptId()) == player) {
+                return false;
+            }
+            player.addAttempt(attempt);
+            indexAttempt(player, attempt);
+            synchronized (LOCK) {
+                scheduleFlush();
+            }
+            return true;
         }
     }
 
+    /** A copy of the player; changes to it take effect once it is passed to savePlayer. */
     @Override
     public Player loadPlayer(String name) {
-        List<Player> players = loadAllPlayers();
-        for (Player p : players) {
-            if (p.getPlayerName().equalsIgnoreCase(name)) {
-                System.out.println("Loaded player: " + p.getPlayerName());
-                return p;
-            }
+        Player player;
+        synchronized (playerLocks.forKey(key(name))) {
+            Player resident = lookup(name);
+            player = resident != null ? copyOf(resident) : null;
         }
-        System.out.println("Player not found: " + name);
-        return null;
+        if (player != null) {
+            System.out.println("Loaded player: " + player.getPlayerName());
+        } else {
+            System.out.println("Player not found: " + name);
+        }
+        return player;
     }
 
-    private List<Player> loadAllPlayers() {
+    /** Read under the player's stripe, so the score and count belong to the same moment. */
+    @Override
+    public PlayerSummary getSummary(String playerName) {
+        synchronized (playerLocks.forKey(key(playerName))) {
+            Player player = lookup(playerName);
+            return player != null
+                    ? new PlayerSummary(player.getPlayerName(), player.getScore(), player.getPastAttempts().size())
+                    : null;
+        }
+    }
+
+    private static List<Player> loadAllPlayers() {
         File file = new File(FILE_PATH);
         if (!file.exists()) {
             System.out.println("Player file does not exist yet: " + FILE_PATH);
             return new ArrayList<>();
         }
 
-        try {
-            Reader reader = new FileReader(file);
+        MetricsRegistry.global().recordBytesRead(file.length());
+        try (Reader reader = new FileReader(file, StandardCharsets.UTF_8)) {
             Type listType = new TypeToken<List<Player>>() {}.getType();
             List<Player> players = gson.fromJson(reader, listType);
-            reader.close();
 
             if (players == null) {
                 System.out.println("No players found in file");
@@ -103,20 +307,69 @@ public class PlayerDataAccessObject implements
 
             System.out.println("Loaded " + players.size() + " players from file");
             return players;
-        } catch (IOException e) {
+        } catch (Exception e) {
+            // keep the unreadable file instead of overwriting it on the next save
             System.err.println("Failed to load players: " + e.getMessage());
-            e.printStackTrace();
+            StorageWriter.quarantine(file.toPath());
             return new ArrayList<>();
+        }
+    }
+
+    /** The statistics records saved with player.json, keyed by lower-cased name; empty if unreadable. */
+    private static JsonObject loadStoredStats() {
+        File file = new File(STATS_FILE_PATH);
+        if (!file.exists()) {
+            return new JsonObject();
+        }
+        MetricsRegistry.global().recordBytesRead(file.length());
+        try (Reader reader = new FileReader(file, StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
         } catch (Exception e) {
-            System.err.println("Failed to parse player JSON: " + e.getMessage());
-            e.printStackTrace();
-            return new ArrayList<>();
+            // only a cache: the statistics are rebuilt from the attempts
+            System.err.println("Failed to load player statistics: " + e.getMessage());
+            return new JsonObject();
         }
     }
 
+    /** The player's saved statistics if they still match its attempts, otherwise null. */
+    private static PlayerStatsIndex restoreStats(JsonObject storedStats, Player player) {
+        PlayerStatsIndex stats = PlayerStatsIndex.fromRecord(storedStats.get(key(player.getPlayerName())));
+        return stats != null && stats.covers(player.getPastAttempts()) ? stats : null;
+    }
+
+    /** Copies of every player, like loadPlayer. */
     @Override
     public List<Player> getAllPlayers() {
-        return loadAllPlayers();
+        List<Player> players;
+        synchronized (LOCK) {
+            players = new ArrayList<>(playersByName.values());
+        }
+        return copiesOf(players);
+    }
+
+    @Override
+    public int getRank(String playerName) {
+        synchronized (LOCK) {
+            return leaderboard.rankOf(playerName);
+        }
+    }
+
+    @Override
+    public int getPlayerCount() {
+        synchronized (LOCK) {
+            return leaderboard.size();
+        }
+    }
+
+    @Override
+    public List<Player> getTopPlayers(int limit) {
+        List<Player> top = new ArrayList<>();
+        synchronized (LOCK) {
+            for (String name : leaderboard.top(limit)) {
+                top.add(playersByName.get(key(name)));
+            }
+        }
+        return copiesOf(top);
     }
 
     public Player validateLogin(String name, String password) {
@@ -137,42 +390,351 @@ public class PlayerDataAccessObject implements
         return null;
     }
 
+    // ===== Resident store =====
+
+    private static String key(String playerName) {
+        return playerName == null ? "" : playerName.toLowerCase(Locale.ROOT);
+    }
+
+    private static Player lookup(String playerName) {
+        synchronized (LOCK) {
+            return playersByName.get(key(playerName));
+        }
+    }
+
+    /** Caller holds the player's stripe. Attempts are shared; they change through updateAttempt. */
+    private static Player copyOf(Player player) {
+        Player copy = new Player(player.getPlayerName(), player.getPassword());
+        copy.setScore(player.getScore());
+        copy.setVersion(player.getVersion());
+        for (QuizAttempt attempt : player.getPastAttempts()) {
+            copy.addAttempt(attempt);
+        }
+        return copy;
+    }
+
+    /** Copies each player under its own stripe; the store lock must not be held. */
+    private static List<Player> copiesOf(List<Player> players) {
+        List<Player> copies = new ArrayList<>(players.size());
+        for (Player player : players) {
+            synchronized (playerLocks.forKey(key(player.getPlayerName()))) {
+                copies.add(copyOf(player));
+            }
+        }
+        return copies;
+    }
+
+    private static void putPlayer(Player player) {
+        putPlayer(player, null);
+    }
+
+    /**
+     * Inserts or replaces a player and re-indexes its attempts. Statistics restored
+     * from player_stats.json are used as they are instead of grading every attempt again.
+     */
+    private static void putPlayer(Player player, PlayerStatsIndex restoredStats) {
+        synchronized (playerLocks.forKey(key(player.getPlayerName()))) {
+            Player previous;
+            synchronized (LOCK) {
+                previous = playersByName.put(key(player.getPlayerName()), player);
+                leaderboard.update(player.getPlayerName(), player.getScore());
+            }
+            if (previous != null) {
+                for (QuizAttempt attempt : previous.getPastAttempts()) {
+                    attemptsById.remove(attempt.getAttemptId());
+                    attemptOwners.remove(attempt.getAttemptId());
+                    attemptPositions.remove(attempt.getAttemptId());
+                }
+                attemptsByPosition.remove(key(previous.getPlayerName()));
+                wrongQuestionsByPlayer.remove(key(previous.getPlayerName()));
+                statsByPlayer.remove(key(previous.getPlayerName()));
+            }
+            if (restoredStats != null) {
+                statsByPlayer.put(key(player.getPlayerName()), restoredStats);
+            }
+            for (QuizAttempt attempt : player.getPastAttempts()) {
+                indexAttempt(player, attempt, restoredStats == null);
+            }
+        }
+    }
+
+    /** Caller holds the owner's stripe. */
+    private static void indexAttempt(Player owner, QuizAttempt attempt) {
+        indexAttempt(owner, attempt, true);
+    }
+
+    private static void indexAttempt(Player owner, QuizAttempt attempt, boolean updateStats) {
+        if (attempt == null || attempt.getAttemptId() == null) {
+            return;
+        }
+        attemptsById.put(attempt.getAttemptId(), attempt);
+        attemptOwners.put(attempt.getAttemptId(), owner);
+        NavigableMap<PastQuizCursor, QuizAttempt> byPosition =
+                attemptsByPosition.computeIfAbsent(key(owner.getPlayerName()), k -> new TreeMap<>());
+        PastQuizCursor position = PastQuizCursor.of(attempt);
+        PastQuizCursor previousPosition = attemptPositions.put(attempt.getAttemptId(), position);
+        if (previousPosition != null) {
+            byPosition.remove(previousPosition);
+        }
+        byPosition.put(position, attempt);
+        wrongQuestionsByPlayer
+                .computeIfAbsent(key(owner.getPlayerName()), k -> new WrongQuestionIndex(QuestionTable.getInstance()))
+                .put(attempt);
+        if (updateStats) {
+            statsByPlayer.computeIfAbsent(key(owner.getPlayerName()), k -> new PlayerStatsIndex()).put(attempt);
+        }
+        Quiz quiz = attempt.getQuiz();
+        if (quiz != null && quiz.getId() != null) {
+            quizzesById.put(quiz.getId(), quiz);
+        }
+    }
+
+    /**
+     * Marks the store dirty and schedules a write-behind flush.
+     * Changes arriving while a flush is pending ride along with it. Caller holds LOCK.
+     */
+    private static void scheduleFlush() {
+        dirty = true;
+        if (pendingFlush == null || pendingFlush.isDone()) {
+            pendingFlush = flushExecutor.schedule(
+                    PlayerDataAccessObject::flush, FLUSH_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Writes pending changes to player.json right away. */
+    public static void flush() {
+        synchronized (LOCK) {
+            if (!dirty) {
+                return;
+            }
+        }
+
+        lockFile();
+        try {
+            // another process wrote since we last looked: keep its players and attempts
+            mergeIfChanged();
+            List<Player> players;
+            synchronized (LOCK) {
+                players = new ArrayList<>(playersByName.values());
+                dirty = false;
+            }
+            try {
+                // each player is written under its stripe so a completion cannot change it halfway
+                JsonArray array = new JsonArray();
+                JsonObject stats = new JsonObject();
+                Map<String, Integer> written = new HashMap<>();
+                for (Player player : players) {
+                    String key = key(player.getPlayerName());
+                    synchronized (playerLocks.forKey(key)) {
+                        array.add(gson.toJsonTree(player, Player.class));
+                        written.put(key, player.getVersion());
+                        PlayerStatsIndex index = statsByPlayer.get(key);
+                        if (index != null) {
+                            stats.add(key, index.toRecord());
+                        }
+                    }
+                }
+                String json = gson.toJson(array);
+                StorageWriter.shared().write(Paths.get(FILE_PATH), json);
+                seenVersion = fileVersion();
+                syncedVersions.putAll(written);
+                // written second, so a crash in between leaves stale statistics that get rebuilt
+                StorageWriter.shared().write(Paths.get(STATS_FILE_PATH), gson.toJson(stats));
+            } catch (IOException | JsonIOException e) {
+                System.err.println("Failed to save players: " + e.getMessage());
+                e.printStackTrace();
+                synchronized (LOCK) {
+                    dirty = true;
+                }
+            }
+        } finally {
+            unlockFile();
+        }
+    }
+
+    /** Merges in what other processes sharing the data directory wrote to player.json. */
+    static void refresh() {
+        lockFile();
+        try {
+            mergeIfChanged();
+        } finally {
+            unlockFile();
+        }
+    }
+
+    /** Caller holds fileLock. */
+    private static void mergeIfChanged() {
+        String version = fileVersion();
+        if (version == null || version.equals(seenVersion)) {
+            return;
+        }
+        // attempts may refer to questions the other process added
+        QuestionTable.getInstance().catchUp();
+        for (Player stored : loadAllPlayers()) {
+            String key = key(stored.getPlayerName());
+            synchronized (playerLocks.forKey(key)) {
+                mergePlayer(stored, syncedVersions.get(key));
+                syncedVersions.put(key, stored.getVersion());
+            }
+        }
+        seenVersion = version;
+    }
+
+    /**
+     * Merges one player as another process wrote it into the resident store.
+     * Caller holds fileLock and the player's stripe.
+     *
+     * @param synced the player's version as this process last synced it, or null
+     */
+    private static void mergePlayer(Player stored, Integer synced) {
+        String name = stored.getPlayerName();
+        Player local = lookup(name);
+        if (local == null) {
+            putPlayer(stored);
+            return;
+        }
+
+        boolean changedThere = synced == null || stored.getVersion() != synced;
+        boolean changedHere = synced == null || local.getVersion() != synced;
+        if (!changedThere || (changedHere && local.getVersion() > stored.getVersion())) {
+            // keep ours, with the quizzes finished there that have not reached us yet
+            if (changedThere) {
+                // ours has the higher version, so the other process takes it on the next flush
+                System.err.println("Player " + name + " was changed by two processes; keeping this one's copy");
+                synchronized (LOCK) {
+                    scheduleFlush();
+                }
+            }
+            for (QuizAttempt attempt : stored.getPastAttempts()) {
+                if (attempt != null && attempt.getAttemptId() != null && addAttempt(name, attempt)) {
+                    addToScore(name, attempt.getScore());
+                }
+            }
+            return;
+        }
+
+        // take theirs, with the quizzes finished here that have not reached the file yet
+        if (changedHere) {
+            System.err.println("Player " + name + " was changed by two processes; keeping the other one's copy");
+        }
+        Set<String> storedIds = new HashSet<>();
+        for (QuizAttempt attempt : stored.getPastAttempts()) {
+            if (attempt != null) {
+                storedIds.add(attempt.getAttemptId());
+            }
+        }
+        boolean missing = false;
+        for (QuizAttempt attempt : local.getPastAttempts()) {
+            if (attempt != null && attempt.getAttemptId() != null && !storedIds.contains(attempt.getAttemptId())) {
+                stored.addAttempt(attempt);
+                stored.setScore(stored.getScore() + attempt.getScore());
+                missing = true;
+            }
+        }
+        putPlayer(stored);
+        if (missing) {
+            synchronized (LOCK) {
+                scheduleFlush();
+            }
+        }
+    }
+
+    /**
+     * Size, modification time and file key of player.json, or null if there is none.
+     * Every write renames a new file into place, so any write by anyone changes it.
+     */
+    private static String fileVersion() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(Paths.get(FILE_PATH), BasicFileAttributes.class);
+            return attributes.size() + "/" + attributes.lastModifiedTime().toMillis() + "/" + attributes.fileKey();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void lockFile() {
+        try {
+            fileLock.lock();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to lock " + FILE_PATH, e);
+        }
+    }
+
+    private static void unlockFile() {
+        fileLock.unlock();
+    }
+
+    /**
+     * The player's statistics rollups, which are kept up to date as attempts are added
+     * or edited, so this does not depend on how many attempts the player has.
+     */
+    @Override
+    public PlayerStatistics getStatistics(String playerName) {
+        synchronized (playerLocks.forKey(key(playerName))) {
+            if (lookup(playerName) == null) {
+                return null;
+            }
+            PlayerStatsIndex stats = statsByPlayer.get(key(playerName));
+            return stats != null ? stats.snapshot() : PlayerStatistics.empty();
+        }
+    }
+
     //  UC3: Review Quiz Attempt Interface
 
     @Override
     public List<QuizAttempt> getAttemptsForPlayer(String playerName) {
-        Player player = loadPlayer(playerName);
-        if (player != null) {
-            return player.getPastAttempts();
+        synchronized (playerLocks.forKey(key(playerName))) {
+            Player player = lookup(playerName);
+            if (player != null) {
+                return new ArrayList<>(player.getPastAttempts());
+            }
         }
         return new ArrayList<>();
     }
 
     @Override
-    public Optional<QuizAttempt> getAttemptById(String attemptId) {
-        List<Player> players = loadAllPlayers();
-        for (Player player : players) {
-            for (QuizAttempt attempt : player.getPastAttempts()) {
-                if (attempt.getAttemptId().equals(attemptId)) {
-                    return Optional.of(attempt);
-                }
+    public int getAttemptCount(String playerName) {
+        synchronized (playerLocks.forKey(key(playerName))) {
+            Player player = lookup(playerName);
+            return player != null ? player.getPastAttempts().size() : 0;
+        }
+    }
+
+    /** Walks the player's attempts sorted by position from the cursor, so a page costs O(log n + limit). */
+    @Override
+    public List<QuizAttempt> getAttemptsAfter(String playerName, PastQuizCursor cursor, int limit) {
+        synchronized (playerLocks.forKey(key(playerName))) {
+            NavigableMap<PastQuizCursor, QuizAttempt> byPosition =
+                    lookup(playerName) != null ? attemptsByPosition.get(key(playerName)) : null;
+            if (byPosition == null) {
+                return new ArrayList<>();
             }
+            return PastQuizCursor.pageAfter(byPosition, cursor, limit);
         }
-        return Optional.empty();
     }
 
     @Override
-    public void updateAttempt(QuizAttempt attempt) {
-        List<Player> players = loadAllPlayers();
+    public Optional<QuizAttempt> getAttemptById(String attemptId) {
+        return Optional.ofNullable(attemptsById.get(attemptId));
+    }
 
-        for (Player player : players) {
-            List<QuizAttempt> attempts = player.getPastAttempts();
-            for (int i = 0; i < attempts.size(); i++) {
-                if (attempts.get(i).getAttemptId().equals(attempt.getAttemptId())) {
-                    attempts.set(i, attempt);
-                    savePlayer(player);
-                    System.out.println("[UC3] Updated attempt: " + attempt.getAttemptId());
-                    return;
+    @Override
+    public void updateAttempt(QuizAttempt attempt) {
+        Player owner = attemptOwners.get(attempt.getAttemptId());
+        if (owner != null) {
+            synchronized (playerLocks.forKey(key(owner.getPlayerName()))) {
+                List<QuizAttempt> attempts = owner.getPastAttempts();
+                for (int i = 0; i < attempts.size(); i++) {
+                    if (attempts.get(i).getAttemptId().equals(attempt.getAttemptId())) {
+                        attempts.set(i, attempt);
+                        owner.setVersion(owner.getVersion() + 1);
+                        indexAttempt(owner, attempt);
+                        synchronized (LOCK) {
+                            scheduleFlush();
+                        }
+                        System.out.println("[UC3] Updated attempt: " + attempt.getAttemptId());
+                        return;
+                    }
                 }
             }
         }
@@ -182,27 +744,25 @@ public class PlayerDataAccessObject implements
 
     @Override
     public Quiz getQuizById(String quizId) {
-        List<Player> players = loadAllPlayers();
-
-        for (Player player : players) {
-            for (QuizAttempt attempt : player.getPastAttempts()) {
-                Quiz quiz = attempt.getQuiz();
-                if (quiz != null && quiz.getId().equals(quizId)) {
-                    return quiz;
-                }
-            }
+        Quiz quiz = quizzesById.get(quizId);
+        if (quiz == null) {
+            System.err.println("[UC3] Quiz not found: " + quizId);
         }
-
-        System.err.println("[UC3] Quiz not found: " + quizId);
-        return null;
+        return quiz;
     }
 
     //  UC6: Generate From Wrong Questions
 
+    /**
+     * Reads the player's wrong-question index, which is kept up to date as attempts
+     * are added or edited, so this costs one record per distinct wrong question.
+     */
     @Override
     public List<WrongQuestionRecord> getWrongQuestionsForPlayer(String playerName) {
-        System.out.println("[UC6] Returning empty wrong-question list for: " + playerName);
-        return new ArrayList<>();
+        synchronized (playerLocks.forKey(key(playerName))) {
+            WrongQuestionIndex index = wrongQuestionsByPlayer.get(key(playerName));
+            return index != null ? index.getRecords() : new ArrayList<>();
+        }
     }
 
     @Override
@@ -0,0 +1,255 @@
+package trivia.framework.dao;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.reflect.TypeToken;
+import trivia.entity.Question;
+import trivia.entity.Quiz;
+import trivia.entity.QuizAttempt;
+import trivia.use_case.view_profile.PlayerStatistics;
+
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * One player's statistics rollups for the profile screen: accuracy overall and per
+ * category, day streaks and average quiz length.
+ *
+ * Like WrongQuestionIndex, each attempt's share is remembered, so saving or editing
+ * an attempt only swaps that attempt's share in and out of the totals. Streaks are
+ * only recounted when a day is gained or lost. The shares are small, so they are
+ * what gets persisted (see {@link #toRecord()}) and a restart can skip re-grading.
+ * Not thread-safe; PlayerDataAccessObject guards it with the owner's lock stripe.
+ */
+public class PlayerStatsIndex {
+
+    private static final String UNCATEGORIZED = "Uncategorized";
+    private static final Gson gson = new Gson();
+    private static final Type SHARE_LIST = new TypeToken<List<Share>>() {}.getType();
+
+    private final Map<String, Share> shares = new HashMap<>();
+    private final Map<String, int[]> categories = new TreeMap<>();   // answered, correct
+    private final TreeMap<String, Integer> attemptsByDay = new TreeMap<>();
+    private int totalQuestions;
+    private int answered;
+    private int correct;
+    private int currentStreak;
+    private int longestStreak;
+    private PlayerStatistics snapshot;
+
+    /** Adds or replaces the share contributed by one attempt. */
+    public void put(QuizAttempt attempt) {
+        if (attempt == null || attempt.getAttemptId() == null) {
+            return;
+        }
+        Share share = grade(attempt);
+        Share previous = shares.put(share.id, share);
+        boolean daysChanged = previous != null && withdraw(previous);
+        daysChanged |= add(share);
+        changed(daysChanged);
+    }
+
+    /** Withdraws everything an attempt contributed. */
+    public void remove(String attemptId) {
+        Share previous = shares.remove(attemptId);
+        if (previous != null) {
+            changed(withdraw(previous));
+        }
+    }
+
+    /** The current figures; kept until the next change, so repeated reads cost nothing. */
+    public PlayerStatistics snapshot() {
+        if (snapshot == null) {
+            List<PlayerStatistics.CategoryStatistics> perCategory = new ArrayList<>(categories.size());
+            for (Map.Entry<String, int[]> entry : categories.entrySet()) {
+                perCategory.add(new PlayerStatistics.CategoryStatistics(
+                        entry.getKey(), entry.getValue()[0], entry.getValue()[1]));
+            }
+            double averageLength = shares.isEmpty() ? 0 : (double) totalQuestions / shares.size();
+            snapshot = new PlayerStatistics(answered, correct, perCategory,
+                    currentStreak, longestStreak, averageLength);
+        }
+        return snapshot;
+    }
+
+    public int size() {
+        return shares.size();
+    }
+
+    /**
+     * True if this index was built from exactly these attempts as they are now, judged
+     * by attempt id and score. A record that fails this is stale and gets rebuilt.
+     */
+    public boolean covers(List<QuizAttempt> attempts) {
+        int count = 0;
+        for (QuizAttempt attempt : attempts) {
+            if (attempt == null || attempt.getAttemptId() == null) {
+                continue;
+            }
+            Share share = shares.get(attempt.getAttemptId());
+            if (share == null || share.score != attempt.getScore()) {
+                return false;
+            }
+            count++;
+        }
+        return count == shares.size();
+    }
+
+    /** The per-attempt shares as JSON; the rollups are rebuilt from them on load. */
+    public JsonElement toRecord() {
+        return gson.toJsonTree(new ArrayList<>(shares.values()), SHARE_LIST);
+    }
+
+    /** Rebuilds an index from {@link #toRecord()}, or returns null if the record is unreadable. */
+    public static PlayerStatsIndex fromRecord(JsonElement record) {
+        if (record == null || !record.isJsonArray()) {
+            return null;
+        }
+        try {
+            List<Share> stored = gson.fromJson(record, SHARE_LIST);
+            PlayerStatsIndex index = new PlayerStatsIndex();
+            for (Share share : stored) {
+                if (share == null || share.id == null) {
+                    return null;
+                }
+                if (share.categories == null) {
+                    share.categories = new HashMap<>();
+                }
+                index.shares.put(share.id, share);
+                index.add(share);
+            }
+            index.changed(true);
+            return index;
+        } catch (RuntimeException e) {
+            System.err.println("Skipping unreadable player statistics: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** Adds a share to the totals and reports whether it brought a new day. */
+    private boolean add(Share share) {
+        totalQuestions += share.questions;
+        for (Map.Entry<String, int[]> entry : share.categories.entrySet()) {
+            int[] totals = categories.computeIfAbsent(entry.getKey(), k -> new int[2]);
+            totals[0] += entry.getValue()[0];
+            totals[1] += entry.getValue()[1];
+            answered += entry.getValue()[0];
+            correct += entry.getValue()[1];
+        }
+        return share.day != null && attemptsByDay.merge(share.day, 1, Integer::sum) == 1;
+    }
+
+    /** Takes a share out of the totals and reports whether it was the last one of its day. */
+    private boolean withdraw(Share share) {
+        totalQuestions -= share.questions;
+        for (Map.Entry<String, int[]> entry : share.categories.entrySet()) {
+            int[] totals = categories.get(entry.getKey());
+            if (totals == null) {
+                continue;
+            }
+            totals[0] -= entry.getValue()[0];
+            totals[1] -= entry.getValue()[1];
+            answered -= entry.getValue()[0];
+            correct -= entry.getValue()[1];
+            if (totals[0] <= 0) {
+                categories.remove(entry.getKey());
+            }
+        }
+        if (share.day == null) {
+            return false;
+        }
+        Integer left = attemptsByDay.computeIfPresent(share.day, (day, count) -> count > 1 ? count - 1 : null);
+        return left == null;
+    }
+
+    private void changed(boolean daysChanged) {
+        snapshot = null;
+        if (daysChanged) {
+            countStreaks();
+        }
+    }
+
+    /** Walks the distinct days in order; the last run is the current streak. */
+    private void countStreaks() {
+        int run = 0;
+        int longest = 0;
+        LocalDate previous = null;
+        for (String day : attemptsByDay.keySet()) {
+            LocalDate date = LocalDate.parse(day);
+            run = previous != null && previous.plusDays(1).equals(date) ? run + 1 : 1;
+            longest = Math.max(longest, run);
+            previous = date;
+        }
+        currentStreak = run;
+        longestStreak = longest;
+    }
+
+    /**
+     * Grades an attempt the same way WrongQuestionIndex does: the selected option when
+     * known, otherwise the stored answer text. Unanswered questions count as answered
+     * wrong; questions with no answer recorded are left out.
+     */
+    private static Share grade(QuizAttempt attempt) {
+        Share share = new Share();
+        share.id = attempt.getAttemptId();
+        share.score = attempt.getScore();
+        share.day = dayOf(attempt.getCompletedAt());
+        share.questions = attempt.getTotalQuestions();
+        share.categories = new HashMap<>();
+
+        Quiz quiz = attempt.getQuiz();
+        if (quiz == null || quiz.getQuestions() == null) {
+            return share;
+        }
+        List<Question> questions = quiz.getQuestions();
+        List<Integer> selected = attempt.getSelectedOptionIndices();
+        List<String> answers = attempt.getUserAnswers();
+
+        for (int i = 0; i < questions.size(); i++) {
+            Question q = questions.get(i);
+            if (q == null || q.getCorrectAnswer() == null) {
+                continue;
+            }
+            String answer = WrongQuestionIndex.answerAt(q, i, selected, answers);
+            if (answer == null) {
+                continue;
+            }
+            String category = q.getCategory() != null ? q.getCategory()
+                    : Objects.requireNonNullElse(quiz.getCategory(), UNCATEGORIZED);
+            int[] counts = share.categories.computeIfAbsent(category, k -> new int[2]);
+            counts[0]++;
+            if (q.getCorrectAnswer().equals(answer)) {
+                counts[1]++;
+            }
+        }
+        return share;
+    }
+
+    /** The calendar day of an ISO timestamp such as LocalDateTime.toString(), or null. */
+    private static String dayOf(String completedAt) {
+        if (completedAt == null || completedAt.length() < 10) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(completedAt.substring(0, 10)).toString();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /** What one attempt adds to the totals, as stored on disk. */
+    private static class Share {
+        private String id;
+        private int score;
+        private String day;
+        private int questions;
+        private Map<String, int[]> categories;
+    }
+}
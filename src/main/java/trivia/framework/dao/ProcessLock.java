@@ -0,0 +1,84 @@
+package trivia.framework.dao;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Exclusive lock shared by every thread of every process that uses the same lock file,
+ * so several instances of the app can commit to one data directory.
+ *
+ * A JVM may hold only one lock on a file, so there is one ProcessLock per lock file:
+ * threads of this process queue on an in-memory lock first and the outermost hold
+ * takes the file lock. Holds are reentrant. The lock file is only ever opened here
+ * and is never closed, because on POSIX systems closing any descriptor of a file
+ * drops every lock the process has on it.
+ */
+final class ProcessLock {
+
+    private static final ConcurrentHashMap<Path, ProcessLock> LOCKS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final ReentrantLock local = new ReentrantLock();
+    private FileChannel channel;
+    private FileLock fileLock;
+
+    private ProcessLock(Path file) {
+        this.file = file;
+    }
+
+    /** The lock backed by the given lock file, created on first use. */
+    static ProcessLock forFile(Path file) {
+        return LOCKS.computeIfAbsent(file.toAbsolutePath().normalize(), ProcessLock::new);
+    }
+
+    /** Blocks until this thread holds the lock in this process and in every other one. */
+    void lock() throws IOException {
+        local.lock();
+        if (local.getHoldCount() > 1) {
+            return;
+        }
+        try {
+            fileLock = channel().lock();
+        } catch (IOException | RuntimeException e) {
+            local.unlock();
+            throw e;
+        }
+    }
+
+    void unlock() {
+        try {
+            if (local.getHoldCount() == 1 && fileLock != null) {
+                fileLock.release();
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to release lock " + file + ": " + e.getMessage());
+        } finally {
+            if (local.getHoldCount() == 1) {
+                fileLock = null;
+            }
+            local.unlock();
+        }
+    }
+
+    boolean isHeldByCurrentThread() {
+        return local.isHeldByCurrentThread();
+    }
+
+    private FileChannel channel() throws IOException {
+        // an interrupt while waiting for the file lock closes the channel, so reopen it
+        if (channel == null || !channel.isOpen()) {
+            Path parent = file.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        }
+        return channel;
+    }
+}
@@ -0,0 +1,67 @@
+package trivia.framework.dao;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import trivia.entity.Question;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Streaming Gson adapter for Question, writing the same fields the reflective binding did.
+ */
+public class QuestionAdapter extends TypeAdapter<Question> {
+
+    @Override
+    public void write(JsonWriter out, Question question) throws IOException {
+        out.beginObject();
+        out.name("id").value(question.getId());
+        out.name("questionText").value(question.getQuestionText());
+        out.name("options");
+        JsonCodecs.writeStrings(out, question.getOptions());
+        out.name("correctAnswer").value(question.getCorrectAnswer());
+        out.name("category").value(question.getCategory());
+        out.name("difficulty").value(question.getDifficulty());
+        out.endObject();
+    }
+
+    @Override
+    public Question read(JsonReader in) throws IOException {
+        String id = null;
+        String questionText = null;
+        List<String> options = null;
+        String correctAnswer = null;
+        String category = null;
+        String difficulty = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    id = JsonCodecs.readString(in);
+                    break;
+                case "questionText":
+                    questionText = JsonCodecs.readString(in);
+                    break;
+                case "options":
+                    options = JsonCodecs.readStrings(in);
+                    break;
+                case "correctAnswer":
+                    correctAnswer = JsonCodecs.readString(in);
+                    break;
+                case "category":
+                    category = JsonCodecs.readString(in);
+                    break;
+                case "difficulty":
+                    difficulty = JsonCodecs.readString(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        return new Question(id, questionText, options, correctAnswer, category, difficulty);
+    }
+}
@@ -0,0 +1,269 @@
+package trivia.framework.dao;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import trivia.entity.Question;
+import trivia.entity.Quiz;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Content-addressed table of questions and quiz headers shared by both DAOs.
+ *
+ * Every question is stored exactly once under a fingerprint of its content, and
+ * every quiz is stored as a header plus the fingerprints of its questions. Quiz
+ * and attempt files therefore only carry ids, and quiz objects are rebuilt from
+ * the table the first time someone asks for them and then shared.
+ *
+ * The table lives in an append-only journal: questions never change once written,
+ * and a changed quiz header is appended as a superseding record. An entry only
+ * enters the table once its record is appended; if the append fails the IOException
+ * is thrown, so the caller never commits anything that refers to it.
+ */
+public class QuestionTable {
+
+    private static final String JOURNAL_PATH = DataDirectory.resolve("questions.journal");
+
+    private static QuestionTable instance;
+
+    private final RecordJournal journal;
+    private final Gson gson = new Gson();
+    private final QuestionAdapter questionAdapter = new QuestionAdapter();
+
+    private final Map<String, Question> questionsByRef = new HashMap<>();
+    private final Map<String, QuizHeader> headersById = new HashMap<>();
+    private final Map<String, Quiz> resolvedQuizzes = new HashMap<>();
+    // questions are immutable, so a fingerprint computed once per instance stays valid
+    private final Map<Question, String> fingerprints = new WeakHashMap<>();
+
+    /** Returns the table backing questions.journal in the data directory, loading it on first use. */
+    public static synchronized QuestionTable getInstance() {
+        if (instance == null) {
+            instance = new QuestionTable(JOURNAL_PATH);
+        }
+        return instance;
+    }
+
+    public QuestionTable(String journalPath) {
+        this.journal = new RecordJournal(journalPath);
+        for (String record : journal.replay()) {
+            applyRecord(record);
+        }
+    }
+
+    /** The journal backing this table, so writers can make its appends durable. */
+    RecordJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Applies the records other processes sharing the data directory appended since
+     * this table last read the journal. Callers do this before reading anything that
+     * may refer to questions another process added.
+     */
+    public synchronized void catchUp() {
+        try {
+            for (String record : journal.readNew().getRecords()) {
+                applyRecord(record);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to read new question table records: " + e.getMessage());
+        }
+    }
+
+    /** Stable fingerprint of a question's content, used as its key in the table. */
+    public static String fingerprint(Question question) {
+        StringBuilder content = new StringBuilder();
+        content.append(question.getQuestionText()).append('\u0001')
+                .append(question.getCorrectAnswer()).append('\u0001')
+                .append(question.getCategory()).append('\u0001')
+                .append(question.getDifficulty());
+        if (question.getOptions() != null) {
+            for (String option : question.getOptions()) {
+                content.append('\u0001').append(option);
+            }
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 12; i++) {
+                hex.append(String.format("%02x", hash[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** Fingerprint of the question, cached per instance; does not store the question. */
+    public synchronized String fingerprintOf(Question question) {
+        return fingerprints.computeIfAbsent(question, QuestionTable::fingerprint);
+    }
+
+    /** Stores the question if its content is new and returns its fingerprint. */
+    public synchronized String putQuestion(Question question) throws IOException {
+        String ref = fingerprints.computeIfAbsent(question, QuestionTable::fingerprint);
+        if (!questionsByRef.containsKey(ref)) {
+            JsonObject record = new JsonObject();
+            record.addProperty("kind", "question");
+            record.addProperty("ref", ref);
+            record.add("question", questionAdapter.toJsonTree(question));
+            // only stored once the record is in the journal, so a failed append leaves no trace
+            journal.append(gson.toJson(record));
+            questionsByRef.put(ref, question);
+        }
+        return ref;
+    }
+
+    public synchronized Question getQuestion(String ref) {
+        return questionsByRef.get(ref);
+    }
+
+    /** Every stored question accepted by the filter, in no particular order. */
+    public synchronized List<Question> findQuestions(Predicate<Question> filter) {
+        List<Question> found = new ArrayList<>();
+        for (Question question : questionsByRef.values()) {
+            if (filter.test(question)) {
+                found.add(question);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Stores the quiz header and its questions, returning the question refs in order.
+     * The quiz instance becomes the shared one returned by {@link #resolveQuiz(String)}.
+     * If the journal append fails the previous header stays in place; questions
+     * appended before the failure are kept, as nothing refers to them yet.
+     */
+    public synchronized List<String> putQuiz(Quiz quiz) throws IOException {
+        List<String> refs = new ArrayList<>();
+        if (quiz.getQuestions() != null) {
+            for (Question question : quiz.getQuestions()) {
+                if (question != null) {
+                    refs.add(putQuestion(question));
+                }
+            }
+        }
+
+        QuizHeader header = new QuizHeader(quiz, refs);
+        if (!header.equals(headersById.get(quiz.getId()))) {
+            JsonObject record = gson.toJsonTree(header).getAsJsonObject();
+            record.addProperty("kind", "quiz");
+            journal.append(gson.toJson(record));
+            headersById.put(quiz.getId(), header);
+        }
+        resolvedQuizzes.put(quiz.getId(), quiz);
+        return refs;
+    }
+
+    /** Rebuilds a quiz from its header on first request; later calls share the same instance. */
+    public synchronized Quiz resolveQuiz(String quizId) {
+        if (quizId == null) {
+            return null;
+        }
+        Quiz quiz = resolvedQuizzes.get(quizId);
+        if (quiz != null) {
+            return quiz;
+        }
+
+        QuizHeader header = headersById.get(quizId);
+        if (header == null) {
+            return null;
+        }
+        quiz = new Quiz(header.id, header.title, header.category, header.difficulty,
+                header.creatorName, resolveQuestions(header.questionRefs));
+        resolvedQuizzes.put(quizId, quiz);
+        return quiz;
+    }
+
+    /** Looks up questions by ref, skipping any the table does not know. */
+    public synchronized List<Question> resolveQuestions(List<String> refs) {
+        List<Question> questions = new ArrayList<>();
+        if (refs == null) {
+            return questions;
+        }
+        for (String ref : refs) {
+            Question question = questionsByRef.get(ref);
+            if (question != null) {
+                questions.add(question);
+            } else {
+                System.err.println("Question table is missing question " + ref);
+            }
+        }
+        return questions;
+    }
+
+    private void applyRecord(String record) {
+        try {
+            JsonObject json = JsonParser.parseString(record).getAsJsonObject();
+            String kind = json.get("kind").getAsString();
+            if ("question".equals(kind)) {
+                String ref = json.get("ref").getAsString();
+                Question question = questionAdapter.fromJsonTree(json.get("question"));
+                questionsByRef.put(ref, question);
+                fingerprints.put(question, ref);
+            } else if ("quiz".equals(kind)) {
+                QuizHeader header = gson.fromJson(json, QuizHeader.class);
+                QuizHeader previous = headersById.put(header.id, header);
+                if (!header.equals(previous)) {
+                    // a quiz edited by another process must be rebuilt from its new header
+                    resolvedQuizzes.remove(header.id);
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Skipping unreadable question table record: " + e.getMessage());
+        }
+    }
+
+    /** Quiz metadata plus the fingerprints of its questions, as stored on disk. */
+    private static class QuizHeader {
+        private final String id;
+        private final String title;
+        private final String category;
+        private final String difficulty;
+        private final String creatorName;
+        private final List<String> questionRefs;
+
+        QuizHeader(Quiz quiz, List<String> questionRefs) {
+            this.id = quiz.getId();
+            this.title = quiz.getTitle();
+            this.category = quiz.getCategory();
+            this.difficulty = quiz.getDifficulty();
+            this.creatorName = quiz.getCreatorName();
+            this.questionRefs = questionRefs;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof QuizHeader)) {
+                return false;
+            }
+            QuizHeader other = (QuizHeader) o;
+            return Objects.equals(id, other.id)
+                    && Objects.equals(title, other.title)
+                    && Objects.equals(category, other.category)
+                    && Objects.equals(difficulty, other.difficulty)
+                    && Objects.equals(creatorName, other.creatorName)
+                    && Objects.equals(questionRefs, other.questionRefs);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, title, category, difficulty, creatorName, questionRefs);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package trivia.framework.dao;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import trivia.entity.Question;
+import trivia.entity.Quiz;
+import trivia.entity.QuizAttempt;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming Gson adapter that stores an attempt as a quiz id plus the selected option index per question.
+ *
+ * The quiz itself lives in the QuestionTable and is resolved again on load, so the
+ * attempt no longer carries a copy of every question. Answer texts are only written
+ * when they cannot be recovered from the indices, and on load the attempt only keeps
+ * them in memory in that case too. Attempts written in the old format, with the whole
+ * quiz embedded, are still readable.
+ */
+public class QuizAttemptAdapter extends TypeAdapter<QuizAttempt> {
+
+    private final QuestionTable table;
+    private final QuizAdapter quizAdapter;
+
+    public QuizAttemptAdapter(QuestionTable table, QuizAdapter quizAdapter) {
+        this.table = table;
+        this.quizAdapter = quizAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter out, QuizAttempt attempt) throws IOException {
+        Quiz quiz = attempt.getQuiz();
+        if (quiz != null) {
+            table.putQuiz(quiz);
+        }
+
+        List<Question> questions = quiz != null ? quiz.getQuestions() : null;
+        List<String> userAnswers = attempt.getUserAnswers();
+        List<Integer> indices = attempt.getSelectedOptionIndices();
+        if (indices == null) {
+            indices = toIndices(questions, userAnswers);
+        }
+
+        out.beginObject();
+        out.name("attemptId").value(attempt.getAttemptId());
+        out.name("quizId").value(attempt.getQuizId());
+        out.name("score").value(attempt.getScore());
+        out.name("totalQuestions").value(attempt.getTotalQuestions());
+
+        out.name("answers").beginArray();
+        for (Integer index : indices) {
+            out.value(index == null ? -1 : index);
+        }
+        out.endArray();
+
+        if (!userAnswers.equals(toAnswers(questions, indices))) {
+            out.name("userAnswers");
+            JsonCodecs.writeStrings(out, userAnswers);
+        }
+
+        out.name("completedAt").value(attempt.getCompletedAt());
+        out.name("editable").value(attempt.isEditable());
+        out.name("userName").value(attempt.getUserName());
+        out.endObject();
+    }
+
+    @Override
+    public QuizAttempt read(JsonReader in) throws IOException {
+        String attemptId = null;
+        String quizId = null;
+        Quiz quiz = null;
+        int score = 0;
+        int totalQuestions = 0;
+        List<Integer> answers = null;
+        List<Integer> legacyIndices = null;
+        List<String> userAnswers = null;
+        String completedAt = null;
+        boolean editable = false;
+        String userName = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "attemptId":
+                    attemptId = JsonCodecs.readString(in);
+                    break;
+                case "quizId":
+                    quizId = JsonCodecs.readString(in);
+                    break;
+                case "quiz":
+                    // legacy format: the quiz is embedded in the attempt
+                    if (in.peek() == JsonToken.NULL) {
+                        in.nextNull();
+                    } else {
+                        quiz = quizAdapter.read(in);
+                    }
+                    break;
+                case "score":
+                    score = in.nextInt();
+                    break;
+                case "totalQuestions":
+                    totalQuestions = in.nextInt();
+                    break;
+                case "answers":
+                    answers = readIndices(in);
+                    break;
+                case "selectedOptionIndices":
+                    legacyIndices = readIndices(in);
+                    break;
+                case "userAnswers":
+                    userAnswers = JsonCodecs.readStrings(in);
+                    break;
+                case "completedAt":
+                    completedAt = JsonCodecs.readString(in);
+                    break;
+                case "editable":
+                    editable = in.nextBoolean();
+                    break;
+                case "userName":
+                    userName = JsonCodecs.readString(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (quiz != null) {
+            quizId = quiz.getId();
+        } else {
+            quiz = table.resolveQuiz(quizId);
+        }
+        List<Question> questions = quiz != null ? quiz.getQuestions() : null;
+
+        List<Integer> indices = answers != null ? answers : legacyIndices;
+        if (userAnswers == null) {
+            userAnswers = indices != null ? toAnswers(questions, indices) : new ArrayList<>();
+        }
+        if (indices == null) {
+            indices = toIndices(questions, userAnswers);
+        }
+
+        QuizAttempt attempt = new QuizAttempt(attemptId, quiz, totalQuestions, userName,
+                completedAt, userAnswers, score);
+        attempt.setSelectedOptionIndices(indices);
+        attempt.setEditable(editable);
+        if (quiz == null) {
+            attempt.setQuizId(quizId);
+        }
+        attempt.compactAnswers();
+        return attempt;
+    }
+
+    /** Maps answer texts to option indices, -1 where the text is not one of the options. */
+    private static List<Integer> toIndices(List<Question> questions, List<String> answers) {
+        List<Integer> indices = new ArrayList<>(answers.size());
+        for (int i = 0; i < answers.size(); i++) {
+            int index = -1;
+            if (questions != null && i < questions.size() && questions.get(i) != null
+                    && questions.get(i).getOptions() != null) {
+                index = questions.get(i).getOptions().indexOf(answers.get(i));
+            }
+            indices.add(index);
+        }
+        return indices;
+    }
+
+    /** Maps option indices back to answer texts, "" where nothing valid was selected. */
+    private static List<String> toAnswers(List<Question> questions, List<Integer> indices) {
+        List<String> answers = new ArrayList<>(indices.size());
+        for (int i = 0; i < indices.size(); i++) {
+            Integer index = indices.get(i);
+            String answer = "";
+            if (questions != null && i < questions.size() && questions.get(i) != null && index != null) {
+                Question question = questions.get(i);
+                if (index >= 0 && index < question.getOptionCount()) {
+                    answer = question.getOption(index);
+                }
+            }
+            answers.add(answer);
+        }
+        return answers;
+    }
+
+    private static List<Integer> readIndices(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<Integer> indices = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                indices.add(-1);
+            } else {
+                indices.add(in.nextInt());
+            }
+        }
+        in.endArray();
+        return indices;
+    }
+}
@@ -1,23 +1,35 @@
 package trivia.framework.dao;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import trivia.entity.Question;
 import trivia.entity.Quiz;
 import trivia.entity.QuizAttempt;
+import trivia.framework.metrics.MetricsRegistry;
 import trivia.use_case.generate_from_wrong.GenerateFromWrongDataAccessInterface;
 import trivia.use_case.generate_from_wrong.WrongQuestionRecord;
+import trivia.use_case.review_quiz.PastQuizCursor;
 import trivia.use_case.review_quiz.ReviewQuizAttemptDataAccessInterface;
 import trivia.use_case.review_quiz.ReviewQuizQuizDataAccessInterface;
+import trivia.use_case.complete_quiz.PlayerProgressDataAccessInterface;
 import trivia.use_case.complete_quiz.QuizAttemptDataAccessInterface;
+import trivia.use_case.complete_quiz.QuizCompletion;
 import trivia.use_case.create_quiz.CreateQuizDataAccessInterface;
 import trivia.use_case.load_quiz.LoadQuizDataAccessInterface;
 
 import java.io.*;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 public class QuizDataAccessObject
         implements ReviewQuizAttemptDataAccessInterface,
@@ -27,230 +39,475 @@ public class QuizDataAccessObject
         CreateQuizDataAccessInterface,
         LoadQuizDataAccessInterface {
 
-    private static final String FILE_PATH = "data/custom_quizzes.json";
-    private static final String ATTEMPT_FILE_PATH = "data/quiz_attempts.json";
-
-    private static final List<Quiz> quizzes = new ArrayList<>();
-    private static final List<QuizAttempt> attempts = new ArrayList<>();
-    private final Gson gson = new Gson();
+    private static final String FILE_PATH = DataDirectory.resolve("custom_quizzes.json");
+    private static final String ATTEMPT_FILE_PATH = DataDirectory.resolve("quiz_attempts.json");
+    private static final String ATTEMPT_JOURNAL_PATH = DataDirectory.resolve("quiz_attempts.journal");
+
+    /** Number of journal records after which they are folded back into the snapshot file. */
+    private static final int COMPACTION_THRESHOLD = 200;
+
+    /** Journal records under this key hold a whole finished quiz rather than a single attempt. */
+    private static final String COMPLETION_KIND = "completion";
+
+    /** Journal records under this key hold a quiz saved on its own. */
+    private static final String QUIZ_KIND = "customQuiz";
+
+    private static final Type QUIZ_LIST = new TypeToken<List<Quiz>>() {}.getType();
+    private static final Type ATTEMPT_LIST = new TypeToken<List<QuizAttempt>>() {}.getType();
+
+    // Readers get immutable snapshots without locking; writers of one id are serialized
+    // on that id's stripe lock (see SnapshotStore).
+    private static final SnapshotStore<Quiz> quizzes =
+            new SnapshotStore<>(Quiz::getId, quiz -> creatorKey(quiz.getCreatorName()));
+    private static final SnapshotStore<QuizAttempt> attempts =
+            new SnapshotStore<>(QuizAttempt::getAttemptId, QuizDataAccessObject::ownerOf);
+
+    private static final RecordJournal attemptJournal = new RecordJournal(ATTEMPT_JOURNAL_PATH);
+    /**
+     * Writers hold the read side while they apply a change and journal it; compaction
+     * and catching up with other processes hold the write side, so its snapshot
+     * contains every record it empties out of the journal and a record read from
+     * another process never overwrites a newer local change.
+     */
+    private static final ReentrantReadWriteLock journalLock = new ReentrantReadWriteLock();
+    /** Serializes whole-file writes, so an older snapshot never lands after a newer one. */
+    private static final Object fileLock = new Object();
+    private static final Object loadLock = new Object();
+    private static volatile boolean loaded = false;
+    private static boolean watching = false;
+    // quizzes committed through the journal that custom_quizzes.json does not have yet
+    private static volatile boolean quizzesDirty = false;
+    private final Gson gson = JsonCodecs.create(QuestionTable.getInstance());
+    private final PlayerDataAccessObject playerStore = new PlayerDataAccessObject();
 
     public QuizDataAccessObject() {
-        if (quizzes.isEmpty()) {
-            quizzes.addAll(loadQuizzesFromFile());
+        if (loaded) {
+            return;
+        }
+        synchronized (loadLock) {
+            if (!loaded) {
+                load();
+                loaded = true;
+            }
+            DataDirectoryWatcher watcher = DataDirectoryWatcher.shared();
+            if (!watching && watcher != null) {
+                watcher.onChange(Paths.get(ATTEMPT_JOURNAL_PATH).getFileName().toString(), this::catchUp);
+                watching = true;
+            }
         }
-        if (attempts.isEmpty()) {
-            attempts.addAll(loadAttemptsFromFile());
+    }
+
+    /**
+     * Reads the snapshot files and replays the journal on top. Holds the journal
+     * so another process cannot compact it between the two reads.
+     */
+    private void load() {
+        journalLock.writeLock().lock();
+        try {
+            attemptJournal.lock();
+            try {
+                loadSnapshots();
+                replayAttemptJournal();
+            } finally {
+                attemptJournal.unlock();
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to lock attempt journal, loading without it: " + e.getMessage());
+            loadSnapshots();
+            replayAttemptJournal();
+        } finally {
+            journalLock.writeLock().unlock();
         }
     }
 
-    /** Save or update a quiz, persist to JSON */
+    private void loadSnapshots() {
+        for (Quiz quiz : loadQuizzesFromFile()) {
+            quizzes.put(quiz);
+        }
+        for (QuizAttempt attempt : loadAttemptsFromFile()) {
+            if (attempt != null) {
+                attempts.put(attempt);
+            }
+        }
+    }
+
+    /**
+     * Forgets the in-memory quizzes and attempts and loads them from disk again, as a
+     * fresh process would. Meant for benchmarks of the load path.
+     */
+    static QuizDataAccessObject reload() {
+        synchronized (loadLock) {
+            quizzes.clear();
+            attempts.clear();
+            loaded = false;
+        }
+        return new QuizDataAccessObject();
+    }
+
+    /**
+     * Save or update a quiz. Like a completion it is made durable by a journal record,
+     * so processes sharing the data directory never overwrite each other's quizzes;
+     * custom_quizzes.json catches up on compaction.
+     *
+     * @throws JsonIOException if the quiz's questions cannot be added to the question
+     *         table; the quiz is not saved then
+     */
     public void saveQuiz(Quiz quiz) {
-        for (int i = 0; i < quizzes.size(); i++) {
-            if (quizzes.get(i).getId().equals(quiz.getId())) {
-                quizzes.set(i, quiz);
-                saveQuizzesToFile();
-                return;
+        JsonObject record = new JsonObject();
+        record.add(QUIZ_KIND, gson.toJsonTree(quiz, Quiz.class));
+
+        boolean compact;
+        journalLock.readLock().lock();
+        try {
+            synchronized (quizzes.lockFor(quiz.getId())) {
+                quizzes.put(quiz);
+                quizzesDirty = true;
+                compact = appendRecord(gson.toJson(record));
             }
+        } finally {
+            journalLock.readLock().unlock();
+        }
+        if (compact) {
+            compactAttempts();
         }
-        quizzes.add(quiz);
-        saveQuizzesToFile();
     }
 
-    /** Return all quizzes */
+    /** Return all quizzes (an immutable snapshot) */
     public List<Quiz> getAllQuizzes() {
-        return new ArrayList<>(quizzes);
+        return quizzes.all();
     }
 
-    /** Get all quizzes created by a specific player */
+    /** Get all quizzes created by a specific player (an immutable snapshot) */
     public List<Quiz> getQuizzesByPlayer(String playerName) {
-        List<Quiz> playerQuizzes = new ArrayList<>();
-        for (Quiz q : quizzes) {
-            if (q.getCreatorName().equalsIgnoreCase(playerName)) {
-                playerQuizzes.add(q);
-            }
+        if (playerName == null) {
+            return Collections.emptyList();
+        }
+        return quizzes.group(creatorKey(playerName));
+    }
+
+    /** Creator names match case-insensitively, as they always have. */
+    private static String creatorKey(String creatorName) {
+        return creatorName != null ? creatorName.toLowerCase(Locale.ROOT) : null;
+    }
+
+    /** An attempt belongs to its userName, or to the quiz creator for attempts saved without one. */
+    private static String ownerOf(QuizAttempt attempt) {
+        if (attempt.getUserName() != null) {
+            return attempt.getUserName();
         }
-        return playerQuizzes;
+        if (attempt.getQuiz() != null) {
+            return attempt.getQuiz().getCreatorName();
+        }
+        return null;
     }
 
     // ===== JSON Persistence =====
     private List<Quiz> loadQuizzesFromFile() {
         File file = new File(FILE_PATH);
         if (!file.exists()) return new ArrayList<>();
-        try (Reader reader = new FileReader(file)) {
-            Type listType = new TypeToken<List<Quiz>>() {}.getType();
-            List<Quiz> loaded = gson.fromJson(reader, listType);
+        MetricsRegistry.global().recordBytesRead(file.length());
+        try (Reader reader = new FileReader(file, StandardCharsets.UTF_8)) {
+            List<Quiz> loaded = gson.fromJson(reader, QUIZ_LIST);
             return loaded != null ? loaded : new ArrayList<>();
-        } catch (IOException e) {
+        } catch (Exception e) {
             System.err.println("Failed to load quizzes: " + e.getMessage());
+            StorageWriter.quarantine(file.toPath());
             return new ArrayList<>();
         }
     }
 
-    private void saveQuizzesToFile() {
-        try (Writer writer = new FileWriter(FILE_PATH)) {
-            gson.toJson(quizzes, writer);
-        } catch (IOException e) {
-            System.err.println("Failed to save quizzes: " + e.getMessage());
+    private boolean saveQuizzesToFile() {
+        synchronized (fileLock) {
+            // cleared before the snapshot is taken, so a quiz committed meanwhile marks it dirty again
+            quizzesDirty = false;
+            try {
+                StorageWriter.shared().write(Paths.get(FILE_PATH), gson.toJson(quizzes.all(), QUIZ_LIST));
+                return true;
+            } catch (IOException | JsonIOException e) {
+                quizzesDirty = true;
+                System.err.println("Failed to save quizzes: " + e.getMessage());
+                return false;
+            }
         }
     }
 
     private List<QuizAttempt> loadAttemptsFromFile() {
         File file = new File(ATTEMPT_FILE_PATH);
         if (!file.exists()) return new ArrayList<>();
-        try (Reader reader = new FileReader(file)) {
-            Type listType = new TypeToken<List<QuizAttempt>>() {}.getType();
-            List<QuizAttempt> loaded = gson.fromJson(reader, listType);
+        MetricsRegistry.global().recordBytesRead(file.length());
+        try (Reader reader = new FileReader(file, StandardCharsets.UTF_8)) {
+            List<QuizAttempt> loaded = gson.fromJson(reader, ATTEMPT_LIST);
             return loaded != null ? loaded : new ArrayList<>();
         } catch (Exception e) {
             System.err.println("Failed to load attempts, starting with empty list: " + e.getMessage());
+            StorageWriter.quarantine(file.toPath());
             return new ArrayList<>();
         }
     }
 
-    private void saveAttemptsToFile() {
-        try (Writer writer = new FileWriter(ATTEMPT_FILE_PATH)) {
-            gson.toJson(attempts, writer);
-        } catch (Exception e) {
-            System.err.println("Failed to save attempts: " + e.getMessage());
-        }
-    }
-
-    // ==== Everything below unchanged ====
-    @Override
-    public void saveAttempt(QuizAttempt attempt) {
-        attempts.add(attempt);
-        saveAttemptsToFile();
-    }
-
-    @Override
-    public Quiz getQuizById(String quizId) {
-        for (Quiz quiz : quizzes) {
-            if (quiz.getId().equals(quizId)) {
-                return quiz;
+    boolean saveAttemptsToFile() {
+        synchronized (fileLock) {
+            try {
+                StorageWriter.shared().write(Paths.get(ATTEMPT_FILE_PATH),
+                        gson.toJson(attempts.all(), ATTEMPT_LIST));
+                return true;
+            } catch (Exception e) {
+                System.err.println("Failed to save attempts: " + e.getMessage());
+                return false;
             }
         }
-        return null;
     }
 
-    @Override
-    public List<QuizAttempt> getAttemptsForPlayer(String playerName) {
-        List<QuizAttempt> result = new ArrayList<>();
+    // ===== Attempt journal =====
+
+    /**
+     * Applies every record of the attempt journal on top of the snapshot loaded
+     * from quiz_attempts.json. Later records supersede earlier ones with the same id.
+     * Completion records are re-applied to the player store as well, which ignores
+     * attempts it already has.
+     */
+    private void replayAttemptJournal() {
+        List<String> records = attemptJournal.replay();
+        if (records.isEmpty()) {
+            return;
+        }
 
-        for (QuizAttempt attempt : attempts) {
-            if (attempt == null) {
-                continue;
-            }
+        for (String record : records) {
+            applyRecord(record);
+        }
 
-            boolean matchPlayer = false;
+        if (attemptJournal.getRecordCount() >= COMPACTION_THRESHOLD) {
+            compactAttempts();
+        }
+    }
 
-            if (attempt.getUserName() != null) {
-                matchPlayer = playerName.equals(attempt.getUserName());
+    private void applyRecord(String record) {
+        try {
+            JsonObject json = JsonParser.parseString(record).getAsJsonObject();
+            if (json.has(COMPLETION_KIND)) {
+                replayCompletion(json);
+                return;
             }
-            else if (attempt.getQuiz() != null
-                    && attempt.getQuiz().getCreatorName() != null) {
-                matchPlayer = playerName.equals(attempt.getQuiz().getCreatorName());
+            if (json.has(QUIZ_KIND)) {
+                quizzes.put(gson.fromJson(json.get(QUIZ_KIND), Quiz.class));
+                quizzesDirty = true;
+                return;
             }
-
-            if (matchPlayer) {
-                result.add(attempt);
+            QuizAttempt attempt = gson.fromJson(json, QuizAttempt.class);
+            if (attempt != null && attempt.getAttemptId() != null) {
+                attempts.put(attempt);
             }
+        } catch (Exception e) {
+            System.err.println("Skipping unreadable attempt journal record: " + e.getMessage());
         }
-
-        return result;
     }
 
-    @Override
-    public Optional<QuizAttempt> getAttemptById(String attemptId) {
-        for (QuizAttempt attempt : attempts) {
-            if (attempt.getAttemptId().equals(attemptId)) {
-                return Optional.of(attempt);
+    /**
+     * Applies what other processes sharing the data directory committed since this
+     * one last looked: only the journal records they appended, or, after one of them
+     * compacted the journal, the snapshot files it wrote and then the new records.
+     * Runs whenever the watcher sees the journal change.
+     */
+    void catchUp() {
+        journalLock.writeLock().lock();
+        try {
+            attemptJournal.lock();
+            try {
+                applyNewRecords();
+            } finally {
+                attemptJournal.unlock();
             }
+        } catch (IOException e) {
+            System.err.println("Failed to read attempt journal records of other processes: " + e.getMessage());
+        } finally {
+            journalLock.writeLock().unlock();
         }
-        return Optional.empty();
     }
 
-    @Override
-    public void updateAttempt(QuizAttempt updatedAttempt) {
-        for (int i = 0; i < attempts.size(); i++) {
-            if (attempts.get(i).getAttemptId().equals(updatedAttempt.getAttemptId())) {
-                attempts.set(i, updatedAttempt);
-                saveAttemptsToFile();
-                return;
-            }
+    /** Caller holds the write side of journalLock and the attempt journal. */
+    private void applyNewRecords() throws IOException {
+        // records may refer to questions the other process added
+        QuestionTable.getInstance().catchUp();
+        RecordJournal.Tail tail = attemptJournal.readNew();
+        if (tail.isReset()) {
+            loadSnapshots();
+            PlayerDataAccessObject.refresh();
+        }
+        for (String record : tail.getRecords()) {
+            applyRecord(record);
         }
-        attempts.add(updatedAttempt);
-        saveAttemptsToFile();
     }
 
-    @Override
-    public List<WrongQuestionRecord> getWrongQuestionsForPlayer(String playerName) {
-        List<WrongQuestionRecord> result = new ArrayList<>();
-
-        PlayerDataAccessObject playerDAO = new PlayerDataAccessObject();
-        List<QuizAttempt> playerAttempts = playerDAO.getAttemptsForPlayer(playerName);
+    /**
+     * Appends one record to the journal instead of rewriting the snapshot files.
+     * Called with the read side of journalLock held, so it cannot compact itself.
+     *
+     * @return whether the caller should compact once it has released the lock
+     */
+    private boolean appendRecord(String record) {
+        try {
+            // questions the record refers to must be durable before the record is
+            StorageWriter.shared().force(QuestionTable.getInstance().getJournal());
+            attemptJournal.append(record);
+            StorageWriter.shared().force(attemptJournal);
+        } catch (IOException e) {
+            System.err.println("Failed to append to attempt journal, rewriting snapshots: " + e.getMessage());
+            return true;
+        }
+        return attemptJournal.getRecordCount() >= COMPACTION_THRESHOLD;
+    }
 
-        for (QuizAttempt attempt : playerAttempts) {
-            if (attempt == null) {
-                continue;
-            }
+    private void replayCompletion(JsonObject json) {
+        JsonObject completion = json.getAsJsonObject(COMPLETION_KIND);
+        QuizAttempt attempt = gson.fromJson(completion.get("attempt"), QuizAttempt.class);
+        if (completion.has("quiz")) {
+            quizzes.put(gson.fromJson(completion.get("quiz"), Quiz.class));
+            quizzesDirty = true;
+        }
+        attempts.put(attempt);
+        if (completion.has("playerName")) {
+            playerStore.applyCompletion(completion.get("playerName").getAsString(), attempt,
+                    completion.get("scoreDelta").getAsInt());
+        }
+    }
 
-            Quiz quiz = attempt.getQuiz();
-            if (quiz == null) {
-                continue;
+    /**
+     * Folds the journal into the snapshot files and empties it.
+     * The player store is flushed first because completion records in the journal
+     * are the only durable copy of score changes it has not written yet.
+     * Replaying a record that is already in the snapshot is harmless, so a crash
+     * between the steps loses nothing.
+     */
+    private void compactAttempts() {
+        journalLock.writeLock().lock();
+        try {
+            // other processes stay out until the journal is reset, and what they
+            // appended so far is folded in rather than dropped with it
+            attemptJournal.lock();
+            try {
+                applyNewRecords();
+                PlayerDataAccessObject.flush();
+                if (quizzesDirty && !saveQuizzesToFile()) {
+                    return;
+                }
+                if (!saveAttemptsToFile()) {
+                    return;
+                }
+                attemptJournal.reset();
+            } finally {
+                attemptJournal.unlock();
             }
+        } catch (IOException e) {
+            System.err.println("Failed to compact attempt journal: " + e.getMessage());
+        } finally {
+            journalLock.writeLock().unlock();
+        }
+    }
 
-            List<Question> questionList = quiz.getQuestions();
-            if (questionList == null || questionList.isEmpty()) {
-                continue;
+    /** Applies an attempt in memory and journals it, serialized with other writers of that attempt. */
+    private void writeAttempt(QuizAttempt attempt) {
+        // serialized first: if its quiz cannot be added to the question table, nothing is applied
+        String record = gson.toJson(attempt, QuizAttempt.class);
+        boolean compact;
+        journalLock.readLock().lock();
+        try {
+            synchronized (attempts.lockFor(attempt.getAttemptId())) {
+                attempts.put(attempt);
+                compact = appendRecord(record);
             }
+        } finally {
+            journalLock.readLock().unlock();
+        }
+        if (compact) {
+            compactAttempts();
+        }
+    }
 
-            List<String> userAnswers = attempt.getUserAnswers();
-            List<Integer> selectedIndices = attempt.getSelectedOptionIndices();
-
-            int size = questionList.size();
+    @Override
+    public void saveAttempt(QuizAttempt attempt) {
+        writeAttempt(attempt);
+    }
 
-            for (int i = 0; i < size; i++) {
-                Question q = questionList.get(i);
-                if (q == null) {
-                    continue;
+    /**
+     * Finishing a quiz registers the quiz, stores the attempt and credits the player
+     * through {@code players}. All three are applied in memory while the journal is
+     * held, so compaction never folds the record away before the player has it,
+     * and are made durable by a single journal record;
+     * custom_quizzes.json, quiz_attempts.json and player.json catch up later.
+     * If the quiz cannot be added to the question table a JsonIOException is thrown
+     * before anything is applied.
+     */
+    @Override
+    public void commitCompletion(QuizCompletion completion, PlayerProgressDataAccessInterface players) {
+        QuizAttempt attempt = completion.getAttempt();
+        JsonObject body = new JsonObject();
+        if (completion.getQuiz() != null) {
+            body.add("quiz", gson.toJsonTree(completion.getQuiz(), Quiz.class));
+        }
+        body.add("attempt", gson.toJsonTree(attempt, QuizAttempt.class));
+        body.addProperty("playerName", completion.getPlayerName());
+        body.addProperty("scoreDelta", completion.getScoreDelta());
+        JsonObject record = new JsonObject();
+        record.add(COMPLETION_KIND, body);
+
+        boolean compact;
+        journalLock.readLock().lock();
+        try {
+            synchronized (attempts.lockFor(attempt.getAttemptId())) {
+                if (completion.getQuiz() != null) {
+                    quizzes.put(completion.getQuiz());
+                    quizzesDirty = true;
                 }
-
-                String correct = q.getCorrectAnswer();
-                if (correct == null) {
-                    continue;
+                attempts.put(attempt);
+                if (completion.getPlayerName() != null) {
+                    players.applyCompletion(completion.getPlayerName(), attempt, completion.getScoreDelta());
                 }
+                compact = appendRecord(gson.toJson(record));
+            }
+        } finally {
+            journalLock.readLock().unlock();
+        }
+        if (compact) {
+            compactAttempts();
+        }
+    }
 
-                String userAns = null;
+    @Override
+    public Quiz getQuizById(String quizId) {
+        return quizzes.get(quizId);
+    }
 
-                if (userAnswers != null && i < userAnswers.size()) {
-                    userAns = userAnswers.get(i);
-                }
-                else if (selectedIndices != null && i < selectedIndices.size()) {
-                    Integer idx = selectedIndices.get(i);
-                    List<String> opts = q.getOptions();
-                    if (idx != null && idx >= 0 && opts != null && idx < opts.size()) {
-                        userAns = opts.get(idx);
-                    }
-                }
+    /** Attempts of the player, as an immutable snapshot. */
+    @Override
+    public List<QuizAttempt> getAttemptsForPlayer(String playerName) {
+        return attempts.group(playerName);
+    }
 
-                if (userAns == null) {
-                    continue;
-                }
+    @Override
+    public int getAttemptCount(String playerName) {
+        return attempts.group(playerName).size();
+    }
 
-                if (!correct.equals(userAns)) {
-                    WrongQuestionRecord record = new WrongQuestionRecord(
-                            quiz.getId(),
-                            quiz.getTitle(),
-                            q.getQuestionText(),
-                            q.getOptions(),
-                            correct
-                    );
-                    result.add(record);
-                }
-            }
-        }
+    @Override
+    public List<QuizAttempt> getAttemptsAfter(String playerName, PastQuizCursor cursor, int limit) {
+        // the group is a snapshot, so the page is consistent without locking
+        return PastQuizCursor.pageAfter(attempts.group(playerName), cursor, limit);
+    }
+
+    @Override
+    public Optional<QuizAttempt> getAttemptById(String attemptId) {
+        return Optional.ofNullable(attempts.get(attemptId));
+    }
 
-        return result;
+    @Override
+    public void updateAttempt(QuizAttempt updatedAttempt) {
+        writeAttempt(updatedAttempt);
+    }
+
+    @Override
+    public List<WrongQuestionRecord> getWrongQuestionsForPlayer(String playerName) {
+        // the player store grades attempts as they are saved or edited
+        return playerStore.getWrongQuestionsForPlayer(playerName);
     }
 
 
@@ -0,0 +1,310 @@
+package trivia.framework.dao;
+
+import trivia.framework.metrics.MetricsRegistry;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Append-only journal of length-prefixed UTF-8 records.
+ *
+ * Each record is stored as a 4-byte big-endian length followed by that many
+ * bytes of UTF-8 text (JSON in practice). Appending never touches earlier
+ * bytes, so a write costs the size of one record no matter how long the
+ * history is. A record torn by a crash in the middle of an append is
+ * detected on replay and cut off, leaving every earlier record intact.
+ *
+ * Several processes may share a journal. Every read and write holds a
+ * {@link ProcessLock} on a lock file next to it, and {@link #readNew()} returns
+ * only the records appended since this instance last read. {@link #reset()}
+ * starts the file with a generation header (a length of -1 and a counter), so a
+ * reader that comes back after another process reset the journal notices and
+ * reads the new generation from the start. Files without a header are generation 0.
+ */
+public class RecordJournal {
+
+    /** Upper bound for a single record; anything larger is treated as corruption. */
+    private static final int MAX_RECORD_BYTES = 64 * 1024 * 1024;
+
+    /** Length value that marks the generation header at the start of the file. */
+    private static final int GENERATION_MARKER = -1;
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+
+    private final Path path;
+    private final ProcessLock processLock;
+    private volatile FileChannel channel;
+    private final AtomicBoolean unsynced = new AtomicBoolean();
+    private volatile int recordCount;
+    // how far this instance has read, and in which generation; guarded by processLock
+    private long generation;
+    private long position;
+
+    public RecordJournal(String filePath) {
+        this.path = Paths.get(filePath);
+        this.processLock = ProcessLock.forFile(Paths.get(filePath + ".lock"));
+    }
+
+    /**
+     * Reads every complete record in append order.
+     * A torn or corrupt tail is truncated so later appends start on a record boundary.
+     */
+    public List<String> replay() {
+        try {
+            processLock.lock();
+        } catch (IOException e) {
+            System.err.println("Failed to lock journal " + path + ": " + e.getMessage());
+            return new ArrayList<>();
+        }
+        try {
+            return read(true).getRecords();
+        } catch (IOException e) {
+            System.err.println("Failed to replay journal " + path + ": " + e.getMessage());
+            return new ArrayList<>();
+        } finally {
+            processLock.unlock();
+        }
+    }
+
+    /**
+     * Reads the records appended, by this process or another, since this instance
+     * last read the journal. After a reset by someone else, reads the whole new generation.
+     */
+    public Tail readNew() throws IOException {
+        processLock.lock();
+        try {
+            return read(false);
+        } finally {
+            processLock.unlock();
+        }
+    }
+
+    /** Appends one record to the end of the journal. */
+    public void append(String record) throws IOException {
+        byte[] body = record.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + body.length);
+        buffer.putInt(body.length).put(body).flip();
+
+        processLock.lock();
+        try {
+            FileChannel out = openChannel();
+            long end = out.size();
+            // with nothing unread in front of it, the record need not come back from readNew
+            boolean caughtUp = end == position && generationOf(out, end) == generation;
+            while (buffer.hasRemaining()) {
+                end += out.write(buffer, end);
+            }
+            MetricsRegistry.global().recordBytesWritten(Integer.BYTES + body.length);
+            unsynced.set(true);
+            if (caughtUp) {
+                position = end;
+                recordCount++;
+            }
+        } finally {
+            processLock.unlock();
+        }
+    }
+
+    /**
+     * Flushes appended records to the storage device. Does nothing if nothing was
+     * appended since the last call. Usually reached through {@link StorageWriter#force}
+     * so that concurrent callers share one fsync. Takes no lock, so the committer
+     * thread never waits for a caller that holds the journal.
+     */
+    public void force() throws IOException {
+        FileChannel out = channel;
+        if (unsynced.getAndSet(false) && out != null && out.isOpen()) {
+            try {
+                out.force(false);
+            } catch (IOException e) {
+                unsynced.set(true);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Drops every record, typically right after the records were folded into a snapshot,
+     * and starts the next generation.
+     */
+    public void reset() throws IOException {
+        processLock.lock();
+        try {
+            FileChannel out = openChannel();
+            long next = Math.max(generation, generationOf(out, out.size())) + 1;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(GENERATION_MARKER).putLong(next).flip();
+
+            out.truncate(0);
+            long at = 0;
+            while (header.hasRemaining()) {
+                at += out.write(header, at);
+            }
+            out.force(true);
+            unsynced.set(false);
+            generation = next;
+            position = at;
+            recordCount = 0;
+        } finally {
+            processLock.unlock();
+        }
+    }
+
+    /**
+     * Keeps every other reader and writer of this journal, in this process and in
+     * others, out until {@link #unlock()}. For sequences that must see the journal
+     * unchanged from start to end, such as folding it into a snapshot. Reentrant.
+     */
+    public void lock() throws IOException {
+        processLock.lock();
+    }
+
+    public void unlock() {
+        processLock.unlock();
+    }
+
+    /** Number of records currently in the journal (valid after {@link #replay()}). */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    public void close() {
+        try {
+            processLock.lock();
+        } catch (IOException e) {
+            System.err.println("Failed to lock journal " + path + ": " + e.getMessage());
+            return;
+        }
+        try {
+            FileChannel out = channel;
+            if (out != null) {
+                if (unsynced.getAndSet(false)) {
+                    out.force(false);
+                }
+                out.close();
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to close journal " + path + ": " + e.getMessage());
+        } finally {
+            channel = null;
+            processLock.unlock();
+        }
+    }
+
+    /** Reads from the start, or from where this instance stopped. Caller holds processLock. */
+    private Tail read(boolean fromStart) throws IOException {
+        if (!Files.exists(path)) {
+            boolean reset = !fromStart && position > 0;
+            generation = 0;
+            position = 0;
+            recordCount = 0;
+            return new Tail(new ArrayList<>(), reset);
+        }
+
+        FileChannel in = openChannel();
+        long size = in.size();
+        long diskGeneration = generationOf(in, size);
+        boolean reset = !fromStart && (diskGeneration != generation || size < position);
+        long start = fromStart || reset ? (diskGeneration > 0 ? HEADER_BYTES : 0) : position;
+
+        byte[] data = new byte[(int) (size - start)];
+        readFully(in, ByteBuffer.wrap(data), start);
+        MetricsRegistry.global().recordBytesRead(data.length);
+
+        List<String> records = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        int validEnd = 0;
+        while (buffer.remaining() >= Integer.BYTES) {
+            int length = buffer.getInt();
+            if (length < 0 || length > MAX_RECORD_BYTES || length > buffer.remaining()) {
+                break;
+            }
+            records.add(new String(data, buffer.position(), length, StandardCharsets.UTF_8));
+            buffer.position(buffer.position() + length);
+            validEnd = buffer.position();
+        }
+
+        // appends hold the lock, so a partial record here was torn by a crash
+        if (validEnd < data.length) {
+            System.err.println("Journal " + path + " has a torn tail, dropping "
+                    + (data.length - validEnd) + " bytes");
+            in.truncate(start + validEnd);
+            in.force(true);
+        }
+
+        generation = diskGeneration;
+        position = start + validEnd;
+        recordCount = (fromStart || reset ? 0 : recordCount) + records.size();
+        return new Tail(records, reset);
+    }
+
+    /** Generation in the file's header, or 0 for a file written before headers existed. */
+    private static long generationOf(FileChannel in, long size) throws IOException {
+        if (size < HEADER_BYTES) {
+            return 0;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(in, header, 0);
+        return header.getInt(0) == GENERATION_MARKER ? header.getLong(Integer.BYTES) : 0;
+    }
+
+    private static void readFully(FileChannel in, ByteBuffer buffer, long from) throws IOException {
+        long at = from;
+        while (buffer.hasRemaining()) {
+            int read = in.read(buffer, at);
+            if (read < 0) {
+                throw new EOFException("Journal ended early");
+            }
+            at += read;
+        }
+    }
+
+    private FileChannel openChannel() throws IOException {
+        FileChannel current = channel;
+        if (current == null || !current.isOpen()) {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            current = FileChannel.open(path,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            channel = current;
+        }
+        return current;
+    }
+
+    /** Records returned by {@link #readNew()}. */
+    public static final class Tail {
+        private final List<String> records;
+        private final boolean reset;
+
+        Tail(List<String> records, boolean reset) {
+            this.records = records;
+            this.reset = reset;
+        }
+
+        public List<String> getRecords() {
+            return records;
+        }
+
+        /**
+         * True if the journal was reset since this instance last read it, so the
+         * records start a new generation and whatever was folded out of the old
+         * one is in the snapshot files now.
+         */
+        public boolean isReset() {
+            return reset;
+        }
+    }
+}
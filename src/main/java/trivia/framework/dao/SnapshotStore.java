@@ -0,0 +1,164 @@
+package trivia.framework.dao;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * In-memory table of entities keyed by id, kept in insertion order and grouped by
+ * a secondary key (a quiz's creator, an attempt's player).
+ *
+ * Reads take no lock and copy nothing: {@link #all()} and {@link #group(String)}
+ * return immutable {@link PersistentVector} snapshots that later writes never
+ * change. Writes to the same id are serialized on one of a fixed set of stripe
+ * locks, so an update is never lost; writes to different ids run in parallel and
+ * publish their new vector with a compare-and-set.
+ *
+ * Entries with a null id are appended and can never be replaced, as before.
+ */
+final class SnapshotStore<V> {
+
+    private static final int STRIPES = 64;
+
+    private final Function<V, String> idOf;
+    private final Function<V, String> groupOf;
+    private final LockStripes stripes = new LockStripes(STRIPES);
+
+    private final AtomicReference<PersistentVector<V>> all = new AtomicReference<>(PersistentVector.empty());
+    private final ConcurrentHashMap<String, Integer> positions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, PersistentVector<V>> groups = new ConcurrentHashMap<>();
+    // group each id was filed under and its index there, since the entities themselves are mutable;
+    // both are only changed inside groups.compute for that group
+    private final ConcurrentHashMap<String, String> groupKeys = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Integer> groupPositions = new ConcurrentHashMap<>();
+
+    /**
+     * @param idOf    unique id of an entry, or null
+     * @param groupOf secondary key to list an entry under, or null for none
+     */
+    SnapshotStore(Function<V, String> idOf, Function<V, String> groupOf) {
+        this.idOf = idOf;
+        this.groupOf = groupOf;
+    }
+
+    /**
+     * Monitor that serializes writes of the given id. Callers that must keep
+     * something else in step with an entry (a journal record) hold it around both.
+     */
+    Object lockFor(String id) {
+        return stripes.forKey(id);
+    }
+
+    /** Inserts the entry, or replaces the one with the same id in place. */
+    void put(V value) {
+        String id = idOf.apply(value);
+        String group = groupOf.apply(value);
+        synchronized (lockFor(id)) {
+            Integer position = id != null ? positions.get(id) : null;
+            if (position == null) {
+                int index = append(value);
+                if (id != null) {
+                    positions.put(id, index);
+                }
+                addToGroup(group, id, value);
+                return;
+            }
+
+            replace(position, value);
+            String oldGroup = groupKeys.get(id);
+            if (oldGroup != null && oldGroup.equals(group)) {
+                groups.compute(group, (key, members) -> members.with(groupPositions.get(id), value));
+            } else {
+                removeFromGroup(oldGroup, id);
+                addToGroup(group, id, value);
+            }
+        }
+    }
+
+    V get(String id) {
+        Integer position = id != null ? positions.get(id) : null;
+        // the position is published after the vector that holds it, so this read sees it
+        return position != null ? all.get().get(position) : null;
+    }
+
+    /** Every entry in insertion order, as of now. */
+    List<V> all() {
+        return all.get();
+    }
+
+    /** Entries filed under the group key, in insertion order, as of now. */
+    List<V> group(String key) {
+        List<V> members = key != null ? groups.get(key) : null;
+        return members != null ? members : Collections.emptyList();
+    }
+
+    int size() {
+        return all.get().size();
+    }
+
+    /** Empties the store. Not safe against concurrent writers. */
+    void clear() {
+        all.set(PersistentVector.empty());
+        positions.clear();
+        groups.clear();
+        groupKeys.clear();
+        groupPositions.clear();
+    }
+
+    private int append(V value) {
+        while (true) {
+            PersistentVector<V> current = all.get();
+            if (all.compareAndSet(current, current.plus(value))) {
+                return current.size();
+            }
+        }
+    }
+
+    private void replace(int position, V value) {
+        while (true) {
+            PersistentVector<V> current = all.get();
+            if (all.compareAndSet(current, current.with(position, value))) {
+                return;
+            }
+        }
+    }
+
+    private void addToGroup(String group, String id, V value) {
+        if (group == null) {
+            return;
+        }
+        groups.compute(group, (key, members) -> {
+            PersistentVector<V> current = members != null ? members : PersistentVector.empty();
+            if (id != null) {
+                groupKeys.put(id, key);
+                groupPositions.put(id, current.size());
+            }
+            return current.plus(value);
+        });
+    }
+
+    private void removeFromGroup(String group, String id) {
+        if (group == null) {
+            return;
+        }
+        groups.compute(group, (key, members) -> {
+            Integer index = groupPositions.remove(id);
+            groupKeys.remove(id);
+            if (members == null || index == null) {
+                return members;
+            }
+            PersistentVector<V> remaining = members.without(index);
+            for (int i = index; i < remaining.size(); i++) {
+                String movedId = idOf.apply(remaining.get(i));
+                // only entries filed under this group by id have tracked positions
+                if (movedId != null && Objects.equals(groupKeys.get(movedId), key)) {
+                    groupPositions.put(movedId, i);
+                }
+            }
+            return remaining.isEmpty() ? null : remaining;
+        });
+    }
+}
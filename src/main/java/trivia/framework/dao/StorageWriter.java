@@ -0,0 +1,253 @@
+package trivia.framework.dao;
+
+import trivia.framework.metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Durable writer for everything under data/.
+ *
+ * Whole files are replaced by writing a temp file next to the target, fsyncing it
+ * and renaming it over the target, so a crash leaves either the old or the new
+ * file and never a truncated one. Journals are made durable by forcing their channel.
+ *
+ * Requests go through a group-commit queue: everything that arrives within a few
+ * milliseconds of the first request is committed together. Several writes of the
+ * same file collapse into one write of the newest content, and several forces of
+ * the same journal into one fsync. Callers block until their data is on disk.
+ */
+public class StorageWriter {
+
+    /** How long the committer waits for more requests after the first one arrives. */
+    private static final long DEFAULT_WINDOW_MILLIS = 2;
+
+    private static final DateTimeFormatter QUARANTINE_STAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private static StorageWriter shared;
+
+    private final long windowNanos;
+    private final LinkedBlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+    private volatile long groupCommits;
+
+    /** Returns the writer shared by the DAOs. */
+    public static synchronized StorageWriter shared() {
+        if (shared == null) {
+            shared = new StorageWriter(DEFAULT_WINDOW_MILLIS);
+        }
+        return shared;
+    }
+
+    public StorageWriter(long windowMillis) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        Thread committer = new Thread(this::run, "storage-writer");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    /** Atomically replaces the file with the given content and waits until it is durable. */
+    public void write(Path target, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        MetricsRegistry.global().recordBytesWritten(bytes.length);
+        await(submit(new Request(target, bytes, null)));
+    }
+
+    /** Waits until everything appended to the journal so far is durable. */
+    public void force(RecordJournal journal) throws IOException {
+        await(submit(new Request(null, null, journal)));
+    }
+
+    /** Number of group commits performed so far. */
+    public long getGroupCommits() {
+        return groupCommits;
+    }
+
+    /**
+     * Moves an unreadable file aside so it is kept for inspection and is not
+     * overwritten by the next save.
+     *
+     * @return where the file now lives, or null if it could not be moved
+     */
+    public static Path quarantine(Path file) {
+        Path target = file.resolveSibling(file.getFileName() + ".corrupt-"
+                + LocalDateTime.now().format(QUARANTINE_STAMP));
+        try {
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+            System.err.println("⚠ " + file + " could not be read and was moved to " + target);
+            return target;
+        } catch (IOException e) {
+            System.err.println("⚠ " + file + " could not be read or quarantined: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** Temp file + fsync + atomic rename + directory fsync. */
+    static void writeAtomically(Path target, byte[] content) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, "." + target.getFileName() + ".", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            syncDirectory(dir);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /** Makes the rename itself durable; not every platform lets a directory be opened, so this is best effort. */
+    private static void syncDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directories cannot be fsynced on this platform
+        }
+    }
+
+    private CompletableFuture<Void> submit(Request request) {
+        queue.add(request);
+        return request.done;
+    }
+
+    private static void await(CompletableFuture<Void> done) throws IOException {
+        try {
+            done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for storage write");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void run() {
+        while (true) {
+            try {
+                List<Request> batch = new ArrayList<>();
+                batch.add(queue.take());
+
+                long deadline = System.nanoTime() + windowNanos;
+                long remaining;
+                while ((remaining = deadline - System.nanoTime()) > 0) {
+                    Request next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                queue.drainTo(batch);
+
+                commit(batch);
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                System.err.println("Storage writer error: " + e.getMessage());
+            }
+        }
+    }
+
+    private void commit(List<Request> batch) {
+        // Journals first, in the order they were asked for; then the newest content of each file.
+        Map<RecordJournal, List<Request>> forces = new IdentityHashMap<>();
+        List<RecordJournal> journalOrder = new ArrayList<>();
+        Map<Path, List<Request>> writes = new HashMap<>();
+        Map<Path, Request> newest = new HashMap<>();
+        List<Path> writeOrder = new ArrayList<>();
+
+        for (Request request : batch) {
+            if (request.journal != null) {
+                if (!forces.containsKey(request.journal)) {
+                    journalOrder.add(request.journal);
+                }
+                forces.computeIfAbsent(request.journal, j -> new ArrayList<>()).add(request);
+            } else {
+                Path target = request.target.toAbsolutePath().normalize();
+                if (!writes.containsKey(target)) {
+                    writeOrder.add(target);
+                }
+                writes.computeIfAbsent(target, t -> new ArrayList<>()).add(request);
+                newest.put(target, request);
+            }
+        }
+
+        for (RecordJournal journal : journalOrder) {
+            IOException failure = null;
+            try {
+                journal.force();
+            } catch (IOException e) {
+                failure = e;
+            }
+            complete(forces.get(journal), failure);
+        }
+
+        for (Path target : writeOrder) {
+            IOException failure = null;
+            try {
+                writeAtomically(target, newest.get(target).content);
+            } catch (IOException e) {
+                failure = e;
+            }
+            complete(writes.get(target), failure);
+        }
+
+        groupCommits++;
+    }
+
+    private static void complete(List<Request> requests, IOException failure) {
+        for (Request request : requests) {
+            if (failure == null) {
+                request.done.complete(null);
+            } else {
+                request.done.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /** Either a whole-file write (target + content) or a journal force. */
+    private static class Request {
+        private final Path target;
+        private final byte[] content;
+        private final RecordJournal journal;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        Request(Path target, byte[] content, RecordJournal journal) {
+            this.target = target;
+            this.content = content;
+            this.journal = journal;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package trivia.framework.dao;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import trivia.entity.Player;
+import trivia.entity.Question;
+import trivia.entity.Quiz;
+import trivia.entity.QuizAttempt;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Writes a data directory the DAOs can load (player.json, custom_quizzes.json,
+ * quiz_attempts.json and questions.journal) at any size, for benchmarks and soak
+ * tests.
+ *
+ * Activity is skewed the way real usage is: which player takes an attempt and
+ * which quiz is taken both follow a Zipf distribution over player and quiz rank,
+ * so player0 and the first quizzes are the busiest. An exponent of 0 spreads
+ * everything evenly. The same seed always produces byte-identical files.
+ *
+ * Run standalone with a new or empty output directory:
+ * {@code java trivia.framework.dao.SyntheticDataGenerator --out dir [--players 1000]
+ * [--quizzes-per-player 2] [--attempts-per-player 50] [--questions 10]
+ * [--activity-skew 1.0] [--quiz-skew 1.0] [--seed 42]}.
+ */
+public class SyntheticDataGenerator {
+
+    private static final String[] CATEGORIES = {
+            "General Knowledge", "Entertainment: Film", "Entertainment: Music", "Science & Nature",
+            "Science: Computers", "Sports", "Geography", "History", "Animals", "Vehicles"
+    };
+    private static final String[] DIFFICULTIES = {"easy", "medium", "hard"};
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private final long seed;
+    private int players = 1000;
+    private int quizzesPerPlayer = 2;
+    private int attemptsPerPlayer = 50;
+    private int questionsPerQuiz = 10;
+    private double activitySkew = 1.0;
+    private double quizSkew = 1.0;
+
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public SyntheticDataGenerator setPlayers(int players) {
+        this.players = Math.max(1, players);
+        return this;
+    }
+
+    public SyntheticDataGenerator setQuizzesPerPlayer(int quizzesPerPlayer) {
+        this.quizzesPerPlayer = Math.max(0, quizzesPerPlayer);
+        return this;
+    }
+
+    /** Average attempts per player; the total is players times this. */
+    public SyntheticDataGenerator setAttemptsPerPlayer(int attemptsPerPlayer) {
+        this.attemptsPerPlayer = Math.max(0, attemptsPerPlayer);
+        return this;
+    }
+
+    public SyntheticDataGenerator setQuestionsPerQuiz(int questionsPerQuiz) {
+        this.questionsPerQuiz = Math.max(1, questionsPerQuiz);
+        return this;
+    }
+
+    /** Zipf exponent for how attempts are spread over players; 0 is uniform. */
+    public SyntheticDataGenerator setActivitySkew(double activitySkew) {
+        this.activitySkew = activitySkew;
+        return this;
+    }
+
+    /** Zipf exponent for how attempts are spread over quizzes; 0 is uniform. */
+    public SyntheticDataGenerator setQuizSkew(double quizSkew) {
+        this.quizSkew = quizSkew;
+        return this;
+    }
+
+    public static String playerName(int rank) {
+        return "player" + rank;
+    }
+
+    /**
+     * Writes the four files into {@code directory}, which must be new or empty: the
+     * DAOs also read journals, statistics and lock files kept next to them, and a
+     * leftover one would be mixed into the generated data.
+     * Quizzes are held in memory while attempts are streamed out player by player.
+     *
+     * @return the number of attempts written
+     * @throws DirectoryNotEmptyException if {@code directory} already holds anything
+     */
+    public long write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            if (entries.iterator().hasNext()) {
+                throw new DirectoryNotEmptyException(directory.toString());
+            }
+        }
+        Path journal = directory.resolve("questions.journal");
+        QuestionTable table = new QuestionTable(journal.toString());
+        Gson gson = JsonCodecs.create(table);
+        Random random = new Random(seed);
+
+        List<Quiz> quizzes = createQuizzes(random);
+        try (Writer writer = Files.newBufferedWriter(directory.resolve("custom_quizzes.json"), StandardCharsets.UTF_8);
+             JsonWriter out = gson.newJsonWriter(writer)) {
+            out.beginArray();
+            for (Quiz quiz : quizzes) {
+                gson.toJson(quiz, Quiz.class, out);
+            }
+            out.endArray();
+        }
+
+        int[] attemptCounts = spreadAttempts(random);
+        Zipf quizPicker = new Zipf(quizzes.size(), quizSkew);
+        long written = 0;
+
+        try (Writer playerFile = Files.newBufferedWriter(directory.resolve("player.json"), StandardCharsets.UTF_8);
+             Writer attemptFile = Files.newBufferedWriter(directory.resolve("quiz_attempts.json"), StandardCharsets.UTF_8);
+             JsonWriter playersOut = gson.newJsonWriter(playerFile);
+             JsonWriter attemptsOut = gson.newJsonWriter(attemptFile)) {
+            playersOut.beginArray();
+            attemptsOut.beginArray();
+            for (int p = 0; p < players; p++) {
+                Player player = new Player(playerName(p), "pw" + p);
+                double skill = 0.3 + 0.6 * random.nextDouble();
+                LocalDateTime completedAt = START.plusMinutes(random.nextInt(60 * 24 * 30));
+                for (int a = 0; a < attemptCounts[p]; a++) {
+                    completedAt = completedAt.plusMinutes(5 + random.nextInt(60 * 24));
+                    Quiz quiz = quizzes.get(quizPicker.sample(random));
+                    QuizAttempt attempt = attempt(player, quiz, written++, skill, completedAt, random);
+                    player.addAttempt(attempt);
+                    player.setScore(player.getScore() + attempt.getScore());
+                    gson.toJson(attempt, QuizAttempt.class, attemptsOut);
+                }
+                gson.toJson(player, Player.class, playersOut);
+            }
+            attemptsOut.endArray();
+            playersOut.endArray();
+        }
+
+        table.getJournal().close();
+        return written;
+    }
+
+    private List<Quiz> createQuizzes(Random random) {
+        // every attempt needs a quiz, so there is at least one even with no creators
+        int count = Math.max(1, players * quizzesPerPlayer);
+        List<Quiz> quizzes = new ArrayList<>(count);
+        for (int z = 0; z < count; z++) {
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            String difficulty = DIFFICULTIES[random.nextInt(DIFFICULTIES.length)];
+            List<Question> questions = new ArrayList<>(questionsPerQuiz);
+            for (int i = 0; i < questionsPerQuiz; i++) {
+                String stem = z + "." + i;
+                String[] options = {"Option A " + stem, "Option B " + stem, "Option C " + stem, "Option D " + stem};
+                String correct = options[random.nextInt(options.length)];
+                questions.add(new Question("sq-" + stem, "Synthetic " + category + " question " + stem + "?",
+                        Arrays.asList(options), correct, category, difficulty));
+            }
+            String creator = quizzesPerPlayer > 0 ? playerName(z / quizzesPerPlayer) : playerName(0);
+            quizzes.add(new Quiz("synthetic-quiz-" + z, category + " #" + z, category, difficulty,
+                    creator, questions));
+        }
+        return quizzes;
+    }
+
+    /** Attempts per player: players * attemptsPerPlayer draws from the activity distribution. */
+    private int[] spreadAttempts(Random random) {
+        int[] counts = new int[players];
+        Zipf picker = new Zipf(players, activitySkew);
+        long total = (long) players * attemptsPerPlayer;
+        for (long i = 0; i < total; i++) {
+            counts[picker.sample(random)]++;
+        }
+        return counts;
+    }
+
+    /** A finished attempt where each question is answered correctly with probability {@code skill}. */
+    private static QuizAttempt attempt(Player player, Quiz quiz, long number, double skill,
+                                       LocalDateTime completedAt, Random random) {
+        List<Question> questions = quiz.getQuestions();
+        List<String> answers = new ArrayList<>(questions.size());
+        List<Integer> indices = new ArrayList<>(questions.size());
+        int score = 0;
+        for (Question q : questions) {
+            int correct = q.getCorrectOptionIndex();
+            int index;
+            if (random.nextDouble() < skill) {
+                index = correct;
+                score++;
+            } else {
+                index = (correct + 1 + random.nextInt(q.getOptionCount() - 1)) % q.getOptionCount();
+            }
+            answers.add(q.getOption(index));
+            indices.add(index);
+        }
+        QuizAttempt attempt = new QuizAttempt("synthetic-attempt-" + number, quiz, questions.size(),
+                player.getPlayerName(), completedAt.toString(), answers, score);
+        attempt.setSelectedOptionIndices(indices);
+        attempt.compactAnswers();
+        return attempt;
+    }
+
+    /** Samples ranks 0..n-1 with probability proportional to 1 / (rank + 1)^exponent. */
+    static class Zipf {
+        private final double[] cumulative;
+
+        Zipf(int n, double exponent) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int k = 0; k < n; k++) {
+                sum += 1.0 / Math.pow(k + 1, exponent);
+                cumulative[k] = sum;
+            }
+            for (int k = 0; k < n; k++) {
+                cumulative[k] /= sum;
+            }
+        }
+
+        int sample(Random random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            int rank = index >= 0 ? index : -index - 1;
+            return Math.min(rank, cumulative.length - 1);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        Path out = Paths.get(options.getOrDefault("out", "data/synthetic"));
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(
+                Long.parseLong(options.getOrDefault("seed", "42")))
+                .setPlayers(Integer.parseInt(options.getOrDefault("players", "1000")))
+                .setQuizzesPerPlayer(Integer.parseInt(options.getOrDefault("quizzes-per-player", "2")))
+                .setAttemptsPerPlayer(Integer.parseInt(options.getOrDefault("attempts-per-player", "50")))
+                .setQuestionsPerQuiz(Integer.parseInt(options.getOrDefault("questions", "10")))
+                .setActivitySkew(Double.parseDouble(options.getOrDefault("activity-skew", "1.0")))
+                .setQuizSkew(Double.parseDouble(options.getOrDefault("quiz-skew", "1.0")));
+        long attempts = generator.write(out);
+        System.out.println("Wrote " + attempts + " attempts to " + out.toAbsolutePath()
+                + "; run the app with -D" + DataDirectory.PROPERTY + "=" + out);
+    }
+}
@@ -0,0 +1,167 @@
+package trivia.framework.dao;
+
+import trivia.entity.Question;
+import trivia.entity.Quiz;
+import trivia.entity.QuizAttempt;
+import trivia.use_case.generate_from_wrong.WrongQuestionRecord;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One player's wrong questions, keyed by question fingerprint.
+ *
+ * Each attempt's misses are remembered, so saving or editing an attempt only
+ * adjusts the questions that attempt touches instead of re-grading the whole
+ * history. Reading the index costs one record per distinct wrong question.
+ * Not thread-safe; PlayerDataAccessObject guards it with the owner's lock stripe.
+ */
+public class WrongQuestionIndex {
+
+    private final QuestionTable table;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final Map<String, Set<String>> missesByAttempt = new HashMap<>();
+
+    public WrongQuestionIndex(QuestionTable table) {
+        this.table = table;
+    }
+
+    /** Adds or replaces the misses contributed by one attempt. */
+    public void put(QuizAttempt attempt) {
+        if (attempt == null || attempt.getAttemptId() == null) {
+            return;
+        }
+        Set<String> previous = missesByAttempt.remove(attempt.getAttemptId());
+        Map<String, Question> missed = grade(attempt);
+
+        if (previous != null) {
+            for (String fingerprint : previous) {
+                if (!missed.containsKey(fingerprint)) {
+                    decrement(fingerprint);
+                }
+            }
+        }
+
+        Quiz quiz = attempt.getQuiz();
+        for (Map.Entry<String, Question> miss : missed.entrySet()) {
+            Entry entry = entries.get(miss.getKey());
+            if (entry == null) {
+                entry = new Entry(miss.getValue(), quiz.getId(), quiz.getTitle());
+                entries.put(miss.getKey(), entry);
+            }
+            if (previous == null || !previous.contains(miss.getKey())) {
+                entry.missCount++;
+            }
+            String completedAt = attempt.getCompletedAt();
+            if (completedAt != null && (entry.lastMissed == null || completedAt.compareTo(entry.lastMissed) > 0)) {
+                entry.lastMissed = completedAt;
+            }
+        }
+
+        if (!missed.isEmpty()) {
+            missesByAttempt.put(attempt.getAttemptId(), missed.keySet());
+        }
+    }
+
+    /** Withdraws everything an attempt contributed. */
+    public void remove(String attemptId) {
+        Set<String> previous = missesByAttempt.remove(attemptId);
+        if (previous != null) {
+            for (String fingerprint : previous) {
+                decrement(fingerprint);
+            }
+        }
+    }
+
+    public List<WrongQuestionRecord> getRecords() {
+        List<WrongQuestionRecord> records = new ArrayList<>(entries.size());
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            Entry entry = e.getValue();
+            Question q = entry.question;
+            records.add(new WrongQuestionRecord(entry.sourceQuizId, entry.label, q.getQuestionText(),
+                    q.getOptions(), q.getCorrectAnswer(), e.getKey(), entry.missCount, entry.lastMissed));
+        }
+        return records;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void decrement(String fingerprint) {
+        Entry entry = entries.get(fingerprint);
+        if (entry != null && --entry.missCount <= 0) {
+            entries.remove(fingerprint);
+        }
+    }
+
+    /**
+     * Questions the attempt got wrong, by fingerprint. The selected option is used
+     * when known (it is what review edits change); otherwise the stored answer text.
+     * Unanswered questions count as wrong, questions with no answer recorded do not.
+     */
+    private Map<String, Question> grade(QuizAttempt attempt) {
+        Map<String, Question> missed = new LinkedHashMap<>();
+        Quiz quiz = attempt.getQuiz();
+        if (quiz == null || quiz.getQuestions() == null) {
+            return missed;
+        }
+
+        List<Question> questions = quiz.getQuestions();
+        List<Integer> selected = attempt.getSelectedOptionIndices();
+        List<String> answers = attempt.getUserAnswers();
+
+        for (int i = 0; i < questions.size(); i++) {
+            Question q = questions.get(i);
+            if (q == null || q.getCorrectAnswer() == null) {
+                continue;
+            }
+
+            String answer = answerAt(q, i, selected, answers);
+            if (answer == null) {
+                continue;
+            }
+
+            if (!q.getCorrectAnswer().equals(answer)) {
+                missed.put(table.fingerprintOf(q), q);
+            }
+        }
+        return missed;
+    }
+
+    /**
+     * The answer given to question {@code i}: the selected option when one was recorded,
+     * otherwise the stored answer text. Legacy attempts only stored texts, and a text that
+     * is not one of the options is read back with no option (-1), so such answers are
+     * still graded by their text. Empty when unanswered, null when no answer was recorded.
+     */
+    static String answerAt(Question q, int i, List<Integer> selected, List<String> answers) {
+        if (selected != null && i < selected.size()) {
+            Integer index = selected.get(i);
+            List<String> options = q.getOptions();
+            if (index != null && index >= 0 && options != null && index < options.size()) {
+                return options.get(index);
+            }
+            return i < answers.size() ? answers.get(i) : "";
+        }
+        return i < answers.size() ? answers.get(i) : null;
+    }
+
+    private static class Entry {
+        private final Question question;
+        private final String sourceQuizId;
+        private final String label;
+        private int missCount;
+        private String lastMissed;
+
+        Entry(Question question, String sourceQuizId, String label) {
+            this.question = question;
+            this.sourceQuizId = sourceQuizId;
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package trivia.framework.metrics;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Call counts, error counts, latency percentiles and bytes moved for every
+ * interactor and data access operation.
+ *
+ * AppFactory wraps each input boundary and each data access object in a dynamic
+ * proxy from {@link #instrument(Object, Class)}; every interface method called
+ * through it is timed as the operation "Component.method". Persistence code
+ * reports the bytes it reads and writes with {@link #recordBytesRead(long)} and
+ * {@link #recordBytesWritten(long)}, which are charged to the innermost operation
+ * running on the calling thread, or to "storage.background" for write-behind work.
+ *
+ * Each operation is registered as an MBean named
+ * {@code trivia:type=Operation,component=...,name=...}, and {@link #dump()} renders
+ * all of them as a text table, which {@link #startDumping(Path, long)} writes to a
+ * file periodically. Run with -Dtrivia.metrics=false to hand out the unwrapped objects.
+ */
+public class MetricsRegistry {
+
+    private static final MetricsRegistry global = new MetricsRegistry("trivia",
+            Boolean.parseBoolean(System.getProperty("trivia.metrics", "true")));
+
+    private final String domain;
+    private final boolean enabled;
+    private final Map<String, OperationMetrics> operations = new ConcurrentSkipListMap<>();
+    private final ThreadLocal<OperationMetrics> current = new ThreadLocal<>();
+    private final Map<Object, Object> proxies = new IdentityHashMap<>();
+    private ScheduledExecutorService dumper;
+
+    /** The registry AppFactory and the DAOs report to. */
+    public static MetricsRegistry global() {
+        return global;
+    }
+
+    /**
+     * @param domain  JMX domain the operations are registered under
+     * @param enabled if false, {@link #instrument(Object, Class)} returns its target unwrapped
+     */
+    public MetricsRegistry(String domain, boolean enabled) {
+        this.domain = domain;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns {@code target} behind a proxy that records every call made through any
+     * of its interfaces, typed as {@code type}. The same target always gets the same
+     * proxy, so one DAO handed out under several interfaces is counted in one place.
+     */
+    public <T> T instrument(Object target, Class<T> type) {
+        if (!enabled || target == null) {
+            return type.cast(target);
+        }
+        synchronized (proxies) {
+            Object proxy = proxies.get(target);
+            if (proxy == null) {
+                Set<Class<?>> interfaces = new LinkedHashSet<>();
+                for (Class<?> c = target.getClass(); c != null; c = c.getSuperclass()) {
+                    Collections.addAll(interfaces, c.getInterfaces());
+                }
+                proxy = Proxy.newProxyInstance(target.getClass().getClassLoader(),
+                        interfaces.toArray(new Class<?>[0]),
+                        new Recorder(target, target.getClass().getSimpleName()));
+                proxies.put(target, proxy);
+            }
+            return type.cast(proxy);
+        }
+    }
+
+    /** The operation's metrics, created and registered with JMX on first use. */
+    public OperationMetrics operation(String component, String name) {
+        String key = component + "." + name;
+        OperationMetrics metrics = operations.get(key);
+        if (metrics != null) {
+            return metrics;
+        }
+        synchronized (operations) {
+            metrics = operations.get(key);
+            if (metrics == null) {
+                metrics = new OperationMetrics(component, name);
+                register(metrics);
+                operations.put(key, metrics);
+            }
+            return metrics;
+        }
+    }
+
+    public List<OperationMetrics> getOperations() {
+        return new ArrayList<>(operations.values());
+    }
+
+    public void recordBytesRead(long bytes) {
+        charged().addBytesRead(bytes);
+    }
+
+    public void recordBytesWritten(long bytes) {
+        charged().addBytesWritten(bytes);
+    }
+
+    private OperationMetrics charged() {
+        OperationMetrics running = current.get();
+        return running != null ? running : operation("storage", "background");
+    }
+
+    /** All operations as a fixed-width text table, busiest first. */
+    public String dump() {
+        List<OperationMetrics> sorted = getOperations();
+        sorted.sort((a, b) -> Long.compare(b.getCalls(), a.getCalls()));
+
+        StringBuilder out = new StringBuilder();
+        out.append("# trivia metrics at ").append(LocalDateTime.now()).append(System.lineSeparator());
+        out.append(String.format("%-60s %10s %7s %10s %10s %10s %12s %12s%n",
+                "operation", "calls", "errors", "p50 us", "p99 us", "p99.9 us", "read B", "written B"));
+        for (OperationMetrics m : sorted) {
+            out.append(String.format("%-60s %10d %7d %10d %10d %10d %12d %12d%n",
+                    m.getComponent() + "." + m.getName(), m.getCalls(), m.getErrors(),
+                    m.getP50Micros(), m.getP99Micros(), m.getP999Micros(),
+                    m.getBytesRead(), m.getBytesWritten()));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Rewrites {@code file} with {@link #dump()} every {@code periodSeconds}
+     * seconds from a daemon thread. A period of 0 or less turns dumping off.
+     */
+    public synchronized void startDumping(Path file, long periodSeconds) {
+        if (periodSeconds <= 0 || dumper != null) {
+            return;
+        }
+        dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> writeDump(file), periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    private void writeDump(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.writeString(temp, dump(), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("Failed to write metrics dump: " + e.getMessage());
+        }
+    }
+
+    private void register(OperationMetrics metrics) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(domain + ":type=Operation,component="
+                    + ObjectName.quote(metrics.getComponent()) + ",name=" + ObjectName.quote(metrics.getName()));
+            if (!server.isRegistered(name)) {
+                server.registerMBean(metrics, name);
+            }
+        } catch (Exception e) {
+            // metrics stay available through dump() even without JMX
+            System.err.println("Failed to register metrics MBean: " + e.getMessage());
+        }
+    }
+
+    /** Times every interface call on the target as the operation "component.method". */
+    private class Recorder implements InvocationHandler {
+        private final Object target;
+        private final String component;
+
+        Recorder(Object target, String component) {
+            this.target = target;
+            this.component = component;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(target, args);
+            }
+            OperationMetrics metrics = operation(component, method.getName());
+            OperationMetrics outer = current.get();
+            current.set(metrics);
+            boolean failed = true;
+            long start = System.nanoTime();
+            try {
+                Object result = method.invoke(target, args);
+                failed = false;
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                metrics.record(System.nanoTime() - start, failed);
+                current.set(outer);
+            }
+        }
+    }
+}
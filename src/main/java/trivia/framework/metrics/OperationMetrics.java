@@ -0,0 +1,90 @@
+package trivia.framework.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histogram of one operation.
+ */
+public class OperationMetrics implements OperationMetricsMBean {
+
+    private final String component;
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    OperationMetrics(String component, String name) {
+        this.component = component;
+        this.name = name;
+    }
+
+    public String getComponent() {
+        return component;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Records one finished call. */
+    public void record(long nanos, boolean failed) {
+        calls.increment();
+        if (failed) {
+            errors.increment();
+        }
+        totalNanos.add(nanos);
+        latency.record(nanos);
+    }
+
+    public void addBytesRead(long bytes) {
+        bytesRead.add(bytes);
+    }
+
+    public void addBytesWritten(long bytes) {
+        bytesWritten.add(bytes);
+    }
+
+    @Override
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        long count = calls.sum();
+        return count == 0 ? 0 : totalNanos.sum() / 1000.0 / count;
+    }
+
+    @Override
+    public long getP50Micros() {
+        return latency.percentile(0.5) / 1000;
+    }
+
+    @Override
+    public long getP99Micros() {
+        return latency.percentile(0.99) / 1000;
+    }
+
+    @Override
+    public long getP999Micros() {
+        return latency.percentile(0.999) / 1000;
+    }
+
+    @Override
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+}
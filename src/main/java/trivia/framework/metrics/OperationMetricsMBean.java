@@ -0,0 +1,24 @@
+package trivia.framework.metrics;
+
+/**
+ * JMX view of one instrumented operation, e.g. PlayerDataAccessObject.loadPlayer.
+ * Latencies are in microseconds.
+ */
+public interface OperationMetricsMBean {
+
+    long getCalls();
+
+    long getErrors();
+
+    double getMeanMicros();
+
+    long getP50Micros();
+
+    long getP99Micros();
+
+    long getP999Micros();
+
+    long getBytesRead();
+
+    long getBytesWritten();
+}
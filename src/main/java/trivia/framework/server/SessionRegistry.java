@@ -0,0 +1,119 @@
+package trivia.framework.server;
+
+import trivia.entity.Question;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The players signed in to the server, by session token, and the questions each
+ * of them has been handed to answer.
+ *
+ * Questions are handed out under ids that mean nothing outside the session, so a
+ * completed quiz is graded against the questions the server sent rather than
+ * anything the client sends back, and each one can be answered only once.
+ * Sessions unused for {@link #IDLE_TIMEOUT_MILLIS} are forgotten.
+ */
+class SessionRegistry {
+
+    static final long IDLE_TIMEOUT_MILLIS = TimeUnit.HOURS.toMillis(12);
+
+    /** Questions a session may have outstanding; the oldest are dropped beyond this. */
+    static final int MAX_ISSUED_QUESTIONS = 1000;
+
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    /** Starts a session for a player whose password has been checked and returns its token. */
+    String open(String playerName) {
+        long now = System.currentTimeMillis();
+        sessions.values().removeIf(session -> session.isExpired(now));
+
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        sessions.put(token, new Session(playerName, now));
+        return token;
+    }
+
+    /** The live session for the token, or null if there is none. */
+    Session find(String token) {
+        if (token == null) {
+            return null;
+        }
+        Session session = sessions.get(token);
+        if (session == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (session.isExpired(now)) {
+            sessions.remove(token, session);
+            return null;
+        }
+        session.lastUsed = now;
+        return session;
+    }
+
+    /** One signed-in player. */
+    static class Session {
+        private final String playerName;
+        private volatile long lastUsed;
+        private long nextQuestionId;
+        private final Map<String, Question> issued = new LinkedHashMap<String, Question>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Question> eldest) {
+                return size() > MAX_ISSUED_QUESTIONS;
+            }
+        };
+
+        private Session(String playerName, long now) {
+            this.playerName = playerName;
+            this.lastUsed = now;
+        }
+
+        /** The player's name as it is stored. */
+        String getPlayerName() {
+            return playerName;
+        }
+
+        private boolean isExpired(long now) {
+            return now - lastUsed > IDLE_TIMEOUT_MILLIS;
+        }
+
+        /** Hands the questions to the player and returns the id each was issued under, in order. */
+        synchronized List<String> issue(List<Question> questions) {
+            List<String> ids = new ArrayList<>(questions.size());
+            for (Question question : questions) {
+                String id = "q" + (++nextQuestionId);
+                issued.put(id, question);
+                ids.add(id);
+            }
+            return ids;
+        }
+
+        /**
+         * Takes back the questions issued under the ids, in order, so they cannot be
+         * answered again; null, taking nothing, if any id is unknown, already answered
+         * or repeated.
+         */
+        synchronized List<Question> claim(List<String> ids) {
+            Set<String> distinct = new HashSet<>(ids);
+            if (distinct.size() != ids.size() || !issued.keySet().containsAll(distinct)) {
+                return null;
+            }
+            List<Question> questions = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                questions.add(issued.remove(id));
+            }
+            return questions;
+        }
+    }
+}
@@ -0,0 +1,623 @@
+package trivia.framework.server;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import trivia.entity.Player;
+import trivia.entity.Question;
+import trivia.framework.ServerFactory;
+import trivia.framework.dao.DataDirectory;
+import trivia.framework.metrics.MetricsRegistry;
+import trivia.framework.metrics.OperationMetrics;
+import trivia.interface_adapter.presenter.JsonPresenter;
+import trivia.use_case.complete_quiz.CompleteQuizInputData;
+import trivia.use_case.create_quiz.AddQuestionInputData;
+import trivia.use_case.create_quiz.CreateQuizInputData;
+import trivia.use_case.generate_from_wrong.GenerateFromWrongInputData;
+import trivia.use_case.load_quiz.LoadQuizInputData;
+import trivia.use_case.register_player.RegisterPlayerDataAccessInterface;
+import trivia.use_case.review_quiz.ReviewQuizRequestModel;
+import trivia.use_case.select_quiz.SelectQuizInputData;
+import trivia.use_case.view_profile.ViewProfileInputData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Headless server that exposes the use cases as JSON over HTTP, so many players
+ * can share one JVM instead of each running the Swing app.
+ *
+ * <pre>
+ * POST /api/players                  {playerName, password}
+ * POST /api/sessions                 {playerName, password}   returns {playerName, token}
+ * POST /api/select-quiz            * {categoryId, difficulty, amount}
+ * POST /api/quizzes                * {title, category, difficulty,
+ *                                     questions: [{questionText, options, correctAnswer, category, difficulty}]}
+ * GET  /api/quizzes?player=NAME
+ * POST /api/attempts               * {questionIds, userAnswers, selectedOptionIndices}
+ * GET  /api/attempts?player=NAME[&limit=N[&cursor=C]]   (with limit: one page, newest first)
+ * GET  /api/attempts/ID
+ * PUT  /api/attempts/ID            * {selectedOptionIndices}
+ * GET  /api/attempts/ID/redo       *
+ * POST /api/practice               * {requestedNumber}
+ * GET  /api/profile?player=NAME
+ * </pre>
+ *
+ * Requests marked * act for a signed-in player and need the token from
+ * POST /api/sessions as {@code Authorization: Bearer TOKEN}; they act for that
+ * player, and a playerName or creatorName in the body must name the same one.
+ * Select-quiz and redo hand out their questions without the correct answers,
+ * under ids issued to the session, and a completed quiz names the questions it
+ * answers by those ids, so it is graded against what the server sent.
+ *
+ * Requests run on a fixed pool of worker threads with a bounded queue. When the
+ * queue is full the accepting thread runs the request itself, which stops it from
+ * accepting more until a worker frees up, so overload backs up into the listen
+ * backlog instead of into memory.
+ *
+ * Every request gets its own presenter and interactor from {@link ServerFactory}.
+ * Each endpoint is timed in MetricsRegistry under the component "TriviaHttpServer".
+ *
+ * Run with
+ * {@code java trivia.framework.server.TriviaHttpServer [--host 127.0.0.1] [--port 8080]
+ * [--threads 32] [--queue 256]}.
+ */
+public class TriviaHttpServer {
+
+    /** Request bodies larger than this are refused with 413. */
+    static final int MAX_BODY_BYTES = 1 << 20;
+
+    private static final Set<String> RESOURCES =
+            new HashSet<>(Arrays.asList("players", "sessions", "select-quiz", "quizzes", "attempts",
+                    "practice", "profile"));
+    private static final Set<String> ROUTED_METHODS = new HashSet<>(Arrays.asList("GET", "POST", "PUT"));
+
+    private final ServerFactory factory;
+    private final MetricsRegistry metrics;
+    private final SessionRegistry sessions = new SessionRegistry();
+
+    private HttpServer server;
+    private ThreadPoolExecutor workers;
+
+    public TriviaHttpServer(ServerFactory factory) {
+        this(factory, MetricsRegistry.global());
+    }
+
+    public TriviaHttpServer(ServerFactory factory, MetricsRegistry metrics) {
+        this.factory = factory;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Starts listening; port 0 picks a free port.
+     *
+     * @param threads requests handled at the same time
+     * @param queue   accepted requests that may wait for a worker
+     */
+    public TriviaHttpServer start(String host, int port, int threads, int queue) throws IOException {
+        // respond without waiting on delayed ACKs for the separately written body
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress(host, port), 256);
+        AtomicInteger number = new AtomicInteger();
+        workers = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queue)), runnable -> {
+                    Thread thread = new Thread(runnable, "trivia-http-" + number.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        server.setExecutor(workers);
+        server.createContext("/api/", this::handle);
+        server.start();
+        return this;
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            workers.shutdownNow();
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // ===== Requests =====
+
+    private void handle(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        String method = exchange.getRequestMethod();
+        String[] path = exchange.getRequestURI().getPath().substring("/api/".length()).split("/");
+        String route = route(method, path);
+        int status = 500;
+        try {
+            JsonPresenter presenter = new JsonPresenter();
+            Map<String, String> params = query(exchange.getRequestURI().getRawQuery());
+            if (!dispatch(method, path, params, exchange, presenter)) {
+                status = 404;
+                send(exchange, status, errorJson("No such endpoint: " + method + " "
+                        + exchange.getRequestURI().getPath()));
+                return;
+            }
+            status = presenter.getStatus();
+            send(exchange, status, presenter.toJson());
+        } catch (BadRequestException e) {
+            status = e.status;
+            send(exchange, status, errorJson(e.getMessage()));
+        } catch (RuntimeException e) {
+            System.err.println("Request " + method + " " + exchange.getRequestURI() + " failed: " + e);
+            send(exchange, status, errorJson("Internal server error"));
+        } finally {
+            exchange.close();
+            OperationMetrics endpoint = metrics.operation("TriviaHttpServer", route);
+            endpoint.record(System.nanoTime() - start, status >= 500);
+        }
+    }
+
+    /**
+     * Runs the use case for the request; false if nothing is mapped to it.
+     * The request is parsed completely before an interactor is built, so a bad
+     * request never reaches a use case.
+     */
+    private boolean dispatch(String method, String[] path, Map<String, String> params,
+                             HttpExchange exchange, JsonPresenter presenter) throws IOException {
+        String resource = path[0];
+        switch (resource) {
+            case "players":
+                if (path.length != 1 || !method.equals("POST")) {
+                    return false;
+                }
+                JsonObject player = body(exchange);
+                register(required(player, "playerName").trim(), required(player, "password").trim(), presenter);
+                return true;
+
+            case "sessions":
+                if (path.length != 1 || !method.equals("POST")) {
+                    return false;
+                }
+                JsonObject login = body(exchange);
+                login(required(login, "playerName").trim(), required(login, "password").trim(), presenter);
+                return true;
+
+            case "select-quiz":
+                if (path.length != 1 || !method.equals("POST")) {
+                    return false;
+                }
+                SessionRegistry.Session selecting = authenticate(exchange);
+                JsonObject select = body(exchange);
+                SelectQuizInputData selectInput = new SelectQuizInputData(string(select, "categoryId"),
+                        string(select, "difficulty"), integer(select, "amount", 10),
+                        actingPlayer(selecting, select, "playerName"));
+                factory.createSelectQuizInteractor(presenter).execute(selectInput);
+                issue(selecting, presenter);
+                return true;
+
+            case "quizzes":
+                if (path.length != 1) {
+                    return false;
+                }
+                if (method.equals("GET")) {
+                    LoadQuizInputData loadInput = new LoadQuizInputData(required(params, "player"));
+                    factory.createLoadQuizInteractor(presenter).execute(loadInput);
+                    return true;
+                }
+                if (method.equals("POST")) {
+                    SessionRegistry.Session creating = authenticate(exchange);
+                    CreateQuizInputData createInput = createQuiz(creating, body(exchange));
+                    factory.createCreateQuizInteractor(presenter).execute(createInput);
+                    return true;
+                }
+                return false;
+
+            case "attempts":
+                return dispatchAttempts(method, path, params, exchange, presenter);
+
+            case "practice":
+                if (path.length != 1 || !method.equals("POST")) {
+                    return false;
+                }
+                SessionRegistry.Session practising = authenticate(exchange);
+                JsonObject practice = body(exchange);
+                GenerateFromWrongInputData practiceInput = new GenerateFromWrongInputData(
+                        actingPlayer(practising, practice, "playerName"), integer(practice, "requestedNumber", 0));
+                factory.createGenerateFromWrongInteractor(presenter).execute(practiceInput);
+                return true;
+
+            case "profile":
+                if (path.length != 1 || !method.equals("GET")) {
+                    return false;
+                }
+                ViewProfileInputData profileInput = new ViewProfileInputData(required(params, "player"));
+                factory.createViewProfileInteractor(presenter).execute(profileInput);
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    private boolean dispatchAttempts(String method, String[] path, Map<String, String> params,
+                                     HttpExchange exchange, JsonPresenter presenter) throws IOException {
+        if (path.length == 1) {
+            if (method.equals("GET")) {
+                String playerName = required(params, "player");
+                if (params.containsKey("limit")) {
+                    int limit = positiveInteger(params, "limit");
+                    factory.createReviewQuizInteractor(presenter)
+                            .viewPastQuizzes(playerName, params.get("cursor"), limit);
+                } else {
+                    factory.createReviewQuizInteractor(presenter).viewPastQuizzes(playerName);
+                }
+                return true;
+            }
+            if (method.equals("POST")) {
+                SessionRegistry.Session completing = authenticate(exchange);
+                CompleteQuizInputData completeInput = completeQuiz(completing, body(exchange));
+                factory.createCompleteQuizInteractor(presenter).execute(completeInput);
+                return true;
+            }
+            return false;
+        }
+
+        String attemptId = path[1];
+        if (path.length == 2 && method.equals("GET")) {
+            factory.createReviewQuizInteractor(presenter).openAttempt(attemptId);
+            return true;
+        }
+        if (path.length == 2 && method.equals("PUT")) {
+            SessionRegistry.Session editing = authenticate(exchange);
+            JsonObject body = body(exchange);
+            List<Integer> indices = integers(body, "selectedOptionIndices");
+            if (indices == null) {
+                throw new BadRequestException("Missing selectedOptionIndices");
+            }
+            // the interactor refuses to save an attempt that is not this player's
+            ReviewQuizRequestModel edit = new ReviewQuizRequestModel(attemptId,
+                    actingPlayer(editing, body, "playerName"), indices);
+            factory.createReviewQuizInteractor(presenter).saveEditedAnswers(edit);
+            return true;
+        }
+        if (path.length == 3 && path[2].equals("redo") && method.equals("GET")) {
+            SessionRegistry.Session redoing = authenticate(exchange);
+            factory.createReviewQuizInteractor(presenter).prepareRedoQuiz(attemptId);
+            issue(redoing, presenter);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Signs a player up the way StartScreen does, except that a name already in use
+     * is refused: on a shared server it would be somebody else's account.
+     */
+    private void register(String playerName, String password, JsonPresenter presenter) {
+        RegisterPlayerDataAccessInterface players = factory.getPlayerData();
+        synchronized (this) {
+            if (players.loadPlayer(playerName) != null) {
+                presenter.presentRegistration(409, playerName);
+                return;
+            }
+            players.savePlayer(new Player(playerName, password));
+        }
+        presenter.presentRegistration(201, playerName);
+    }
+
+    /** Checks the password the way StartScreen does and starts a session for the player. */
+    private void login(String playerName, String password, JsonPresenter presenter) {
+        Player player = factory.getPlayerData().loadPlayer(playerName);
+        if (player == null || !player.verifyPassword(password)) {
+            presenter.presentLoginFailure();
+            return;
+        }
+        presenter.presentSession(player.getPlayerName(), sessions.open(player.getPlayerName()));
+    }
+
+    /** The session named by the request's bearer token; 401 if there is none. */
+    private SessionRegistry.Session authenticate(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new BadRequestException(401, "Sign in with POST /api/sessions and send the token"
+                    + " as Authorization: Bearer TOKEN");
+        }
+        SessionRegistry.Session session = sessions.find(authorization.substring("Bearer ".length()).trim());
+        if (session == null) {
+            throw new BadRequestException(401, "Unknown or expired session; sign in again");
+        }
+        return session;
+    }
+
+    /**
+     * The signed-in player, who is the one the request acts for; 403 if the body
+     * names somebody else.
+     */
+    private static String actingPlayer(SessionRegistry.Session session, JsonObject body, String name) {
+        String named = string(body, name);
+        if (named != null && !named.trim().equalsIgnoreCase(session.getPlayerName())) {
+            throw new BadRequestException(403, "Signed in as " + session.getPlayerName() + ", not " + named);
+        }
+        return session.getPlayerName();
+    }
+
+    /** Hands the questions in the result to the session, so they can be answered by id. */
+    private static void issue(SessionRegistry.Session session, JsonPresenter presenter) {
+        List<Question> playable = presenter.getPlayableQuestions();
+        if (!playable.isEmpty()) {
+            presenter.presentIssuedQuestions(session.issue(playable));
+        }
+    }
+
+    // ===== Request bodies =====
+
+    private static CreateQuizInputData createQuiz(SessionRegistry.Session session, JsonObject body) {
+        List<AddQuestionInputData> questions = new ArrayList<>();
+        for (JsonObject q : objects(body, "questions")) {
+            questions.add(new AddQuestionInputData(null, string(q, "questionText"), strings(q, "options"),
+                    string(q, "correctAnswer"), string(q, "category"), string(q, "difficulty")));
+        }
+        return new CreateQuizInputData(string(body, "title"), string(body, "category"),
+                string(body, "difficulty"), actingPlayer(session, body, "creatorName"), questions);
+    }
+
+    /**
+     * The completed quiz, graded against the questions issued to the session under
+     * the given ids; answering takes them back, so each is answered once.
+     */
+    private static CompleteQuizInputData completeQuiz(SessionRegistry.Session session, JsonObject body) {
+        String playerName = actingPlayer(session, body, "playerName");
+        List<String> ids = strings(body, "questionIds");
+        if (ids == null || ids.isEmpty()) {
+            throw new BadRequestException("Missing questionIds");
+        }
+        List<String> answers = strings(body, "userAnswers");
+        List<Integer> selected = integers(body, "selectedOptionIndices");
+        if (selected == null && (answers == null || answers.size() < ids.size())) {
+            throw new BadRequestException("Need selectedOptionIndices or one user answer per question");
+        }
+        List<Question> questions = session.claim(ids);
+        if (questions == null) {
+            throw new BadRequestException(409, "questionIds must be distinct questions issued to this session"
+                    + " and not answered yet");
+        }
+        if (answers == null) {
+            // the picked options are the answers, and the attempt then stores only their indices
+            answers = new ArrayList<>(questions.size());
+            for (int i = 0; i < questions.size(); i++) {
+                int index = i < selected.size() ? selected.get(i) : -1;
+                Question q = questions.get(i);
+                answers.add(index >= 0 && index < q.getOptionCount() ? q.getOption(index) : "");
+            }
+        }
+        return new CompleteQuizInputData(playerName, questions, answers, selected);
+    }
+
+    private static JsonObject body(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] chunk = new byte[8192];
+            int n;
+            while ((n = in.read(chunk)) != -1) {
+                buffer.write(chunk, 0, n);
+                if (buffer.size() > MAX_BODY_BYTES) {
+                    throw new BadRequestException(413, "Request body is larger than " + MAX_BODY_BYTES + " bytes");
+                }
+            }
+        }
+        try {
+            JsonElement root = JsonParser.parseString(buffer.toString(StandardCharsets.UTF_8));
+            if (!root.isJsonObject()) {
+                throw new BadRequestException("Request body must be a JSON object");
+            }
+            return root.getAsJsonObject();
+        } catch (JsonParseException e) {
+            throw new BadRequestException("Malformed JSON: " + e.getMessage());
+        }
+    }
+
+    private static String string(JsonObject object, String name) {
+        JsonElement value = object.get(name);
+        if (value == null || value.isJsonNull()) {
+            return null;
+        }
+        if (!value.isJsonPrimitive()) {
+            throw new BadRequestException(name + " must be a string");
+        }
+        return value.getAsString();
+    }
+
+    private static String required(JsonObject object, String name) {
+        String value = string(object, name);
+        if (value == null || value.trim().isEmpty()) {
+            throw new BadRequestException("Missing " + name);
+        }
+        return value;
+    }
+
+    private static int integer(JsonObject object, String name, int fallback) {
+        String value = string(object, name);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(name + " must be an integer");
+        }
+    }
+
+    private static List<String> strings(JsonObject object, String name) {
+        JsonArray array = array(object, name);
+        if (array == null) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(array.size());
+        for (JsonElement element : array) {
+            values.add(element.isJsonNull() ? null : element.getAsString());
+        }
+        return values;
+    }
+
+    private static List<Integer> integers(JsonObject object, String name) {
+        JsonArray array = array(object, name);
+        if (array == null) {
+            return null;
+        }
+        List<Integer> values = new ArrayList<>(array.size());
+        try {
+            for (JsonElement element : array) {
+                values.add(element.isJsonNull() ? -1 : element.getAsInt());
+            }
+        } catch (NumberFormatException | UnsupportedOperationException | IllegalStateException e) {
+            throw new BadRequestException(name + " must be an array of integers");
+        }
+        return values;
+    }
+
+    private static List<JsonObject> objects(JsonObject object, String name) {
+        JsonArray array = array(object, name);
+        if (array == null) {
+            throw new BadRequestException("Missing " + name);
+        }
+        List<JsonObject> values = new ArrayList<>(array.size());
+        for (JsonElement element : array) {
+            if (!element.isJsonObject()) {
+                throw new BadRequestException(name + " must be an array of objects");
+            }
+            values.add(element.getAsJsonObject());
+        }
+        return values;
+    }
+
+    private static JsonArray array(JsonObject object, String name) {
+        JsonElement value = object.get(name);
+        if (value == null || value.isJsonNull()) {
+            return null;
+        }
+        if (!value.isJsonArray()) {
+            throw new BadRequestException(name + " must be an array");
+        }
+        return value.getAsJsonArray();
+    }
+
+    private static String required(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null || value.trim().isEmpty()) {
+            throw new BadRequestException("Missing query parameter " + name);
+        }
+        return value;
+    }
+
+    private static int positiveInteger(Map<String, String> params, String name) {
+        try {
+            int value = Integer.parseInt(params.get(name));
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new BadRequestException("Query parameter " + name + " must be a positive integer");
+    }
+
+    // ===== Responses =====
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String errorJson(String message) {
+        JsonObject error = new JsonObject();
+        error.addProperty("error", message);
+        return error.toString();
+    }
+
+    /**
+     * Metrics name for the request: the endpoint with ids replaced by {id}, so there is
+     * one operation per endpoint rather than per attempt or per made-up path.
+     */
+    private static String route(String method, String[] path) {
+        if (!ROUTED_METHODS.contains(method) || !RESOURCES.contains(path[0]) || path.length > 3
+                || (path.length == 3 && !path[2].equals("redo"))) {
+            return "unmatched";
+        }
+        StringBuilder route = new StringBuilder(method).append(" /api/").append(path[0]);
+        if (path.length > 1) {
+            route.append("/{id}");
+        }
+        if (path.length > 2) {
+            route.append("/redo");
+        }
+        return route.toString();
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    /** A request the server cannot pass to a use case; answered with its status and message. */
+    private static class BadRequestException extends RuntimeException {
+        private final int status;
+
+        BadRequestException(String message) {
+            this(400, message);
+        }
+
+        BadRequestException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        MetricsRegistry.global().startDumping(Paths.get(DataDirectory.resolve("metrics.txt")),
+                Long.getLong("trivia.metrics.dumpSeconds", 60));
+        TriviaHttpServer server = new TriviaHttpServer(new ServerFactory()).start(
+                options.getOrDefault("host", "127.0.0.1"),
+                Integer.parseInt(options.getOrDefault("port", "8080")),
+                Integer.parseInt(options.getOrDefault("threads", "32")),
+                Integer.parseInt(options.getOrDefault("queue", "256")));
+        System.out.println("Trivia server listening on http://" + options.getOrDefault("host", "127.0.0.1")
+                + ":" + server.getPort() + "/api/");
+    }
+}
@@ -25,9 +25,16 @@ import java.util.List;
  * Now with REDO functionality!
  * 
  * CLEAN ARCHITECTURE: Uses AppFactory for DAO access during navigation.
+ *
+ * The history is fetched a page at a time, newest first, and the next page is
+ * only requested when the user scrolls near the end of what is loaded, so the
+ * screen opens equally fast for players with thousands of attempts.
  */
 public class PastQuizScreen extends JPanel implements PropertyChangeListener {
 
+    /** Attempts fetched per request while scrolling through the history. */
+    private static final int PAGE_SIZE = 50;
+
     private final JFrame frame;
     private final ReviewController controller;
     private final PastQuizViewModel viewModel;
@@ -37,7 +44,8 @@ public class PastQuizScreen extends JPanel implements PropertyChangeListener {
     private final GenerateFromWrongViewModel generateFromWrongViewModel;
 
     private JList<String> pastQuizzesList;
-    private DefaultListModel<String> listModel;
+    private PastQuizListModel listModel;
+    private String requestedCursor;   // page asked for last, so scrolling asks only once
     private JPanel questionsPanel;
     private JButton saveButton;
     private JButton redoButton;
@@ -67,7 +75,7 @@ public class PastQuizScreen extends JPanel implements PropertyChangeListener {
 
         initComponents();
 
-        controller.viewPastQuizzes(currentPlayer.getPlayerName());
+        controller.viewPastQuizzes(currentPlayer.getPlayerName(), null, PAGE_SIZE);
     }
 
     public PastQuizScreen(JFrame frame,
@@ -97,7 +105,7 @@ public class PastQuizScreen extends JPanel implements PropertyChangeListener {
                 new Color(0, 100, 100)
         ));
 
-        listModel = new DefaultListModel<>();
+        listModel = new PastQuizListModel();
         pastQuizzesList = new JList<>(listModel);
         pastQuizzesList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         pastQuizzesList.setFont(ThemeUtils.BODY_FONT);
@@ -113,6 +121,7 @@ public class PastQuizScreen extends JPanel implements PropertyChangeListener {
         JScrollPane listScroll = new JScrollPane(pastQuizzesList);
         listScroll.setOpaque(false);
         listScroll.getViewport().setOpaque(false);
+        listScroll.getViewport().addChangeListener(e -> loadMoreIfNeeded());
         leftPanel.add(listScroll, BorderLayout.CENTER);
 
         JPanel rightPanel = ThemeUtils.createGlassPanel(40);
@@ -206,15 +215,20 @@ public class PastQuizScreen extends JPanel implements PropertyChangeListener {
     }
 
     private void updatePastQuizzesList() {
-        listModel.clear();
-        List<PastQuizViewModel.PastQuizSummaryViewModel> quizzes = viewModel.getPastQuizzes();
+        listModel.sync();
+        // the new rows may not fill the list yet; check once they are laid out
+        SwingUtilities.invokeLater(this::loadMoreIfNeeded);
+    }
 
-        if (quizzes != null && !quizzes.isEmpty()) {
-            for (PastQuizViewModel.PastQuizSummaryViewModel summary : quizzes) {
-                listModel.addElement(summary.toString());
-            }
-        } else {
-            listModel.addElement("(No past quizzes found)");
+    /** Asks for the next page once the user has scrolled close to the last loaded row. */
+    private void loadMoreIfNeeded() {
+        String cursor = viewModel.getNextPastQuizCursor();
+        if (cursor == null || cursor.equals(requestedCursor)) {
+            return;
+        }
+        if (pastQuizzesList.getLastVisibleIndex() >= listModel.getLoadedRows() - PAGE_SIZE / 4) {
+            requestedCursor = cursor;
+            controller.viewPastQuizzes(currentPlayer.getPlayerName(), cursor, PAGE_SIZE);
         }
     }
 
@@ -420,6 +434,68 @@ public class PastQuizScreen extends JPanel implements PropertyChangeListener {
         return indices;
     }
 
+    /**
+     * List model over the rows loaded so far. Rows are only turned into text when the
+     * list paints them, and one extra row stands in for the pages not loaded yet.
+     */
+    private class PastQuizListModel extends AbstractListModel<String> {
+        private List<PastQuizViewModel.PastQuizSummaryViewModel> shown;
+        private int loadedRows;
+        private int size;
+
+        int getLoadedRows() {
+            return loadedRows;
+        }
+
+        @Override
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public String getElementAt(int index) {
+            if (index < loadedRows) {
+                return shown.get(index).toString();
+            }
+            return viewModel.getNextPastQuizCursor() != null ? "Loading more..." : "(No past quizzes found)";
+        }
+
+        /** Catches up with the view model: a further page only adds rows, a new listing replaces them. */
+        void sync() {
+            List<PastQuizViewModel.PastQuizSummaryViewModel> quizzes = viewModel.getPastQuizzes();
+            int loaded = quizzes != null ? quizzes.size() : 0;
+            boolean more = viewModel.getNextPastQuizCursor() != null;
+            int newSize = more || loaded == 0 ? loaded + 1 : loaded;
+
+            if (quizzes != shown) {
+                int oldSize = size;
+                shown = quizzes;
+                loadedRows = loaded;
+                size = 0;
+                if (oldSize > 0) {
+                    fireIntervalRemoved(this, 0, oldSize - 1);
+                }
+                size = newSize;
+                fireIntervalAdded(this, 0, newSize - 1);
+                return;
+            }
+
+            int oldSize = size;
+            int oldLoaded = loadedRows;
+            loadedRows = loaded;
+            size = newSize;
+            // the old stand-in row now shows a real attempt or a different text
+            if (oldLoaded < Math.min(oldSize, newSize)) {
+                fireContentsChanged(this, oldLoaded, Math.min(oldSize, newSize) - 1);
+            }
+            if (newSize > oldSize) {
+                fireIntervalAdded(this, oldSize, newSize - 1);
+            } else if (newSize < oldSize) {
+                fireIntervalRemoved(this, newSize, oldSize - 1);
+            }
+        }
+    }
+
     private void navigateToHome() {
         frame.getContentPane().removeAll();
         frame.add(new HomeScreen(frame, currentPlayer, generateFromWrongController,
@@ -5,20 +5,20 @@ import trivia.framework.AppFactory;
 import trivia.interface_adapter.controller.GenerateFromWrongController;
 import trivia.interface_adapter.controller.CompleteQuizController;
 import trivia.interface_adapter.presenter.GenerateFromWrongViewModel;
+import trivia.interface_adapter.presenter.ViewProfileViewModel;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.util.Comparator;
-import java.util.List;
 
 /**
  * ProfileScreen — displays player statistics and shows
  * how this player performs compared to other players.
  * 
- * CLEAN ARCHITECTURE: Uses AppFactory to access player data.
+ * CLEAN ARCHITECTURE: Statistics come from the View Profile use case,
+ * wired through AppFactory.
  */
 public class ProfileScreen extends JPanel {
     private final JFrame frame;
@@ -27,6 +27,7 @@ public class ProfileScreen extends JPanel {
     private final GenerateFromWrongViewModel generateFromWrongViewModel;
 
     private Player player;
+    private final ViewProfileViewModel profileViewModel = new ViewProfileViewModel();
 
     public ProfileScreen(JFrame frame, Player player,
                          GenerateFromWrongController generateFromWrongController,
@@ -37,13 +38,15 @@ public class ProfileScreen extends JPanel {
         this.completeQuizController = completeQuizController;
         this.generateFromWrongViewModel = generateFromWrongViewModel;
 
-        Player reloaded = AppFactory.getPlayerDAO().loadPlayer(player.getPlayerName());
+        Player reloaded = AppFactory.getPlayerData().loadPlayer(player.getPlayerName());
         if (reloaded != null) {
             this.player = reloaded;
         } else {
             this.player = player;
         }
 
+        AppFactory.createViewProfileController(profileViewModel).execute(this.player.getPlayerName());
+
         setLayout(new BorderLayout(20, 20));
         ThemeUtils.applyGradientBackground(this);
 
@@ -52,28 +55,38 @@ public class ProfileScreen extends JPanel {
         add(title, BorderLayout.NORTH);
 
         JPanel profilePanel = ThemeUtils.createGlassPanel(60);
-        profilePanel.setLayout(new GridLayout(4, 1, 15, 15));
-        profilePanel.setBorder(BorderFactory.createEmptyBorder(60, 150, 60, 150));
+        profilePanel.setLayout(new GridLayout(7, 1, 10, 10));
+        profilePanel.setBorder(BorderFactory.createEmptyBorder(40, 150, 40, 150));
 
         JLabel nameLabel = new JLabel("Username: " + this.player.getPlayerName());
         ThemeUtils.styleLabel(nameLabel, "body");
 
-        JLabel scoreLabel = new JLabel("Total Score: " + this.player.getScore());
+        JLabel scoreLabel = new JLabel("Total Score: " + profileViewModel.getTotalScore());
         ThemeUtils.styleLabel(scoreLabel, "body");
 
-        int attemptsCount = (this.player.getPastAttempts() == null)
-                ? 0
-                : this.player.getPastAttempts().size();
-        JLabel attemptsLabel = new JLabel("Total Quizzes Attempted: " + attemptsCount);
+        JLabel attemptsLabel = new JLabel("Total Quizzes Attempted: " + profileViewModel.getTotalAttempts());
         ThemeUtils.styleLabel(attemptsLabel, "body");
 
         JLabel rankingLabel = new JLabel(getRankingText());
         ThemeUtils.styleLabel(rankingLabel, "body");
         rankingLabel.setHorizontalAlignment(SwingConstants.CENTER);
 
+        JLabel accuracyLabel = new JLabel(getAccuracyText());
+        ThemeUtils.styleLabel(accuracyLabel, "body");
+
+        JLabel categoriesLabel = new JLabel(getCategoriesText());
+        ThemeUtils.styleLabel(categoriesLabel, "body");
+
+        JLabel streakLabel = new JLabel("Current Streak: " + profileViewModel.getCurrentStreakDays()
+                + " day(s) | Longest: " + profileViewModel.getLongestStreakDays() + " day(s)");
+        ThemeUtils.styleLabel(streakLabel, "body");
+
         profilePanel.add(nameLabel);
         profilePanel.add(scoreLabel);
         profilePanel.add(attemptsLabel);
+        profilePanel.add(accuracyLabel);
+        profilePanel.add(categoriesLabel);
+        profilePanel.add(streakLabel);
         profilePanel.add(rankingLabel);
         add(profilePanel, BorderLayout.CENTER);
 
@@ -99,25 +112,13 @@ public class ProfileScreen extends JPanel {
     }
 
     private String getRankingText() {
-        List<Player> allPlayers = AppFactory.getPlayerDAO().getAllPlayers();
-        if (allPlayers == null || allPlayers.isEmpty()) {
+        int totalPlayers = profileViewModel.getTotalPlayers();
+        if (totalPlayers == 0) {
             return "No players have played any quizzes yet.";
         }
 
-        allPlayers.sort(Comparator.comparingInt(Player::getScore).reversed());
-
-        int totalPlayers = allPlayers.size();
-        int myScore = player.getScore();
-        int rank = -1;
-        int position = 1;
-
-        for (Player p : allPlayers) {
-            if (p.getPlayerName().equalsIgnoreCase(player.getPlayerName())) {
-                rank = position;
-                break;
-            }
-            position++;
-        }
+        int myScore = profileViewModel.getTotalScore();
+        int rank = profileViewModel.getRank();
 
         if (rank == -1) {
             return "Your total score: " + myScore + " | You are not in the ranking yet.";
@@ -127,6 +128,19 @@ public class ProfileScreen extends JPanel {
         }
     }
 
+    private String getAccuracyText() {
+        return String.format("Accuracy: %.0f%% | Average Quiz Length: %.1f questions",
+                profileViewModel.getAccuracy() * 100, profileViewModel.getAverageQuizLength());
+    }
+
+    private String getCategoriesText() {
+        if (profileViewModel.getBestCategory() == null) {
+            return "Best Category: - | Worst Category: -";
+        }
+        return "Best Category: " + profileViewModel.getBestCategory()
+                + " | Worst Category: " + profileViewModel.getWorstCategory();
+    }
+
     private JButton createStyledButton(String text, Color base, Color hover, java.awt.event.ActionListener listener) {
         JButton button = new JButton(text);
         button.setFont(ThemeUtils.BUTTON_FONT);
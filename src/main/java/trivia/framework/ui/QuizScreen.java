@@ -2,8 +2,6 @@ package trivia.framework.ui;
 
 import trivia.entity.Player;
 import trivia.entity.Question;
-import trivia.entity.Quiz;
-import trivia.entity.QuizAttempt;
 import trivia.framework.AppFactory;
 import trivia.interface_adapter.controller.CompleteQuizController;
 import trivia.interface_adapter.controller.GenerateFromWrongController;
@@ -177,23 +175,6 @@ public class QuizScreen extends JPanel {
         this(frame, questions, currentPlayer, null, null, null);
     }
 
-    /**
-     * ✅ FIXED: Decode HTML entities from API responses
-     * Converts &quot; → ", &amp; → &, &lt; → <, etc.
-     */
-    private String decodeHtmlEntities(String text) {
-        if (text == null) return null;
-        return text.replace("&quot;", "\"")
-                   .replace("&#039;", "'")
-                   .replace("&apos;", "'")
-                   .replace("&amp;", "&")
-                   .replace("&lt;", "<")
-                   .replace("&gt;", ">")
-                   .replace("&deg;", "°")
-                   .replace("&ndash;", "–")
-                   .replace("&mdash;", "—");
-    }
-
     private JButton createStyledButton(String text, Color base, Color hover, java.awt.event.ActionListener listener) {
         JButton button = new JButton(text);
         button.setFont(ThemeUtils.BUTTON_FONT);
@@ -218,16 +199,15 @@ public class QuizScreen extends JPanel {
         if (currentIndex < questions.size()) {
             Question q = questions.get(currentIndex);
             
-            // ✅ FIXED: Decode HTML entities in question text
-            questionArea.setText(decodeHtmlEntities(q.getQuestionText()));
+            // text is already decoded when questions are fetched
+            questionArea.setText(q.getQuestionText());
 
             progressLabel.setText("Question " + (currentIndex + 1) + " of " + numberOfQuestions);
 
             List<String> opts = q.getOptions();
             for (int i = 0; i < optionButtons.length; i++) {
                 if (i < opts.size()) {
-                    // ✅ FIXED: Decode HTML entities in option text
-                    optionButtons[i].setText(decodeHtmlEntities(opts.get(i)));
+                    optionButtons[i].setText(opts.get(i));
                     optionButtons[i].setVisible(true);
                 } else {
                     optionButtons[i].setVisible(false);
@@ -305,49 +285,16 @@ public class QuizScreen extends JPanel {
             }
         }
 
-        String quizId = "quiz-" + System.currentTimeMillis();
-        Quiz quiz = new Quiz(
-                quizId,
-                "API Quiz",
-                "general",
-                "mixed",
-                currentPlayer.getPlayerName(),
-                questions
-        );
-
-        QuizAttempt attempt = new QuizAttempt(
-                "attempt-" + System.currentTimeMillis(),
-                quiz,
-                questions.size(),
+        // Quiz, attempt and score are committed together by the Complete Quiz use case
+        CompleteQuizController completeController =
+                controller != null ? controller : AppFactory.createCompleteQuizController();
+        completeController.execute(
                 currentPlayer.getPlayerName(),
-                java.time.LocalDateTime.now().toString(),
+                questions,
                 userAnswers,
-                score
+                new ArrayList<>(selectedAnswerIndices)
         );
 
-        attempt.setSelectedOptionIndices(new ArrayList<>(selectedAnswerIndices));
-
-        AppFactory.getQuizDAO().saveQuiz(quiz);
-        AppFactory.getQuizDAO().saveAttempt(attempt);
-
-        Player player = AppFactory.getPlayerDAO().loadPlayer(currentPlayer.getPlayerName());
-        if (player != null) {
-            player.addAttempt(attempt);
-            player.setScore(player.getScore() + score);
-            AppFactory.getPlayerDAO().savePlayer(player);
-            System.out.println("✓ Quiz attempt saved to player: " + player.getPlayerName());
-        } else {
-            System.err.println("⚠ Warning: Could not load player to save attempt");
-        }
-
-        if (controller != null) {
-            controller.execute(
-                    currentPlayer.getPlayerName(),
-                    questions,
-                    userAnswers
-            );
-        }
-
         JOptionPane.showMessageDialog(
                 frame,
                 "Quiz complete!",
@@ -41,6 +41,10 @@ public class SelectQuizScreen extends JPanel implements PropertyChangeListener {
     private final JComboBox<String> categoryBox;
     private final JComboBox<String> difficultyBox;
     private final JSpinner wrongCountSpinner;
+    private final JButton startButton;
+
+    /** True while questions are loading in the background; Start Quiz then acts as Cancel. */
+    private boolean loading = false;
 
     public SelectQuizScreen(JFrame frame,
                             GenerateFromWrongController generateFromWrongController,
@@ -117,7 +121,7 @@ public class SelectQuizScreen extends JPanel implements PropertyChangeListener {
                 ThemeUtils.MINT_HOVER,
                 this::onPracticeWrong
         );
-        JButton startButton = createStyledButton(
+        startButton = createStyledButton(
                 "Start Quiz",
                 ThemeUtils.DEEP_TEAL,
                 ThemeUtils.DEEP_TEAL_HOVER,
@@ -136,9 +140,10 @@ public class SelectQuizScreen extends JPanel implements PropertyChangeListener {
      */
     @Override
     public void propertyChange(PropertyChangeEvent evt) {
-        if (!"selectQuiz".equals(evt.getPropertyName())) {
+        if (!"selectQuiz".equals(evt.getPropertyName()) || !loading) {
             return;
         }
+        setLoading(false);
 
         // Check if data was loaded successfully
         List<Question> questions = viewModel.getQuestions();
@@ -156,6 +161,7 @@ public class SelectQuizScreen extends JPanel implements PropertyChangeListener {
 
         if (questions != null && !questions.isEmpty()) {
             // Navigate to quiz screen with loaded questions
+            viewModel.removePropertyChangeListener(this);
             frame.getContentPane().removeAll();
             frame.add(new QuizScreen(
                     frame,
@@ -193,26 +199,31 @@ public class SelectQuizScreen extends JPanel implements PropertyChangeListener {
     }
 
     /**
-     * ✅ FIXED: Now uses controller.execute() properly
-     * 
-     * Flow: onClick → controller.execute() → interactor.execute() 
-     *       → api.fetch() → presenter.presentSuccess() 
-     *       → viewModel.firePropertyChanged() → propertyChange() → navigate
+     * Starts loading questions in the background, or cancels a load in progress.
+     *
+     * Flow: onClick → controller.executeAsync() → worker: interactor → api.fetch()
+     *       → presenter (on the EDT) → viewModel.firePropertyChanged() → propertyChange() → navigate
      */
     private void onStart(ActionEvent e) {
+        if (loading) {
+            controller.cancel();
+            setLoading(false);
+            return;
+        }
+
         try {
             String categoryText = (String) categoryBox.getSelectedItem();
             String categoryId = categoryText.split(" - ")[0].trim();
             String difficulty = (String) difficultyBox.getSelectedItem();
 
-            // ✅ FIXED: Call controller.execute() - this triggers entire use case
-            // Controller → Interactor → APIManager → Presenter → ViewModel
-            controller.execute(categoryId, difficulty, 5);
-            
+            setLoading(true);
+            controller.executeAsync(categoryId, difficulty, 5, currentPlayer.getPlayerName());
+
             // ViewModel will fire property change when data is ready
             // propertyChange() method will handle navigation
 
         } catch (Exception ex) {
+            setLoading(false);
             JOptionPane.showMessageDialog(
                     frame,
                     "Failed to load questions: " + ex.getMessage(),
@@ -222,6 +233,15 @@ public class SelectQuizScreen extends JPanel implements PropertyChangeListener {
         }
     }
 
+    /** Switches between the idle and loading states of the form. */
+    private void setLoading(boolean loading) {
+        this.loading = loading;
+        startButton.setText(loading ? "Loading... (Cancel)" : "Start Quiz");
+        categoryBox.setEnabled(!loading);
+        difficultyBox.setEnabled(!loading);
+        setCursor(loading ? Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR) : Cursor.getDefaultCursor());
+    }
+
     private void onPracticeWrong(ActionEvent e) {
         if (generateFromWrongController == null) {
             JOptionPane.showMessageDialog(
@@ -239,7 +259,8 @@ public class SelectQuizScreen extends JPanel implements PropertyChangeListener {
     }
 
     private void goBackHome(ActionEvent e) {
-        // ✅ Clean up: remove listener before navigation
+        // ✅ Clean up: stop any load in progress and remove listener before navigation
+        controller.cancel();
         viewModel.removePropertyChangeListener(this);
         
         frame.getContentPane().removeAll();
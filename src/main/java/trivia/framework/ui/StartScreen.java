@@ -141,8 +141,8 @@ public class StartScreen extends JPanel {
             return;
         }
 
-        Player player = AppFactory.getPlayerDAO().validateLogin(name, password);
-        if (player == null) {
+        Player player = AppFactory.getPlayerData().loadPlayer(name);
+        if (player == null || !player.verifyPassword(password)) {
             JOptionPane.showMessageDialog(frame,
                     "Invalid credentials. Please try again or register.",
                     "Login Failed", JOptionPane.ERROR_MESSAGE);
@@ -167,7 +167,7 @@ public class StartScreen extends JPanel {
 
         try {
             Player newPlayer = new Player(name, password);
-            AppFactory.getPlayerDAO().savePlayer(newPlayer);
+            AppFactory.getPlayerData().savePlayer(newPlayer);
             JOptionPane.showMessageDialog(frame,
                     "Player registered successfully! Welcome, "
                             + newPlayer.getPlayerName() + ".",
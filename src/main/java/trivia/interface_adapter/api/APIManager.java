@@ -1,78 +1,233 @@
 package trivia.interface_adapter.api;
 
-import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import trivia.entity.Question;
 import trivia.use_case.select_quiz.SelectQuizAPIDataAccessInterface;
 import java.io.*;
-import java.net.*;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Paths;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.zip.GZIPInputStream;
 
-public class APIManager implements SelectQuizAPIDataAccessInterface {
+/**
+ * Fetches multiple-choice questions from the Open Trivia DB.
+ *
+ * One HttpClient is shared by every instance, so connections to the API are kept
+ * alive and reused between requests. Responses are requested gzip-compressed and
+ * decoded with a streaming JsonReader straight into {@link Question} entities,
+ * without building a JSON tree first.
+ *
+ * The endpoint and mode can be chosen with system properties, so the Select Quiz
+ * flow can run without the network:
+ * -Dtrivia.api.baseUrl points it at another server (e.g. {@link OpenTdbStandInServer}),
+ * -Dtrivia.api.mode=record saves every response under -Dtrivia.api.recordDir and
+ * -Dtrivia.api.mode=replay answers from those recordings without any network access.
+ */
+public class APIManager implements SelectQuizAPIDataAccessInterface, QuestionBatchSource {
 
-    private final String baseURL = "https://opentdb.com/api.php";
+    private static final String DEFAULT_BASE_URL =
+            System.getProperty("trivia.api.baseUrl", "https://opentdb.com/api.php");
+
+    /** LIVE calls the API; RECORD calls it and keeps the responses; REPLAY only uses kept responses. */
+    public enum Mode { LIVE, RECORD, REPLAY }
+
+    private static final Mode DEFAULT_MODE =
+            Mode.valueOf(System.getProperty("trivia.api.mode", "live").toUpperCase(Locale.ROOT));
+
+    /** Overridable with -Dtrivia.api.connectTimeoutMs / -Dtrivia.api.readTimeoutMs. */
+    private static final int DEFAULT_CONNECT_TIMEOUT_MS = Integer.getInteger("trivia.api.connectTimeoutMs", 5000);
+    private static final int DEFAULT_READ_TIMEOUT_MS = Integer.getInteger("trivia.api.readTimeoutMs", 10000);
+
+    /** Shared per connect timeout; HttpClient fixes it when the client is built. */
+    private static final Map<Integer, HttpClient> clients = new HashMap<>();
+
+    private final String baseURL;
+    private final HttpClient client;
+    private final Duration readTimeout;
+    private final Mode mode;
+    private final ResponseRecordings recordings;
+
+    public APIManager() {
+        this(DEFAULT_BASE_URL, DEFAULT_CONNECT_TIMEOUT_MS, DEFAULT_READ_TIMEOUT_MS,
+                DEFAULT_MODE, new ResponseRecordings(Paths.get(ResponseRecordings.DEFAULT_DIRECTORY)));
+    }
+
+    /**
+     * @param connectTimeoutMs how long to wait for the connection to open
+     * @param readTimeoutMs    how long to wait for the response once connected
+     */
+    public APIManager(int connectTimeoutMs, int readTimeoutMs) {
+        this(DEFAULT_BASE_URL, connectTimeoutMs, readTimeoutMs);
+    }
+
+    /**
+     * @param baseURL endpoint to query instead of the public Open Trivia DB
+     */
+    public APIManager(String baseURL, int connectTimeoutMs, int readTimeoutMs) {
+        this(baseURL, connectTimeoutMs, readTimeoutMs, Mode.LIVE, null);
+    }
+
+    /**
+     * @param mode       whether to record responses, replay recorded ones or neither
+     * @param recordings where responses are recorded to and replayed from
+     */
+    public APIManager(String baseURL, int connectTimeoutMs, int readTimeoutMs,
+                      Mode mode, ResponseRecordings recordings) {
+        this.baseURL = baseURL;
+        this.client = sharedClient(connectTimeoutMs);
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+        this.mode = mode;
+        this.recordings = recordings;
+    }
+
+    private static synchronized HttpClient sharedClient(int connectTimeoutMs) {
+        return clients.computeIfAbsent(connectTimeoutMs, timeout -> HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(timeout))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build());
+    }
 
     @Override
     public List<Question> fetchQuestions(String category, String difficulty, int amount) {
-        List<Question> questions = new ArrayList<>();
         try {
-            String query = String.format("%s?amount=%d&category=%s&difficulty=%s&type=multiple",
-                    baseURL, amount,
-                    URLEncoder.encode(category, StandardCharsets.UTF_8),
-                    URLEncoder.encode(difficulty, StandardCharsets.UTF_8));
-
-            HttpURLConnection conn = (HttpURLConnection) new URL(query).openConnection();
-            conn.setRequestMethod("GET");
-            conn.connect();
-
-            if (conn.getResponseCode() != 200)
-                throw new IOException("HTTP error: " + conn.getResponseCode());
-
-            InputStreamReader reader =
-                    new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8);
-            JsonObject response = JsonParser.parseReader(reader).getAsJsonObject();
-            JsonArray results = response.getAsJsonArray("results");
-
-            for (JsonElement el : results) {
-                JsonObject qObj = el.getAsJsonObject();
-                String questionText = decodeHtml(qObj.get("question").getAsString());
-                String correct = decodeHtml(qObj.get("correct_answer").getAsString());
-
-                List<String> options = new ArrayList<>();
-                JsonArray incorrect = qObj.getAsJsonArray("incorrect_answers");
-                for (JsonElement ans : incorrect) {
-                    options.add(decodeHtml(ans.getAsString()));
-                }
-                options.add(correct);
-                Collections.shuffle(options);
+            return fetchBatch(category, difficulty, amount);
+        } catch (InterruptedException e) {
+            // the caller gave up on this request (e.g. the user cancelled loading)
+            Thread.currentThread().interrupt();
+            System.err.println("API fetch cancelled");
+        } catch (Exception e) {
+            System.err.println("API fetch failed: " + e.getMessage());
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Makes exactly one API call and reports failures instead of hiding them.
+     *
+     * @throws OpenTdbException if the API answered with a non-zero response_code
+     * @throws IOException      on HTTP errors, timeouts and unreadable responses
+     */
+    @Override
+    public List<Question> fetchBatch(String category, String difficulty, int amount)
+            throws IOException, InterruptedException {
+        if (mode == Mode.REPLAY) {
+            byte[] recorded = recordings.next(category, difficulty, amount);
+            return readResponse(new InputStreamReader(new ByteArrayInputStream(recorded), StandardCharsets.UTF_8));
+        }
+
+        String query = String.format("%s?amount=%d&category=%s&difficulty=%s&type=multiple",
+                baseURL, amount,
+                URLEncoder.encode(category, StandardCharsets.UTF_8),
+                URLEncoder.encode(difficulty, StandardCharsets.UTF_8));
 
-                String id = UUID.randomUUID().toString();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(query))
+                .timeout(readTimeout)
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
 
-                Question q = new Question(id,
-                        questionText, options, correct,
-                        qObj.get("category").getAsString(),
-                        qObj.get("difficulty").getAsString()
-                );
-                questions.add(q);
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200)
+                throw new IOException("HTTP error: " + response.statusCode());
+
+            boolean gzip = response.headers().firstValue("Content-Encoding")
+                    .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                    .orElse(false);
+            InputStream in = gzip ? new GZIPInputStream(body) : body;
+            if (mode == Mode.RECORD) {
+                byte[] raw = in.readAllBytes();
+                recordings.save(category, difficulty, amount, raw);
+                in = new ByteArrayInputStream(raw);
             }
-            reader.close();
-        } catch (Exception e) {
-            System.err.println("API fetch failed: " + e.getMessage());
+            List<Question> questions = readResponse(new InputStreamReader(in, StandardCharsets.UTF_8));
+            // read to the end so the connection goes back to the pool instead of being dropped
+            body.transferTo(OutputStream.nullOutputStream());
+            return questions;
         }
-        return questions;
     }
 
     /**
-     * Minimal HTML entity decoder for OpenTDB responses.
-     * Avoids external dependencies while cleaning up quotes and ampersands.
+     * Decodes an Open Trivia DB response body: {"response_code": 0, "results": [...]}.
+     *
+     * @throws OpenTdbException if response_code is not 0
      */
-    private String decodeHtml(String s) {
-        if (s == null) return null;
-        return s.replace("&quot;", "\"")
-                .replace("&#039;", "'")
-                .replace("&amp;", "&")
-                .replace("&rsquo;", "’")
-                .replace("&ldquo;", "“")
-                .replace("&rdquo;", "”");
+    List<Question> readResponse(Reader body) throws IOException {
+        List<Question> questions = new ArrayList<>();
+        JsonReader in = new JsonReader(body);
+        int responseCode = 0;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if ("response_code".equals(name)) {
+                responseCode = in.nextInt();
+            } else if ("results".equals(name) && in.peek() == JsonToken.BEGIN_ARRAY) {
+                in.beginArray();
+                while (in.hasNext()) {
+                    questions.add(readQuestion(in));
+                }
+                in.endArray();
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (responseCode != 0) {
+            throw new OpenTdbException(responseCode);
+        }
+        return questions;
+    }
+
+    private Question readQuestion(JsonReader in) throws IOException {
+        String questionText = null;
+        String correct = null;
+        String category = null;
+        String difficulty = null;
+        List<String> options = new ArrayList<>(4);
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "question":
+                    questionText = HtmlEntityDecoder.decode(in.nextString());
+                    break;
+                case "correct_answer":
+                    correct = HtmlEntityDecoder.decode(in.nextString());
+                    break;
+                case "incorrect_answers":
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        options.add(HtmlEntityDecoder.decode(in.nextString()));
+                    }
+                    in.endArray();
+                    break;
+                case "category":
+                    category = HtmlEntityDecoder.decode(in.nextString());
+                    break;
+                case "difficulty":
+                    difficulty = in.nextString();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        options.add(correct);
+        Collections.shuffle(options);
+
+        String id = UUID.randomUUID().toString();
+        return new Question(id, questionText, options, correct, category, difficulty);
     }
 }
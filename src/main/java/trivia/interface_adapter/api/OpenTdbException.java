@@ -0,0 +1,26 @@
+package trivia.interface_adapter.api;
+
+import java.io.IOException;
+
+/**
+ * A non-zero response_code from the Open Trivia DB.
+ *
+ * See https://opentdb.com/api_config.php: 1 no results, 2 invalid parameter,
+ * 3/4 token problems, 5 rate limit (one request per IP every five seconds).
+ */
+public class OpenTdbException extends IOException {
+
+    public static final int NO_RESULTS = 1;
+    public static final int RATE_LIMIT = 5;
+
+    private final int responseCode;
+
+    public OpenTdbException(int responseCode) {
+        super("API returned response code " + responseCode);
+        this.responseCode = responseCode;
+    }
+
+    public int getResponseCode() {
+        return responseCode;
+    }
+}
@@ -0,0 +1,282 @@
+package trivia.interface_adapter.api;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A local server that answers like https://opentdb.com/api.php, for load tests and
+ * benchmarks on a machine without network access.
+ *
+ * Questions come from a directory of recorded responses (see {@link ResponseRecordings}).
+ * A (category, difficulty) with no recordings is answered with generated questions,
+ * so the server also works with an empty corpus. Faults can be injected: fixed and
+ * random extra latency, HTTP 429 responses and response_code 5 (rate limited).
+ *
+ * Run standalone with
+ * {@code java trivia.interface_adapter.api.OpenTdbStandInServer [--port 8089] [--corpus dir]
+ * [--latency ms] [--jitter ms] [--http429 rate] [--code5 rate] [--seed n]}
+ * and start the app with -Dtrivia.api.baseUrl=http://127.0.0.1:8089/api.php.
+ */
+public class OpenTdbStandInServer {
+
+    private final Map<String, List<String>> corpus = new HashMap<>();
+    private final Map<String, AtomicInteger> cursors = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Random random;
+
+    private volatile long latencyMs = 0;
+    private volatile long jitterMs = 0;
+    private volatile double http429Rate = 0;
+    private volatile double rateLimitRate = 0;
+
+    private HttpServer server;
+    private ExecutorService workers;
+
+    /**
+     * @param corpusDirectory recorded responses to serve; may be missing or empty
+     * @param seed            makes generated questions and injected faults repeatable
+     */
+    public OpenTdbStandInServer(Path corpusDirectory, long seed) throws IOException {
+        this.random = new Random(seed);
+        for (Path file : new ResponseRecordings(corpusDirectory).list()) {
+            loadRecording(file);
+        }
+    }
+
+    public OpenTdbStandInServer setLatency(long latencyMs, long jitterMs) {
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        return this;
+    }
+
+    /** Fraction of requests answered with HTTP 429 Too Many Requests. */
+    public OpenTdbStandInServer setHttp429Rate(double rate) {
+        this.http429Rate = rate;
+        return this;
+    }
+
+    /** Fraction of requests answered with response_code 5 and no results. */
+    public OpenTdbStandInServer setRateLimitRate(double rate) {
+        this.rateLimitRate = rate;
+        return this;
+    }
+
+    /** Starts listening on 127.0.0.1; port 0 picks a free port. */
+    public OpenTdbStandInServer start(int port) throws IOException {
+        // respond without waiting on delayed ACKs for the separately written body
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 128);
+        workers = Executors.newFixedThreadPool(16, runnable -> {
+            Thread thread = new Thread(runnable, "opentdb-stand-in");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(workers);
+        server.createContext("/api.php", this::handle);
+        server.start();
+        return this;
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            workers.shutdownNow();
+        }
+    }
+
+    /** URL to use as APIManager's base URL. */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/api.php";
+    }
+
+    public int getRequestCount() {
+        return requests.get();
+    }
+
+    // ===== Requests =====
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            Map<String, String> params = query(exchange.getRequestURI().getRawQuery());
+            injectLatency();
+
+            if (chance(http429Rate)) {
+                exchange.sendResponseHeaders(429, -1);
+                return;
+            }
+
+            String body;
+            if (chance(rateLimitRate)) {
+                body = "{\"response_code\":5,\"results\":[]}";
+            } else {
+                int amount = parseAmount(params.get("amount"));
+                body = respond(params.get("category"), params.get("difficulty"), amount);
+            }
+            send(exchange, body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String respond(String category, String difficulty, int amount) {
+        if (amount < 1 || amount > 50) {
+            return "{\"response_code\":2,\"results\":[]}";
+        }
+        String key = category + "|" + difficulty;
+        List<String> results = corpus.get(key);
+        StringBuilder out = new StringBuilder("{\"response_code\":0,\"results\":[");
+        AtomicInteger cursor = cursors.computeIfAbsent(key, k -> new AtomicInteger());
+        for (int i = 0; i < amount; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            int n = cursor.getAndIncrement();
+            out.append(results != null ? results.get(Math.floorMod(n, results.size()))
+                    : generated(category, difficulty, n));
+        }
+        return out.append("]}").toString();
+    }
+
+    private static String generated(String category, String difficulty, int n) {
+        JsonObject q = new JsonObject();
+        q.addProperty("type", "multiple");
+        q.addProperty("difficulty", difficulty == null ? "medium" : difficulty);
+        q.addProperty("category", "Stand-in " + category);
+        q.addProperty("question", "Stand-in question #" + n + " &quot;" + category + "&quot;?");
+        q.addProperty("correct_answer", "Right " + n);
+        JsonArray incorrect = new JsonArray();
+        for (int i = 1; i <= 3; i++) {
+            incorrect.add("Wrong " + n + "." + i);
+        }
+        q.add("incorrect_answers", incorrect);
+        return q.toString();
+    }
+
+    private void send(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        String accept = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (accept != null && accept.contains("gzip")) {
+            ByteArrayOutputStream zipped = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(zipped)) {
+                gzip.write(bytes);
+            }
+            bytes = zipped.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void injectLatency() {
+        long delay = latencyMs;
+        if (jitterMs > 0) {
+            synchronized (random) {
+                delay += (long) (random.nextDouble() * jitterMs);
+            }
+        }
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private boolean chance(double rate) {
+        if (rate <= 0) {
+            return false;
+        }
+        synchronized (random) {
+            return random.nextDouble() < rate;
+        }
+    }
+
+    private static int parseAmount(String amount) {
+        try {
+            return Integer.parseInt(amount);
+        } catch (NumberFormatException e) {
+            return 10;
+        }
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private void loadRecording(Path file) {
+        String[] name = ResponseRecordings.parseName(file);
+        if (name == null) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonElement root = JsonParser.parseReader(reader);
+            JsonArray results = root.getAsJsonObject().getAsJsonArray("results");
+            if (results == null) {
+                return;
+            }
+            List<String> pool = corpus.computeIfAbsent(name[0] + "|" + name[1], k -> new ArrayList<>());
+            for (JsonElement result : results) {
+                pool.add(result.toString());
+            }
+        } catch (Exception e) {
+            System.err.println("Skipping unreadable recording " + file + ": " + e.getMessage());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        OpenTdbStandInServer server = new OpenTdbStandInServer(
+                Paths.get(options.getOrDefault("corpus", ResponseRecordings.DEFAULT_DIRECTORY)),
+                Long.parseLong(options.getOrDefault("seed", "42")))
+                .setLatency(Long.parseLong(options.getOrDefault("latency", "0")),
+                        Long.parseLong(options.getOrDefault("jitter", "0")))
+                .setHttp429Rate(Double.parseDouble(options.getOrDefault("http429", "0")))
+                .setRateLimitRate(Double.parseDouble(options.getOrDefault("code5", "0")))
+                .start(Integer.parseInt(options.getOrDefault("port", "8089")));
+        System.out.println("OpenTDB stand-in listening on " + server.getBaseUrl());
+    }
+}
@@ -0,0 +1,19 @@
+package trivia.interface_adapter.api;
+
+import trivia.entity.Question;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * One raw call to an upstream question API, with failures reported rather than swallowed.
+ */
+public interface QuestionBatchSource {
+
+    /**
+     * @throws OpenTdbException if the API answered with an error response_code
+     * @throws IOException      on transport errors
+     */
+    List<Question> fetchBatch(String categoryId, String difficulty, int amount)
+            throws IOException, InterruptedException;
+}
@@ -0,0 +1,278 @@
+package trivia.interface_adapter.api;
+
+import com.google.gson.Gson;
+import trivia.entity.Question;
+import trivia.framework.dao.StorageWriter;
+import trivia.use_case.select_quiz.SelectQuizAPIDataAccessInterface;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Question cache in front of the trivia API.
+ *
+ * Questions are pooled per (category, difficulty). A request is served from the
+ * in-memory pool whenever it holds enough questions the player has not seen yet;
+ * the API is only called to refill a pool, in the background once it drops below
+ * {@link #LOW_WATERMARK}, or inline when a pool cannot cover a request at all.
+ * Pools and the per-player "already served" sets are kept in a file on disk so a
+ * restart starts warm.
+ */
+public class QuestionPool implements SelectQuizAPIDataAccessInterface {
+
+    /** A pool holding fewer questions than this is refilled in the background. */
+    static final int LOW_WATERMARK = 20;
+
+    /** Questions requested per refill; OpenTDB returns at most 50 per call. */
+    static final int REFILL_AMOUNT = 50;
+
+    /** Served questions remembered per player; the oldest are forgotten first. */
+    private static final int SERVED_HISTORY_LIMIT = 5000;
+
+    private static final long SAVE_DELAY_MS = 1000;
+
+    private final SelectQuizAPIDataAccessInterface source;
+    private final Path file;
+    private final Gson gson = new Gson();
+
+    private final Map<String, Deque<Question>> pools = new HashMap<>();
+    private final Map<String, Set<String>> servedByPlayer = new HashMap<>();
+    private final Set<String> refilling = new HashSet<>();
+    private boolean saveScheduled = false;
+
+    private final ScheduledExecutorService background = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "question-pool");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param source   where refills come from; pacing calls to the API is its job
+     * @param filePath the on-disk tier, normally question_pool.json in the data directory
+     */
+    public QuestionPool(SelectQuizAPIDataAccessInterface source, String filePath) {
+        this.source = source;
+        this.file = Paths.get(filePath);
+        load();
+    }
+
+    @Override
+    public List<Question> fetchQuestions(String categoryId, String difficulty, int amount) {
+        return fetchQuestions(categoryId, difficulty, amount, null);
+    }
+
+    @Override
+    public List<Question> fetchQuestions(String categoryId, String difficulty, int amount, String playerName) {
+        String key = poolKey(categoryId, difficulty);
+
+        List<Question> served = take(key, amount, playerName, false);
+        if (served == null) {
+            // Not enough unseen questions locally: this request has to wait for the API.
+            RuntimeException failure = null;
+            try {
+                addToPool(key, fetchFromSource(categoryId, difficulty));
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            served = take(key, amount, playerName, true);
+            if (served.isEmpty() && failure != null) {
+                throw failure;
+            }
+        }
+        refillIfLow(key, categoryId, difficulty);
+        return served;
+    }
+
+    /** Number of questions currently pooled for the combination. */
+    public int getPoolSize(String categoryId, String difficulty) {
+        synchronized (this) {
+            Deque<Question> pool = pools.get(poolKey(categoryId, difficulty));
+            return pool == null ? 0 : pool.size();
+        }
+    }
+
+    /** Writes the pools to disk right away. */
+    public void flush() {
+        String json;
+        synchronized (this) {
+            saveScheduled = false;
+            json = gson.toJson(new Snapshot(pools, servedByPlayer));
+        }
+        try {
+            // durable like the other data files, so a crash never leaves a truncated pool behind
+            StorageWriter.shared().write(file, json);
+        } catch (IOException e) {
+            System.err.println("Failed to save question pool: " + e.getMessage());
+        }
+    }
+
+    // ===== Pools =====
+
+    private static String poolKey(String categoryId, String difficulty) {
+        return categoryId + "|" + difficulty;
+    }
+
+    /** Identity of a question across fetches; the API hands out fresh ids each time. */
+    private static String identity(Question q) {
+        return q.getQuestionText() + "\u0000" + q.getCorrectAnswer();
+    }
+
+    /**
+     * Removes up to {@code amount} questions the player has not been served yet.
+     * Returns null if the pool cannot cover the request, unless {@code partial}
+     * is set, in which case the shortfall is made up with questions the player
+     * has already seen rather than failing.
+     */
+    private synchronized List<Question> take(String key, int amount, String playerName, boolean partial) {
+        Deque<Question> pool = pools.computeIfAbsent(key, k -> new ArrayDeque<>());
+        Set<String> served = playerName == null ? null
+                : servedByPlayer.computeIfAbsent(playerName, p -> new LinkedHashSet<>());
+
+        List<Question> picked = new ArrayList<>(amount);
+        for (Iterator<Question> it = pool.iterator(); it.hasNext() && picked.size() < amount; ) {
+            Question q = it.next();
+            if (served == null || !served.contains(identity(q))) {
+                picked.add(q);
+            }
+        }
+        if (picked.size() < amount) {
+            if (!partial) {
+                return null;
+            }
+            for (Iterator<Question> it = pool.iterator(); it.hasNext() && picked.size() < amount; ) {
+                Question q = it.next();
+                if (!picked.contains(q)) {
+                    picked.add(q);
+                }
+            }
+        }
+
+        pool.removeAll(picked);
+        if (served != null) {
+            for (Question q : picked) {
+                served.remove(identity(q));
+                served.add(identity(q));
+            }
+            Iterator<String> oldest = served.iterator();
+            while (served.size() > SERVED_HISTORY_LIMIT) {
+                oldest.next();
+                oldest.remove();
+            }
+        }
+        scheduleSave();
+        return picked;
+    }
+
+    private synchronized void addToPool(String key, List<Question> fetched) {
+        if (fetched == null || fetched.isEmpty()) {
+            return;
+        }
+        Deque<Question> pool = pools.computeIfAbsent(key, k -> new ArrayDeque<>());
+        Set<String> present = new HashSet<>();
+        for (Question q : pool) {
+            present.add(identity(q));
+        }
+        for (Question q : fetched) {
+            if (present.add(identity(q))) {
+                pool.addLast(q);
+            }
+        }
+        scheduleSave();
+    }
+
+    private void refillIfLow(String key, String categoryId, String difficulty) {
+        synchronized (this) {
+            if (pools.get(key).size() >= LOW_WATERMARK || !refilling.add(key)) {
+                return;
+            }
+        }
+        background.execute(() -> {
+            try {
+                addToPool(key, fetchFromSource(categoryId, difficulty));
+            } finally {
+                synchronized (this) {
+                    refilling.remove(key);
+                }
+            }
+        });
+    }
+
+    private List<Question> fetchFromSource(String categoryId, String difficulty) {
+        return source.fetchQuestions(categoryId, difficulty, REFILL_AMOUNT);
+    }
+
+    // ===== Disk tier =====
+
+    private void scheduleSave() {
+        if (!saveScheduled) {
+            saveScheduled = true;
+            background.schedule(this::flush, SAVE_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Snapshot snapshot = gson.fromJson(reader, Snapshot.class);
+            if (snapshot == null) {
+                return;
+            }
+            if (snapshot.pools != null) {
+                snapshot.pools.forEach((key, questions) -> pools.put(key, rebuild(questions)));
+            }
+            if (snapshot.served != null) {
+                snapshot.served.forEach((player, ids) -> servedByPlayer.put(player, new LinkedHashSet<>(ids)));
+            }
+            System.out.println("Loaded question pool from " + file);
+        } catch (Exception e) {
+            System.err.println("Failed to load question pool: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gson fills entity fields without running the constructor, which leaves derived
+     * state (the correct option index) unset and strings un-interned, so every
+     * loaded question goes through the constructor once.
+     */
+    private static Deque<Question> rebuild(List<Question> loaded) {
+        Deque<Question> pool = new ArrayDeque<>(loaded.size());
+        for (Question q : loaded) {
+            if (q != null) {
+                pool.add(new Question(q.getId(), q.getQuestionText(), q.getOptions(),
+                        q.getCorrectAnswer(), q.getCategory(), q.getDifficulty()));
+            }
+        }
+        return pool;
+    }
+
+    /** File layout of the on-disk tier. */
+    private static class Snapshot {
+        private final Map<String, List<Question>> pools = new LinkedHashMap<>();
+        private final Map<String, List<String>> served = new LinkedHashMap<>();
+
+        Snapshot(Map<String, Deque<Question>> pools, Map<String, Set<String>> served) {
+            pools.forEach((key, pool) -> this.pools.put(key, new ArrayList<>(pool)));
+            served.forEach((player, ids) -> this.served.put(player, new ArrayList<>(ids)));
+        }
+    }
+}
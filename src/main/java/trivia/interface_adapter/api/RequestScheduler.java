@@ -0,0 +1,189 @@
+package trivia.interface_adapter.api;
+
+import trivia.entity.Question;
+import trivia.use_case.select_quiz.SelectQuizAPIDataAccessInterface;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Schedules calls to the trivia API so bursts of requests stay within its rate limit.
+ *
+ * <ul>
+ *     <li>Every upstream call takes a token from a {@link TokenBucket} sized to the
+ *         API's limit, so callers queue up instead of being refused.</li>
+ *     <li>Identical (category, difficulty, amount) requests that arrive while one
+ *         is in flight share its result instead of making their own call.</li>
+ *     <li>Requests for more than {@link #MAX_BATCH} questions are split into
+ *         several calls of at most that size.</li>
+ *     <li>When the API keeps failing, a {@link CircuitBreaker} stops calling it for
+ *         a while and questions come from the local fallback instead.</li>
+ *     <li>When a combination holds fewer questions than asked for (code 1), the call
+ *         is retried asking for half as many, down to one, and later calls for that
+ *         combination start from the amount it could serve.</li>
+ * </ul>
+ *
+ * A rate-limit response (code 5) drains the bucket and the call is retried with
+ * the next token. If nothing can be served, the reason is thrown so the use case
+ * can show it instead of "No questions found".
+ */
+public class RequestScheduler implements SelectQuizAPIDataAccessInterface {
+
+    /** The API returns at most 50 questions per call. */
+    static final int MAX_BATCH = 50;
+
+    /** Upstream limit: one request per IP every five seconds. */
+    private static final long DEFAULT_INTERVAL_MS = 5000;
+
+    /** Rate-limit responses tolerated for one call before it counts as a failure. */
+    private static final int RATE_LIMIT_RETRIES = 2;
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final long OPEN_MILLIS = 30_000;
+
+    private final QuestionBatchSource upstream;
+    private final SelectQuizAPIDataAccessInterface fallback;
+    private final TokenBucket bucket;
+    private final CircuitBreaker breaker;
+    private final Map<String, CompletableFuture<List<Question>>> inFlight = new ConcurrentHashMap<>();
+    // per (category, difficulty): the most questions worth asking for, learned from code-1 responses
+    private final Map<String, Integer> ceilings = new ConcurrentHashMap<>();
+
+    public RequestScheduler(QuestionBatchSource upstream, SelectQuizAPIDataAccessInterface fallback) {
+        this(upstream, fallback, new TokenBucket(1, DEFAULT_INTERVAL_MS),
+                new CircuitBreaker(FAILURE_THRESHOLD, OPEN_MILLIS));
+    }
+
+    public RequestScheduler(QuestionBatchSource upstream, SelectQuizAPIDataAccessInterface fallback,
+                            TokenBucket bucket, CircuitBreaker breaker) {
+        this.upstream = upstream;
+        this.fallback = fallback;
+        this.bucket = bucket;
+        this.breaker = breaker;
+    }
+
+    @Override
+    public List<Question> fetchQuestions(String categoryId, String difficulty, int amount) {
+        String key = categoryId + "|" + difficulty + "|" + amount;
+        CompletableFuture<List<Question>> mine = new CompletableFuture<>();
+        CompletableFuture<List<Question>> shared = inFlight.putIfAbsent(key, mine);
+
+        if (shared == null) {
+            try {
+                mine.complete(load(categoryId, difficulty, amount));
+            } catch (RuntimeException e) {
+                mine.completeExceptionally(e);
+            } finally {
+                inFlight.remove(key, mine);
+            }
+            shared = mine;
+        }
+
+        try {
+            return new ArrayList<>(shared.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ArrayList<>();
+        } catch (ExecutionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return breaker.getState();
+    }
+
+    private List<Question> load(String categoryId, String difficulty, int amount) {
+        if (!breaker.allowRequest()) {
+            return fromFallback(categoryId, difficulty, amount,
+                    "The trivia service is unavailable right now. Please try again shortly.");
+        }
+
+        List<Question> questions = new ArrayList<>();
+        try {
+            while (questions.size() < amount) {
+                int batch = Math.min(MAX_BATCH, amount - questions.size());
+                List<Question> received = call(categoryId, difficulty, batch);
+                questions.addAll(received);
+                if (received.size() < batch) {
+                    break;  // the API has no more questions for this combination
+                }
+            }
+            return questions;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return questions;
+        } catch (IOException e) {
+            System.err.println("API fetch failed: " + e.getMessage());
+            if (!questions.isEmpty()) {
+                return questions;  // a later batch failed; keep what already arrived
+            }
+            return fromFallback(categoryId, difficulty, amount, describe(e));
+        }
+    }
+
+    private static String describe(IOException e) {
+        if (e instanceof OpenTdbException) {
+            if (((OpenTdbException) e).getResponseCode() == OpenTdbException.RATE_LIMIT) {
+                return "The trivia service is busy (too many requests). Please try again in a few seconds.";
+            }
+            return "The trivia service rejected the request (" + e.getMessage() + ").";
+        }
+        return "The trivia service could not be reached. Please check your connection.";
+    }
+
+    /**
+     * One upstream call, paced by the token bucket, retried on rate-limit responses
+     * and retried smaller when the combination cannot fill it; may return fewer
+     * questions than asked for.
+     */
+    private List<Question> call(String categoryId, String difficulty, int amount)
+            throws IOException, InterruptedException {
+        String combination = categoryId + "|" + difficulty;
+        int asked = Math.min(amount, ceilings.getOrDefault(combination, amount));
+        int rateLimited = 0;
+        while (true) {
+            bucket.acquire();
+            try {
+                List<Question> received = upstream.fetchBatch(categoryId, difficulty, asked);
+                breaker.recordSuccess();
+                return received;
+            } catch (OpenTdbException e) {
+                if (e.getResponseCode() == OpenTdbException.NO_RESULTS) {
+                    breaker.recordSuccess();
+                    if (asked <= 1) {
+                        return new ArrayList<>();
+                    }
+                    asked /= 2;
+                    ceilings.put(combination, asked);
+                    continue;
+                }
+                if (e.getResponseCode() == OpenTdbException.RATE_LIMIT) {
+                    bucket.drain();
+                    if (rateLimited++ < RATE_LIMIT_RETRIES) {
+                        continue;
+                    }
+                }
+                breaker.recordFailure();
+                throw e;
+            } catch (IOException e) {
+                breaker.recordFailure();
+                throw e;
+            }
+        }
+    }
+
+    private List<Question> fromFallback(String categoryId, String difficulty, int amount, String reason) {
+        List<Question> local = fallback == null ? null : fallback.fetchQuestions(categoryId, difficulty, amount);
+        if (local != null && !local.isEmpty()) {
+            System.err.println(reason + " Serving " + local.size() + " locally stored questions.");
+            return local;
+        }
+        throw new IllegalStateException(reason);
+    }
+}
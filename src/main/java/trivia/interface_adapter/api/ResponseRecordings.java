@@ -0,0 +1,93 @@
+package trivia.interface_adapter.api;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A directory of raw Open Trivia DB response bodies.
+ *
+ * Each response is stored as {@code <category>_<difficulty>_<amount>_<sequence>.json},
+ * so a request can be replayed by its parameters and the stand-in server can tell
+ * which category and difficulty a recorded question belongs to.
+ */
+public class ResponseRecordings {
+
+    /** Default location, overridable with -Dtrivia.api.recordDir. */
+    public static final String DEFAULT_DIRECTORY = System.getProperty("trivia.api.recordDir", "data/api_recordings");
+
+    private final Path directory;
+    private final Map<String, AtomicInteger> replayCursors = new ConcurrentHashMap<>();
+
+    public ResponseRecordings(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /** Stores one response body and returns the file it was written to. */
+    public synchronized Path save(String categoryId, String difficulty, int amount, byte[] body) throws IOException {
+        Files.createDirectories(directory);
+        String prefix = prefix(categoryId, difficulty, amount);
+        int sequence = 0;
+        Path file;
+        do {
+            file = directory.resolve(prefix + sequence++ + ".json");
+        } while (Files.exists(file));
+        Files.write(file, body);
+        return file;
+    }
+
+    /**
+     * The next recorded body for these parameters, cycling through all recordings
+     * made with them.
+     *
+     * @throws IOException if nothing was recorded for this request
+     */
+    public byte[] next(String categoryId, String difficulty, int amount) throws IOException {
+        String prefix = prefix(categoryId, difficulty, amount);
+        List<Path> matching = list().stream()
+                .filter(file -> file.getFileName().toString().startsWith(prefix))
+                .collect(Collectors.toList());
+        if (matching.isEmpty()) {
+            throw new IOException("No recorded response for " + prefix + "* in " + directory);
+        }
+        int index = replayCursors.computeIfAbsent(prefix, p -> new AtomicInteger()).getAndIncrement();
+        return Files.readAllBytes(matching.get(Math.floorMod(index, matching.size())));
+    }
+
+    /** All recordings, sorted by file name. */
+    public List<Path> list() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /** Category id and difficulty a recording was made with, or null if the name is not ours. */
+    public static String[] parseName(Path file) {
+        String[] parts = file.getFileName().toString().split("_");
+        return parts.length == 4 ? new String[] {parts[0], parts[1]} : null;
+    }
+
+    private static String prefix(String categoryId, String difficulty, int amount) {
+        return safe(categoryId) + "_" + safe(difficulty) + "_" + amount + "_";
+    }
+
+    private static String safe(String value) {
+        return value == null ? "any" : value.replaceAll("[^A-Za-z0-9-]", "-");
+    }
+}
@@ -0,0 +1,54 @@
+package trivia.interface_adapter.api;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiter: holds up to {@code capacity} tokens and gains one
+ * every {@code refillIntervalMs}. Callers block until a token is available.
+ */
+public class TokenBucket {
+
+    private final int capacity;
+    private final long refillIntervalNanos;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(int capacity, long refillIntervalMs) {
+        this.capacity = capacity;
+        this.refillIntervalNanos = refillIntervalMs * 1_000_000L;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /** Takes one token, waiting for it if necessary. */
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                if (tokens >= 1) {
+                    tokens -= 1;
+                    return;
+                }
+                waitNanos = (long) ((1 - tokens) * refillIntervalNanos);
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /** Removes every token, e.g. after the upstream reported that it was called too often. */
+    public synchronized void drain() {
+        refill();
+        tokens = 0;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        if (refillIntervalNanos <= 0) {
+            tokens = capacity;
+        } else {
+            tokens = Math.min(capacity, tokens + (double) (now - lastRefill) / refillIntervalNanos);
+        }
+        lastRefill = now;
+    }
+}
@@ -23,4 +23,15 @@ public class CompleteQuizController {
 
         interactor.execute(inputData);
     }
+
+    public void execute(String playerName,
+                        List<Question> questions,
+                        List<String> userAnswers,
+                        List<Integer> selectedOptionIndices) {
+
+        CompleteQuizInputData inputData =
+                new CompleteQuizInputData(playerName, questions, userAnswers, selectedOptionIndices);
+
+        interactor.execute(inputData);
+    }
 }
@@ -25,6 +25,13 @@ public class ReviewController {
         inputBoundary.viewPastQuizzes(playerName);
     }
 
+    /**
+     * Load one page of past quiz attempts, newest first; pass a null cursor for the first page
+     */
+    public void viewPastQuizzes(String playerName, String cursor, int pageSize) {
+        inputBoundary.viewPastQuizzes(playerName, cursor, pageSize);
+    }
+
     /**
      * Open a specific quiz attempt to view details
      */
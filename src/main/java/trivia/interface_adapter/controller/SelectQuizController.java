@@ -9,6 +9,7 @@ import trivia.interface_adapter.presenter.SelectQuizViewModel;
 import trivia.interface_adapter.presenter.SelectQuizPresenter;
 
 import java.util.List;
+import java.util.concurrent.Future;
 
 /**
  * FIXED SelectQuizController - Now properly integrates with presenter and ViewModel
@@ -22,6 +23,7 @@ public class SelectQuizController {
     private final SelectQuizInputBoundary interactor;
     private final SelectQuizPresenter presenter;
     private final SelectQuizViewModel viewModel;
+    private Future<?> pending;
 
     /**
      * Full constructor - used by AppFactory
@@ -43,11 +45,42 @@ public class SelectQuizController {
      * The controller NEVER touches API or data directly - it delegates to interactor
      */
     public void execute(String categoryId, String difficulty, int amount) {
-        SelectQuizInputData inputData = new SelectQuizInputData(categoryId, difficulty, amount);
+        execute(categoryId, difficulty, amount, null);
+    }
+
+    /**
+     * Same as above, for a known player so they are not served questions they have already seen.
+     */
+    public void execute(String categoryId, String difficulty, int amount, String playerName) {
+        SelectQuizInputData inputData = new SelectQuizInputData(categoryId, difficulty, amount, playerName);
         interactor.execute(inputData);
         // ViewModel is updated via presenter, UI listens via PropertyChangeListener
     }
 
+    /**
+     * Start loading questions in the background and return immediately.
+     *
+     * The result reaches the ViewModel through the presenter as usual. Only one load
+     * is kept per controller: starting a new one cancels the previous one.
+     */
+    public Future<?> executeAsync(String categoryId, String difficulty, int amount, String playerName) {
+        cancel();
+        SelectQuizInputData inputData = new SelectQuizInputData(categoryId, difficulty, amount, playerName);
+        pending = interactor.executeAsync(inputData);
+        return pending;
+    }
+
+    /**
+     * Cancel the background load started by executeAsync, if it is still running.
+     * Nothing is presented for a cancelled load.
+     */
+    public void cancel() {
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+    }
+
     /**
      * Convenience method: Retrieve the questions from ViewModel after execute() completes
      * 
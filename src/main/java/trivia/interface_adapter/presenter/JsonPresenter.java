@@ -0,0 +1,186 @@
+package trivia.interface_adapter.presenter;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import trivia.entity.Question;
+import trivia.use_case.complete_quiz.CompleteQuizOutputBoundary;
+import trivia.use_case.complete_quiz.CompleteQuizOutputData;
+import trivia.use_case.create_quiz.CreateQuizOutputBoundary;
+import trivia.use_case.create_quiz.CreateQuizOutputData;
+import trivia.use_case.generate_from_wrong.GenerateFromWrongOutputBoundary;
+import trivia.use_case.generate_from_wrong.GenerateFromWrongOutputData;
+import trivia.use_case.load_quiz.LoadQuizOutputBoundary;
+import trivia.use_case.load_quiz.LoadQuizResponseModel;
+import trivia.use_case.review_quiz.ReviewQuizOutputBoundary;
+import trivia.use_case.review_quiz.ReviewQuizResponseModel;
+import trivia.use_case.select_quiz.SelectQuizOutputBoundary;
+import trivia.use_case.select_quiz.SelectQuizOutputData;
+import trivia.use_case.view_profile.ViewProfileOutputBoundary;
+import trivia.use_case.view_profile.ViewProfileOutputData;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Headless presenter for the HTTP server: turns whatever a use case presents
+ * into an HTTP status and a JSON body.
+ *
+ * Unlike the Swing presenters, which write into the shared ViewModels, one of
+ * these is created for every request and holds only that request's result, so
+ * concurrent requests never see each other's output.
+ *
+ * Questions handed out to be answered are shown without their correct answer,
+ * under the ids the server issued them with; see {@link #presentIssuedQuestions(List)}.
+ */
+public class JsonPresenter implements SelectQuizOutputBoundary, CreateQuizOutputBoundary,
+        LoadQuizOutputBoundary, CompleteQuizOutputBoundary, ReviewQuizOutputBoundary,
+        GenerateFromWrongOutputBoundary, ViewProfileOutputBoundary {
+
+    private static final Gson gson = new Gson();
+
+    private int status = 500;
+    private Object body = error("The use case did not produce a result.");
+
+    // questions to answer in the result, and the redo response they came from, if any
+    private List<Question> playable = Collections.emptyList();
+    private ReviewQuizResponseModel redo;
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String toJson() {
+        return gson.toJson(body);
+    }
+
+    private void show(int status, Object body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    private static Object error(String message) {
+        return Collections.singletonMap("error", message);
+    }
+
+    /** The questions this result hands out to be answered; empty if there are none. */
+    public List<Question> getPlayableQuestions() {
+        return playable;
+    }
+
+    /** Shows the playable questions under the ids they were issued with, in the same order. */
+    public void presentIssuedQuestions(List<String> ids) {
+        List<Map<String, Object>> questions = new ArrayList<>(playable.size());
+        for (int i = 0; i < playable.size(); i++) {
+            questions.add(withoutAnswer(ids.get(i), playable.get(i)));
+        }
+        if (redo == null) {
+            show(status, Collections.singletonMap("questions", questions));
+        } else {
+            JsonObject response = gson.toJsonTree(redo).getAsJsonObject();
+            response.getAsJsonObject("quizToRedo").add("questions", gson.toJsonTree(questions));
+            show(status, response);
+        }
+    }
+
+    private static Map<String, Object> withoutAnswer(String id, Question question) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", id);
+        view.put("questionText", question.getQuestionText());
+        view.put("options", question.getOptions());
+        view.put("category", question.getCategory());
+        view.put("difficulty", question.getDifficulty());
+        return view;
+    }
+
+    // --- Sign-in (no use case; the server checks the password as StartScreen does) ---
+    public void presentSession(String playerName, String token) {
+        Map<String, String> session = new LinkedHashMap<>();
+        session.put("playerName", playerName);
+        session.put("token", token);
+        show(201, session);
+    }
+
+    public void presentLoginFailure() {
+        show(401, error("Wrong player name or password."));
+    }
+
+    // --- Sign-up (no use case; the server talks to the player DAO as StartScreen does) ---
+    public void presentRegistration(int status, String playerName) {
+        show(status, status == 201 ? Collections.singletonMap("playerName", playerName)
+                : error("Player name is already taken: " + playerName));
+    }
+
+    // --- Select Quiz ---
+    @Override
+    public void presentSuccess(SelectQuizOutputData outputData) {
+        playable = outputData.getQuestions() != null ? outputData.getQuestions() : Collections.emptyList();
+        show(200, outputData);
+    }
+
+    @Override
+    public void presentFailure(String errorMessage) {
+        // the question source is an upstream service, so its failures are a bad gateway
+        show(502, error(errorMessage));
+    }
+
+    // --- Create Quiz / Generate From Wrong ---
+    @Override
+    public void prepareSuccessView(CreateQuizOutputData outputData) {
+        show(201, outputData);
+    }
+
+    @Override
+    public void prepareSuccessView(GenerateFromWrongOutputData response) {
+        show(201, response);
+    }
+
+    @Override
+    public void prepareFailView(String errorMessage) {
+        show(422, error(errorMessage));
+    }
+
+    // --- Load Quiz / Complete Quiz / View Profile ---
+    @Override
+    public void present(LoadQuizResponseModel responseModel) {
+        show(200, responseModel);
+    }
+
+    @Override
+    public void present(CompleteQuizOutputData data) {
+        show(201, data);
+    }
+
+    @Override
+    public void present(ViewProfileOutputData outputData) {
+        show(200, outputData);
+    }
+
+    // --- Review Quiz ---
+    @Override
+    public void presentPastQuizList(ReviewQuizResponseModel responseModel) {
+        show(200, responseModel);
+    }
+
+    @Override
+    public void presentQuizAttempt(ReviewQuizResponseModel responseModel) {
+        show(responseModel.getAttemptId() != null ? 200 : 404, responseModel);
+    }
+
+    @Override
+    public void presentSaveResult(ReviewQuizResponseModel responseModel) {
+        // the interactor leaves the attempt id unset when nothing was saved
+        show(responseModel.getAttemptId() != null ? 200 : 422, responseModel);
+    }
+
+    @Override
+    public void presentRedoQuiz(ReviewQuizResponseModel responseModel) {
+        if (responseModel.getQuizToRedo() != null && responseModel.getQuizToRedo().getQuestions() != null) {
+            playable = responseModel.getQuizToRedo().getQuestions();
+            redo = responseModel;
+        }
+        show(responseModel.getQuizToRedo() != null ? 200 : 422, responseModel);
+    }
+}
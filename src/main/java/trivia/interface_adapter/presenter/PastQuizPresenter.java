@@ -29,38 +29,57 @@ public class PastQuizPresenter implements ReviewQuizOutputBoundary {
         List<ReviewQuizResponseModel.PastQuizSummary> summaries =
                 responseModel.getPastQuizzes();
 
+        viewModel.setNextPastQuizCursor(responseModel.getNextPastQuizCursor());
+        viewModel.setTotalPastQuizzes(responseModel.getTotalPastQuizzes());
+
+        // a later page of a paged listing goes below the rows already shown
+        if (responseModel.getPastQuizCursor() != null) {
+            viewModel.appendPastQuizzes(toViewModels(summaries));
+            if (responseModel.getMessage() != null) {
+                viewModel.setMessage(responseModel.getMessage());
+            }
+            return;
+        }
+
         if (summaries == null || summaries.isEmpty()) {
             viewModel.setPastQuizzes(new ArrayList<>());
             viewModel.setMessage(responseModel.getMessage() != null ?
                     responseModel.getMessage() : "No past quizzes found.");
         } else {
-            List<PastQuizViewModel.PastQuizSummaryViewModel> viewModelList =
-                    new ArrayList<>();
+            viewModel.setPastQuizzes(toViewModels(summaries));
+            viewModel.setMessage("");
+        }
+    }
 
-            for (ReviewQuizResponseModel.PastQuizSummary summary : summaries) {
-                String raw = summary.getCompletedAt();
-                String formattedDate = raw;
-
-                if (raw != null && !raw.isEmpty()) {
-                    try {
-                        LocalDateTime dt = LocalDateTime.parse(raw);
-                        formattedDate = dt.format(DATE_FORMATTER);
-                    } catch (DateTimeParseException e) {
-                        formattedDate = raw;
-                    }
-                }
+    private List<PastQuizViewModel.PastQuizSummaryViewModel> toViewModels(
+            List<ReviewQuizResponseModel.PastQuizSummary> summaries) {
+        List<PastQuizViewModel.PastQuizSummaryViewModel> viewModelList =
+                new ArrayList<>();
+        if (summaries == null) {
+            return viewModelList;
+        }
 
-                viewModelList.add(new PastQuizViewModel.PastQuizSummaryViewModel(
-                        summary.getAttemptId(),
-                        summary.getQuizTitle(),
-                        summary.getScore(),
-                        formattedDate
-                ));
+        for (ReviewQuizResponseModel.PastQuizSummary summary : summaries) {
+            String raw = summary.getCompletedAt();
+            String formattedDate = raw;
+
+            if (raw != null && !raw.isEmpty()) {
+                try {
+                    LocalDateTime dt = LocalDateTime.parse(raw);
+                    formattedDate = dt.format(DATE_FORMATTER);
+                } catch (DateTimeParseException e) {
+                    formattedDate = raw;
+                }
             }
 
-            viewModel.setPastQuizzes(viewModelList);
-            viewModel.setMessage("");
+            viewModelList.add(new PastQuizViewModel.PastQuizSummaryViewModel(
+                    summary.getAttemptId(),
+                    summary.getQuizTitle(),
+                    summary.getScore(),
+                    formattedDate
+            ));
         }
+        return viewModelList;
     }
 
     @Override
@@ -18,6 +18,8 @@ public class PastQuizViewModel {
 
     // State
     private List<PastQuizSummaryViewModel> pastQuizzes;
+    private String nextPastQuizCursor;   // null when every page has been loaded
+    private int totalPastQuizzes;
     private String currentAttemptId;
     private String quizTitle;
     private List<QuestionRowViewModel> questions;
@@ -54,6 +56,14 @@ public class PastQuizViewModel {
         return pastQuizzes;
     }
 
+    public String getNextPastQuizCursor() {
+        return nextPastQuizCursor;
+    }
+
+    public int getTotalPastQuizzes() {
+        return totalPastQuizzes;
+    }
+
     public String getCurrentAttemptId() {
         return currentAttemptId;
     }
@@ -85,6 +95,20 @@ public class PastQuizViewModel {
         firePropertyChanged();
     }
 
+    /** Adds a further page below the ones already loaded. */
+    public void appendPastQuizzes(List<PastQuizSummaryViewModel> morePastQuizzes) {
+        this.pastQuizzes.addAll(morePastQuizzes);
+        firePropertyChanged();
+    }
+
+    public void setNextPastQuizCursor(String nextPastQuizCursor) {
+        this.nextPastQuizCursor = nextPastQuizCursor;
+    }
+
+    public void setTotalPastQuizzes(int totalPastQuizzes) {
+        this.totalPastQuizzes = totalPastQuizzes;
+    }
+
     public void setCurrentAttemptId(String currentAttemptId) {
         this.currentAttemptId = currentAttemptId;
     }
@@ -1,5 +1,6 @@
 package trivia.interface_adapter.presenter;
 
+import trivia.use_case.view_profile.PlayerStatistics;
 import trivia.use_case.view_profile.ViewProfileOutputBoundary;
 import trivia.use_case.view_profile.ViewProfileOutputData;
 
@@ -18,6 +19,14 @@ public class ViewProfilePresenter implements ViewProfileOutputBoundary {
         viewModel.setTotalAttempts(outputData.getTotalAttempts());
         viewModel.setRank(outputData.getRank());
         viewModel.setTotalPlayers(outputData.getTotalPlayers());
+
+        PlayerStatistics statistics = outputData.getStatistics();
+        viewModel.setAccuracy(statistics.getAccuracy());
+        viewModel.setBestCategory(statistics.getBestCategory());
+        viewModel.setWorstCategory(statistics.getWorstCategory());
+        viewModel.setCurrentStreakDays(statistics.getCurrentStreakDays());
+        viewModel.setLongestStreakDays(statistics.getLongestStreakDays());
+        viewModel.setAverageQuizLength(statistics.getAverageQuizLength());
         viewModel.firePropertyChanged();
     }
 }
\ No newline at end of file
@@ -12,6 +12,12 @@ public class ViewProfileViewModel {
     private int totalAttempts;
     private int rank;
     private int totalPlayers;
+    private double accuracy;
+    private String bestCategory;
+    private String worstCategory;
+    private int currentStreakDays;
+    private int longestStreakDays;
+    private double averageQuizLength;
 
     public ViewProfileViewModel() {
         this.support = new PropertyChangeSupport(this);
@@ -38,6 +44,30 @@ public class ViewProfileViewModel {
         return totalPlayers;
     }
 
+    public double getAccuracy() {
+        return accuracy;
+    }
+
+    public String getBestCategory() {
+        return bestCategory;
+    }
+
+    public String getWorstCategory() {
+        return worstCategory;
+    }
+
+    public int getCurrentStreakDays() {
+        return currentStreakDays;
+    }
+
+    public int getLongestStreakDays() {
+        return longestStreakDays;
+    }
+
+    public double getAverageQuizLength() {
+        return averageQuizLength;
+    }
+
     // Setters
     public void setPlayerName(String playerName) {
         this.playerName = playerName;
@@ -59,6 +89,30 @@ public class ViewProfileViewModel {
         this.totalPlayers = totalPlayers;
     }
 
+    public void setAccuracy(double accuracy) {
+        this.accuracy = accuracy;
+    }
+
+    public void setBestCategory(String bestCategory) {
+        this.bestCategory = bestCategory;
+    }
+
+    public void setWorstCategory(String worstCategory) {
+        this.worstCategory = worstCategory;
+    }
+
+    public void setCurrentStreakDays(int currentStreakDays) {
+        this.currentStreakDays = currentStreakDays;
+    }
+
+    public void setLongestStreakDays(int longestStreakDays) {
+        this.longestStreakDays = longestStreakDays;
+    }
+
+    public void setAverageQuizLength(double averageQuizLength) {
+        this.averageQuizLength = averageQuizLength;
+    }
+
     // Property change support
     public void firePropertyChanged() {
         support.firePropertyChange("profile", null, this);
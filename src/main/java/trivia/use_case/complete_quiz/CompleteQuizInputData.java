@@ -9,16 +9,27 @@ public class CompleteQuizInputData {
     private final String playerName;
     private final List<Question> questions;
     private final List<String> userAnswers;
+    private final List<Integer> selectedOptionIndices;
 
     public CompleteQuizInputData(String playerName,
                                  List<Question> questions,
                                  List<String> userAnswers) {
+        this(playerName, questions, userAnswers, null);
+    }
+
+    // used by the quiz screen, which also knows which option button was picked
+    public CompleteQuizInputData(String playerName,
+                                 List<Question> questions,
+                                 List<String> userAnswers,
+                                 List<Integer> selectedOptionIndices) {
         this.playerName = playerName;
         this.questions = questions;
         this.userAnswers = userAnswers;
+        this.selectedOptionIndices = selectedOptionIndices;
     }
 
     public String getPlayerName() { return playerName; }
     public List<Question> getQuestions() { return questions; }
     public List<String> getUserAnswers() { return userAnswers; }
+    public List<Integer> getSelectedOptionIndices() { return selectedOptionIndices; }
 }
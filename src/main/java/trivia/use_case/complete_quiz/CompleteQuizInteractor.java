@@ -6,15 +6,19 @@ import trivia.entity.QuizAttempt;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 public class CompleteQuizInteractor implements CompleteQuizInputBoundary {
 
     private final QuizAttemptDataAccessInterface repo;
+    private final PlayerProgressDataAccessInterface players;
     private final CompleteQuizOutputBoundary presenter;
 
     public CompleteQuizInteractor(QuizAttemptDataAccessInterface repo,
+                                  PlayerProgressDataAccessInterface players,
                                   CompleteQuizOutputBoundary presenter) {
         this.repo = repo;
+        this.players = players;
         this.presenter = presenter;
     }
 
@@ -24,18 +28,25 @@ public class CompleteQuizInteractor implements CompleteQuizInputBoundary {
         // Get data from the input object
         List<Question> questions = input.getQuestions();
         List<String> answers = input.getUserAnswers();
+        List<Integer> selected = input.getSelectedOptionIndices();
         String playerName = input.getPlayerName();  // current player's name
 
-        // 1. Compute the score
+        // 1. Compute the score (by option index when the screen provides it)
         int score = 0;
         for (int i = 0; i < questions.size(); i++) {
-            if (questions.get(i).getCorrectAnswer().equals(answers.get(i))) {
+            if (selected != null) {
+                int correctIndex = questions.get(i).getCorrectOptionIndex();
+                if (correctIndex >= 0 && i < selected.size() && correctIndex == selected.get(i)) {
+                    score++;
+                }
+            } else if (questions.get(i).getCorrectAnswer().equals(answers.get(i))) {
                 score++;
             }
         }
 
         // 2. Build a Quiz object as a snapshot of this quiz
-        String quizId = "quiz-" + System.currentTimeMillis();
+        // random ids: on the server several players can finish within the same millisecond
+        String quizId = "quiz-" + UUID.randomUUID();
         Quiz quiz = new Quiz(
                 quizId,
                 "API Quiz",   // title
@@ -47,7 +58,7 @@ public class CompleteQuizInteractor implements CompleteQuizInputBoundary {
 
         // 3. Build a QuizAttempt object and include the player name
         QuizAttempt attempt = new QuizAttempt(
-                "attempt-" + System.currentTimeMillis(),
+                "attempt-" + UUID.randomUUID(),
                 quiz,
                 questions.size(),
                 playerName,          // store the player's name in userName
@@ -55,9 +66,13 @@ public class CompleteQuizInteractor implements CompleteQuizInputBoundary {
                 answers,
                 score
         );
+        if (selected != null) {
+            attempt.setSelectedOptionIndices(selected);
+            attempt.compactAnswers();
+        }
 
-        // 4. Save this attempt to the repository
-        repo.saveAttempt(attempt);
+        // 4. Commit quiz, attempt and score change together; the repo credits the player
+        repo.commitCompletion(new QuizCompletion(quiz, attempt, playerName, score), players);
 
         // 5. Send the result to the presenter for the UI layer
         presenter.present(
@@ -0,0 +1,20 @@
+package trivia.use_case.complete_quiz;
+
+import trivia.entity.QuizAttempt;
+
+/**
+ * Data access interface for the player's side of a finished quiz.
+ * The attempt joins the player's history and its points their score in one step,
+ * so two completions for the same player never lose each other's update and
+ * nobody sees the attempt without its points.
+ */
+public interface PlayerProgressDataAccessInterface {
+
+    /**
+     * Add the attempt to the player's history and scoreDelta to their score.
+     * Applying an attempt the player already has changes nothing.
+     *
+     * @return false if there is no such player
+     */
+    boolean applyCompletion(String playerName, QuizAttempt attempt, int scoreDelta);
+}
@@ -11,4 +11,16 @@ public interface QuizAttemptDataAccessInterface {
      * Save a completed quiz attempt.
      */
     void saveAttempt(QuizAttempt attempt);
+
+    /**
+     * Commit a finished quiz (quiz, attempt and player score) as one unit of work,
+     * crediting the player through {@code players}. Implementations that only store
+     * attempts fall back to saving the attempt and then crediting the player.
+     */
+    default void commitCompletion(QuizCompletion completion, PlayerProgressDataAccessInterface players) {
+        saveAttempt(completion.getAttempt());
+        if (completion.getPlayerName() != null) {
+            players.applyCompletion(completion.getPlayerName(), completion.getAttempt(), completion.getScoreDelta());
+        }
+    }
 }
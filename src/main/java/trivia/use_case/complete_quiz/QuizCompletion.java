@@ -0,0 +1,29 @@
+package trivia.use_case.complete_quiz;
+
+import trivia.entity.Quiz;
+import trivia.entity.QuizAttempt;
+
+/**
+ * Everything that changes when a player finishes a quiz: the quiz snapshot,
+ * the attempt, and the points added to the player's total.
+ * Data access implementations commit it as one unit of work.
+ */
+public class QuizCompletion {
+
+    private final Quiz quiz;
+    private final QuizAttempt attempt;
+    private final String playerName;
+    private final int scoreDelta;
+
+    public QuizCompletion(Quiz quiz, QuizAttempt attempt, String playerName, int scoreDelta) {
+        this.quiz = quiz;
+        this.attempt = attempt;
+        this.playerName = playerName;
+        this.scoreDelta = scoreDelta;
+    }
+
+    public Quiz getQuiz() { return quiz; }
+    public QuizAttempt getAttempt() { return attempt; }
+    public String getPlayerName() { return playerName; }
+    public int getScoreDelta() { return scoreDelta; }
+}
@@ -11,17 +11,34 @@ public class WrongQuestionRecord {
     private final String questionText;
     private final List<String> options;
     private final String correctAnswer;
+    private final String fingerprint;   // stable id of the question's content, null if unknown
+    private final int missCount;        // how many attempts got this question wrong
+    private final String lastMissed;    // completion time of the latest such attempt
 
     public WrongQuestionRecord(String sourceQuizId,
                                String label,
                                String questionText,
                                List<String> options,
                                String correctAnswer) {
+        this(sourceQuizId, label, questionText, options, correctAnswer, null, 1, null);
+    }
+
+    public WrongQuestionRecord(String sourceQuizId,
+                               String label,
+                               String questionText,
+                               List<String> options,
+                               String correctAnswer,
+                               String fingerprint,
+                               int missCount,
+                               String lastMissed) {
         this.sourceQuizId = sourceQuizId;
         this.label = label;
         this.questionText = questionText;
         this.options = options;
         this.correctAnswer = correctAnswer;
+        this.fingerprint = fingerprint;
+        this.missCount = missCount;
+        this.lastMissed = lastMissed;
     }
 
     public String getSourceQuizId() {
@@ -43,4 +60,16 @@ public class WrongQuestionRecord {
     public String getCorrectAnswer() {
         return correctAnswer;
     }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public int getMissCount() {
+        return missCount;
+    }
+
+    public String getLastMissed() {
+        return lastMissed;
+    }
 }
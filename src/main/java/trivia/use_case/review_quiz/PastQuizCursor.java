@@ -0,0 +1,120 @@
+package trivia.use_case.review_quiz;
+
+import trivia.entity.QuizAttempt;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Where a page of a player's past quizzes ends: the completion time and id of its
+ * last attempt. Pages list attempts newest first by completion time, ties broken by
+ * attempt id, so a cursor keeps pointing at the same place however the attempts are
+ * stored, removed or merged in between pages. Written as "completedAt|attemptId".
+ */
+public final class PastQuizCursor implements Comparable<PastQuizCursor> {
+
+    private static final char SEPARATOR = '|';
+
+    private final String completedAt;
+    private final String attemptId;
+
+    private PastQuizCursor(String completedAt, String attemptId) {
+        this.completedAt = Objects.requireNonNullElse(completedAt, "");
+        this.attemptId = Objects.requireNonNullElse(attemptId, "");
+    }
+
+    /** The position of the attempt in the listing. */
+    public static PastQuizCursor of(QuizAttempt attempt) {
+        return new PastQuizCursor(attempt.getCompletedAt(), attempt.getAttemptId());
+    }
+
+    /** Reads a cursor written by {@link #toString()}, or returns null if it is not one. */
+    public static PastQuizCursor parse(String cursor) {
+        int separator = cursor.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return null;
+        }
+        return new PastQuizCursor(cursor.substring(0, separator), cursor.substring(separator + 1));
+    }
+
+    /**
+     * Up to {@code limit} of the attempts that come after the cursor in the listing,
+     * newest first; a null cursor starts at the newest. Walks the attempts already
+     * sorted by position, so a page costs O(log n + limit) however long the list is.
+     */
+    public static List<QuizAttempt> pageAfter(NavigableMap<PastQuizCursor, QuizAttempt> attemptsByPosition,
+                                              PastQuizCursor cursor, int limit) {
+        List<QuizAttempt> page = new ArrayList<>(Math.max(0, Math.min(limit, attemptsByPosition.size())));
+        if (limit <= 0) {
+            return page;
+        }
+        NavigableMap<PastQuizCursor, QuizAttempt> older = cursor == null
+                ? attemptsByPosition : attemptsByPosition.headMap(cursor, false);
+        for (QuizAttempt attempt : older.descendingMap().values()) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(attempt);
+        }
+        return page;
+    }
+
+    /**
+     * Up to {@code limit} of the attempts that come after the cursor in the listing,
+     * newest first, for attempts that are not kept sorted. Keeps only {@code limit}
+     * candidates at a time, so it does not sort the whole list, but it reads all of it.
+     */
+    public static List<QuizAttempt> pageAfter(Iterable<QuizAttempt> attempts, PastQuizCursor cursor, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        // the oldest candidate on top, so it is the one dropped when a newer one turns up
+        PriorityQueue<QuizAttempt> newest = new PriorityQueue<>(Comparator.comparing(PastQuizCursor::of));
+        for (QuizAttempt attempt : attempts) {
+            if (attempt == null || (cursor != null && of(attempt).compareTo(cursor) >= 0)) {
+                continue;
+            }
+            newest.add(attempt);
+            if (newest.size() > limit) {
+                newest.poll();
+            }
+        }
+        List<QuizAttempt> page = new ArrayList<>(newest.size());
+        while (!newest.isEmpty()) {
+            page.add(newest.poll());
+        }
+        Collections.reverse(page);
+        return page;
+    }
+
+    /** Older attempts compare lower. */
+    @Override
+    public int compareTo(PastQuizCursor other) {
+        int byTime = completedAt.compareTo(other.completedAt);
+        return byTime != 0 ? byTime : attemptId.compareTo(other.attemptId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof PastQuizCursor)) {
+            return false;
+        }
+        PastQuizCursor other = (PastQuizCursor) o;
+        return completedAt.equals(other.completedAt) && attemptId.equals(other.attemptId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(completedAt, attemptId);
+    }
+
+    @Override
+    public String toString() {
+        return completedAt + SEPARATOR + attemptId;
+    }
+}
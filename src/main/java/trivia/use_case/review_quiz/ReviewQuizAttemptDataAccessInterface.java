@@ -9,6 +9,16 @@ public interface ReviewQuizAttemptDataAccessInterface {
 
     List<QuizAttempt> getAttemptsForPlayer(String playerName);
 
+    /** Number of attempts recorded for the player. */
+    int getAttemptCount(String playerName);
+
+    /**
+     * Up to {@code limit} of the player's attempts that come after the cursor in the
+     * listing order of {@link PastQuizCursor}, newest first; a null cursor starts at
+     * the newest attempt.
+     */
+    List<QuizAttempt> getAttemptsAfter(String playerName, PastQuizCursor cursor, int limit);
+
     Optional<QuizAttempt> getAttemptById(String attemptId);
 
     void updateAttempt(QuizAttempt attempt);
@@ -6,6 +6,12 @@ package trivia.use_case.review_quiz;
  */
 public interface ReviewQuizInputBoundary {
     void viewPastQuizzes(String playerName);
+
+    /**
+     * One page of a player's past quizzes, most recently completed first. Pass a null
+     * cursor for the first page and the response's next cursor for the following ones.
+     */
+    void viewPastQuizzes(String playerName, String cursor, int pageSize);
     void openAttempt(String attemptId);
     void saveEditedAnswers(ReviewQuizRequestModel requestModel);
     
@@ -14,6 +14,8 @@ import java.util.Optional;
  */
 public class ReviewQuizInteractor implements ReviewQuizInputBoundary {
 
+    static final String UNKNOWN_QUIZ_TITLE = "Unknown quiz";
+
     private final ReviewQuizAttemptDataAccessInterface attemptDataAccess;
     private final ReviewQuizQuizDataAccessInterface quizDataAccess;
     private final ReviewQuizOutputBoundary presenter;
@@ -35,22 +37,68 @@ public class ReviewQuizInteractor implements ReviewQuizInputBoundary {
             response.setMessage("No past quizzes found.");
             response.setPastQuizzes(new ArrayList<>());
         } else {
-            List<ReviewQuizResponseModel.PastQuizSummary> summaries = new ArrayList<>();
-            for (QuizAttempt attempt : attempts) {
-                Quiz quiz = quizDataAccess.getQuizById(attempt.getQuizId());
-                summaries.add(new ReviewQuizResponseModel.PastQuizSummary(
-                        attempt.getAttemptId(),
-                        quiz.getTitle(),
-                        attempt.getScore(),
-                        attempt.getCompletedAt()
-                ));
+            response.setPastQuizzes(summarize(attempts));
+        }
+
+        presenter.presentPastQuizList(response);
+    }
+
+    /**
+     * The cursor is the completion time and id of the page's last attempt (see
+     * PastQuizCursor), so it still points at the same place after the player finishes
+     * more quizzes, an attempt is removed or attempts from another process are merged in.
+     * One attempt more than the page is asked for, to tell whether there is a next page.
+     */
+    @Override
+    public void viewPastQuizzes(String playerName, String cursor, int pageSize) {
+        ReviewQuizResponseModel response = new ReviewQuizResponseModel();
+        response.setPastQuizCursor(cursor);
+
+        int total = attemptDataAccess.getAttemptCount(playerName);
+        response.setTotalPastQuizzes(total);
+
+        PastQuizCursor after = null;
+        if (cursor != null) {
+            after = PastQuizCursor.parse(cursor);
+            if (after == null) {
+                response.setMessage("Invalid page cursor.");
+                response.setPastQuizzes(new ArrayList<>());
+                presenter.presentPastQuizList(response);
+                return;
             }
-            response.setPastQuizzes(summaries);
+        }
+
+        List<QuizAttempt> page = total > 0 && pageSize > 0
+                ? attemptDataAccess.getAttemptsAfter(playerName, after, pageSize + 1)
+                : new ArrayList<>();
+        if (page.size() > pageSize) {
+            page = page.subList(0, pageSize);
+            response.setNextPastQuizCursor(PastQuizCursor.of(page.get(pageSize - 1)).toString());
+        }
+        response.setPastQuizzes(summarize(page));
+
+        if (total == 0) {
+            response.setMessage("No past quizzes found.");
         }
 
         presenter.presentPastQuizList(response);
     }
 
+    /** One row per attempt; an attempt whose quiz is gone is listed under a placeholder title. */
+    private List<ReviewQuizResponseModel.PastQuizSummary> summarize(List<QuizAttempt> attempts) {
+        List<ReviewQuizResponseModel.PastQuizSummary> summaries = new ArrayList<>(attempts.size());
+        for (QuizAttempt attempt : attempts) {
+            Quiz quiz = quizDataAccess.getQuizById(attempt.getQuizId());
+            summaries.add(new ReviewQuizResponseModel.PastQuizSummary(
+                    attempt.getAttemptId(),
+                    quiz != null ? quiz.getTitle() : UNKNOWN_QUIZ_TITLE,
+                    attempt.getScore(),
+                    attempt.getCompletedAt()
+            ));
+        }
+        return summaries;
+    }
+
     @Override
     public void openAttempt(String attemptId) {
         Optional<QuizAttempt> maybeAttempt = attemptDataAccess.getAttemptById(attemptId);
@@ -100,6 +148,12 @@ public class ReviewQuizInteractor implements ReviewQuizInputBoundary {
 
         QuizAttempt attempt = maybeAttempt.get();
 
+        if (!isOwnedBy(attempt, requestModel.getPlayerName())) {
+            response.setMessage("You can only edit your own quiz attempts.");
+            presenter.presentSaveResult(response);
+            return;
+        }
+
         if (!attempt.isEditable()) {
             response.setMessage("Editing is restricted.");
             response.setEditingEnabled(false);
@@ -130,6 +184,18 @@ public class ReviewQuizInteractor implements ReviewQuizInputBoundary {
         presenter.presentSaveResult(response);
     }
 
+    /**
+     * An attempt belongs to its userName, or to the quiz creator for attempts saved
+     * without one; names match case-insensitively, as player names do everywhere.
+     */
+    private static boolean isOwnedBy(QuizAttempt attempt, String playerName) {
+        String owner = attempt.getUserName();
+        if (owner == null && attempt.getQuiz() != null) {
+            owner = attempt.getQuiz().getCreatorName();
+        }
+        return owner != null && owner.equalsIgnoreCase(playerName);
+    }
+
     // ✅ NEW: Redo quiz use case implementation
     @Override
     public void prepareRedoQuiz(String attemptId) {
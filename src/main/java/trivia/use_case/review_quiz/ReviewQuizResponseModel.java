@@ -7,6 +7,11 @@ import java.util.List;
 public class ReviewQuizResponseModel {
 
     private List<PastQuizSummary> pastQuizzes;
+    // paged listing: the cursor this page was asked for (null for the first page),
+    // the cursor of the next page (null if there is none) and the player's total
+    private String pastQuizCursor;
+    private String nextPastQuizCursor;
+    private int totalPastQuizzes;
 
     private String attemptId;
     private String quizTitle;
@@ -26,6 +31,30 @@ public class ReviewQuizResponseModel {
         this.pastQuizzes = pastQuizzes;
     }
 
+    public String getPastQuizCursor() {
+        return pastQuizCursor;
+    }
+
+    public void setPastQuizCursor(String pastQuizCursor) {
+        this.pastQuizCursor = pastQuizCursor;
+    }
+
+    public String getNextPastQuizCursor() {
+        return nextPastQuizCursor;
+    }
+
+    public void setNextPastQuizCursor(String nextPastQuizCursor) {
+        this.nextPastQuizCursor = nextPastQuizCursor;
+    }
+
+    public int getTotalPastQuizzes() {
+        return totalPastQuizzes;
+    }
+
+    public void setTotalPastQuizzes(int totalPastQuizzes) {
+        this.totalPastQuizzes = totalPastQuizzes;
+    }
+
     public String getAttemptId() {
         return attemptId;
     }
@@ -28,4 +28,14 @@ public interface SelectQuizAPIDataAccessInterface {
      */
 
     List<Question> fetchQuestions(String categoryId, String difficulty, int amount);
-}
\ No newline at end of file
+
+    /**
+     * Same as {@link #fetchQuestions(String, String, int)}, but lets a source that
+     * remembers what it has handed out avoid repeating questions for the player.
+     *
+     * @param playerName the player the questions are for, or null if unknown
+     */
+    default List<Question> fetchQuestions(String categoryId, String difficulty, int amount, String playerName) {
+        return fetchQuestions(categoryId, difficulty, amount);
+    }
+}
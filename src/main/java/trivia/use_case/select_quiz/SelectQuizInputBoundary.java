@@ -1,5 +1,7 @@
 package trivia.use_case.select_quiz;
 
+import java.util.concurrent.Future;
+
 /**
  * Input boundary (use case interface) for the "Select Quiz" use case.
  *
@@ -21,4 +23,17 @@ public interface SelectQuizInputBoundary {
      *                  and amount chosen by the user
      */
     void execute(SelectQuizInputData inputData);
-}
\ No newline at end of file
+
+    /**
+     * Runs the use case on a background worker instead of the caller's thread.
+     *
+     * <p>Results still arrive through the output boundary, from the worker thread.
+     * Cancelling the returned future interrupts the fetch, and nothing is
+     * presented for a cancelled request.
+     *
+     * @param inputData value object containing categoryId, difficulty,
+     *                  and amount chosen by the user
+     * @return a future that completes once the result has been presented
+     */
+    Future<?> executeAsync(SelectQuizInputData inputData);
+}
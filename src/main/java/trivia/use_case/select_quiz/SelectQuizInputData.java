@@ -26,6 +26,9 @@ public class SelectQuizInputData {
     /** The number of questions to fetch for this quiz. */
     private final int amount;
 
+    /** The player starting the quiz, or null if unknown. */
+    private final String playerName;
+
     /**
      * Creates a new input data object for the "Select Quiz" use case.
      *
@@ -35,9 +38,20 @@ public class SelectQuizInputData {
      */
 
     public SelectQuizInputData(String categoryId, String difficulty, int amount) {
+        this(categoryId, difficulty, amount, null);
+    }
+
+    /**
+     * Creates a new input data object for a known player, so questions the
+     * player has already been served can be skipped.
+     *
+     * @param playerName the player starting the quiz
+     */
+    public SelectQuizInputData(String categoryId, String difficulty, int amount, String playerName) {
         this.categoryId = categoryId;
         this.difficulty = difficulty;
         this.amount = amount;
+        this.playerName = playerName;
     }
 
     /**
@@ -60,4 +74,11 @@ public class SelectQuizInputData {
     public int getAmount() {
         return amount;
     }
-}
\ No newline at end of file
+
+    /**
+     * @return the player starting the quiz, or null if unknown
+     */
+    public String getPlayerName() {
+        return playerName;
+    }
+}
@@ -2,6 +2,15 @@ package trivia.use_case.select_quiz;
 
 import trivia.entity.Question;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Interactor (use case implementation) for "Select Quiz".
@@ -27,6 +36,15 @@ public class SelectQuizInteractor implements SelectQuizInputBoundary {
     /** Presenter used to send success/failure results back to the UI layer. */
     private final SelectQuizOutputBoundary presenter;
 
+    /** Workers used by {@link #executeAsync(SelectQuizInputData)}. */
+    private final ExecutorService executor;
+
+    /** Where results of {@link #executeAsync(SelectQuizInputData)} are handed to the presenter. */
+    private final Executor resultExecutor;
+
+    /** Default worker pool: two loads at a time, a few more may wait, the rest are refused. */
+    private static ExecutorService sharedExecutor;
+
     /**
      * Constructs a new interactor for the "Select Quiz" use case.
      *
@@ -35,8 +53,49 @@ public class SelectQuizInteractor implements SelectQuizInputBoundary {
      */
     public SelectQuizInteractor(SelectQuizAPIDataAccessInterface apiDataAccess,
                                 SelectQuizOutputBoundary presenter) {
+        this(apiDataAccess, presenter, sharedExecutor());
+    }
+
+    /**
+     * Constructs a new interactor that runs asynchronous requests on the given executor.
+     *
+     * @param executor workers for {@link #executeAsync(SelectQuizInputData)}
+     */
+    public SelectQuizInteractor(SelectQuizAPIDataAccessInterface apiDataAccess,
+                                SelectQuizOutputBoundary presenter,
+                                ExecutorService executor) {
+        this(apiDataAccess, presenter, executor, Runnable::run);
+    }
+
+    /**
+     * Constructs a new interactor that hands asynchronous results to the presenter
+     * on the thread the view is updated on, e.g. the Swing event dispatch thread.
+     *
+     * @param executor       workers for {@link #executeAsync(SelectQuizInputData)}
+     * @param resultExecutor runs the hand-off of each asynchronous result
+     */
+    public SelectQuizInteractor(SelectQuizAPIDataAccessInterface apiDataAccess,
+                                SelectQuizOutputBoundary presenter,
+                                ExecutorService executor,
+                                Executor resultExecutor) {
         this.apiDataAccess = apiDataAccess;
         this.presenter = presenter;
+        this.executor = executor;
+        this.resultExecutor = resultExecutor;
+    }
+
+    /** The pool used when no executor is given. */
+    public static synchronized ExecutorService sharedExecutor() {
+        if (sharedExecutor == null) {
+            sharedExecutor = new ThreadPoolExecutor(2, 2, 30, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(4), runnable -> {
+                        Thread thread = new Thread(runnable, "select-quiz-worker");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            ((ThreadPoolExecutor) sharedExecutor).allowCoreThreadTimeOut(true);
+        }
+        return sharedExecutor;
     }
 
     /**
@@ -53,6 +112,34 @@ public class SelectQuizInteractor implements SelectQuizInputBoundary {
      */
     @Override
     public void execute(SelectQuizInputData inputData) {
+        run(inputData, presenter);
+    }
+
+    /**
+     * Runs {@link #execute(SelectQuizInputData)} on a worker thread.
+     *
+     * <p>The result is handed to the presenter through the result executor, and only
+     * if the returned future has not been cancelled by the time the hand-off runs.
+     * Cancelling still withdraws a result that is finished but not yet handed over,
+     * so a request cancelled on the view's thread never updates the view afterwards.
+     * If every worker is busy and the queue is full, the request fails right away.
+     */
+    @Override
+    public Future<?> executeAsync(SelectQuizInputData inputData) {
+        RequestPresenter guarded = new RequestPresenter(presenter, resultExecutor);
+        Request task = new Request(() -> run(inputData, guarded));
+        guarded.request = task;
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            presenter.presentFailure("Too many quizzes are loading. Please try again.");
+            return CompletableFuture.completedFuture(null);
+        }
+        return task;
+    }
+
+    private void run(SelectQuizInputData inputData, SelectQuizOutputBoundary presenter) {
         try {
             // 1. Null-check the input object itself
             if (inputData == null) {
@@ -87,7 +174,8 @@ public class SelectQuizInteractor implements SelectQuizInputBoundary {
 
             // 4. Call the data access interface to fetch questions from an external API
             //    Note: the interactor does NOT know how the API call is implemented.
-            List<Question> questions = apiDataAccess.fetchQuestions(categoryId, difficulty, amount);
+            List<Question> questions = apiDataAccess.fetchQuestions(
+                    categoryId, difficulty, amount, inputData.getPlayerName());
 
             // 5. Check that we actually received questions back
             if (questions == null || questions.isEmpty()) {
@@ -104,4 +192,53 @@ public class SelectQuizInteractor implements SelectQuizInputBoundary {
             presenter.presentFailure("Failed to load questions: " + e.getMessage());
         }
     }
+
+    /** An asynchronous request; cancelling it also withdraws a result not handed over yet. */
+    private static class Request extends FutureTask<Void> {
+        private volatile boolean withdrawn;
+
+        Request(Runnable work) {
+            super(work, null);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            withdrawn = true;
+            return super.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    /**
+     * Forwards results to the real presenter unless the request was cancelled.
+     * The check runs inside the hand-off, on the result executor's thread, so it sees
+     * every cancel issued on that thread before the hand-off ran.
+     */
+    private static class RequestPresenter implements SelectQuizOutputBoundary {
+        private final SelectQuizOutputBoundary delegate;
+        private final Executor resultExecutor;
+        private volatile Request request;
+
+        RequestPresenter(SelectQuizOutputBoundary delegate, Executor resultExecutor) {
+            this.delegate = delegate;
+            this.resultExecutor = resultExecutor;
+        }
+
+        @Override
+        public void presentSuccess(SelectQuizOutputData outputData) {
+            handOver(() -> delegate.presentSuccess(outputData));
+        }
+
+        @Override
+        public void presentFailure(String errorMessage) {
+            handOver(() -> delegate.presentFailure(errorMessage));
+        }
+
+        private void handOver(Runnable result) {
+            resultExecutor.execute(() -> {
+                if (!request.withdrawn) {
+                    result.run();
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,131 @@
+package trivia.use_case.view_profile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Precomputed statistics of one player, as kept by the data access layer.
+ * Accuracy counts every question a player answered (unanswered ones count as wrong).
+ * A streak is a run of consecutive days with at least one finished quiz; the
+ * current streak is the run that ends on the last day the player played.
+ */
+public class PlayerStatistics {
+
+    private final int questionsAnswered;
+    private final int correctAnswers;
+    private final double accuracy;
+    private final List<CategoryStatistics> categories;
+    private final String bestCategory;
+    private final String worstCategory;
+    private final int currentStreakDays;
+    private final int longestStreakDays;
+    private final double averageQuizLength;
+
+    public PlayerStatistics(int questionsAnswered, int correctAnswers, List<CategoryStatistics> categories,
+                            int currentStreakDays, int longestStreakDays, double averageQuizLength) {
+        this.questionsAnswered = questionsAnswered;
+        this.correctAnswers = correctAnswers;
+        this.accuracy = ratio(correctAnswers, questionsAnswered);
+        this.categories = Collections.unmodifiableList(new ArrayList<>(categories));
+        this.currentStreakDays = currentStreakDays;
+        this.longestStreakDays = longestStreakDays;
+        this.averageQuizLength = averageQuizLength;
+
+        CategoryStatistics best = null;
+        CategoryStatistics worst = null;
+        for (CategoryStatistics category : this.categories) {
+            if (category.getQuestionsAnswered() == 0) {
+                continue;
+            }
+            if (best == null || category.getAccuracy() > best.getAccuracy()) {
+                best = category;
+            }
+            if (worst == null || category.getAccuracy() < worst.getAccuracy()) {
+                worst = category;
+            }
+        }
+        this.bestCategory = best != null ? best.getCategory() : null;
+        this.worstCategory = worst != null ? worst.getCategory() : null;
+    }
+
+    /** Statistics of a player with no finished quizzes. */
+    public static PlayerStatistics empty() {
+        return new PlayerStatistics(0, 0, Collections.emptyList(), 0, 0, 0);
+    }
+
+    public int getQuestionsAnswered() {
+        return questionsAnswered;
+    }
+
+    public int getCorrectAnswers() {
+        return correctAnswers;
+    }
+
+    /** Share of answered questions that were right, from 0 to 1. */
+    public double getAccuracy() {
+        return accuracy;
+    }
+
+    /** Per-category figures, ordered by category name. */
+    public List<CategoryStatistics> getCategories() {
+        return categories;
+    }
+
+    /** Category with the highest accuracy (first by name on ties), or null. */
+    public String getBestCategory() {
+        return bestCategory;
+    }
+
+    /** Category with the lowest accuracy (first by name on ties), or null. */
+    public String getWorstCategory() {
+        return worstCategory;
+    }
+
+    public int getCurrentStreakDays() {
+        return currentStreakDays;
+    }
+
+    public int getLongestStreakDays() {
+        return longestStreakDays;
+    }
+
+    /** Average number of questions per finished quiz. */
+    public double getAverageQuizLength() {
+        return averageQuizLength;
+    }
+
+    private static double ratio(int part, int whole) {
+        return whole == 0 ? 0 : (double) part / whole;
+    }
+
+    public static class CategoryStatistics {
+        private final String category;
+        private final int questionsAnswered;
+        private final int correctAnswers;
+        private final double accuracy;
+
+        public CategoryStatistics(String category, int questionsAnswered, int correctAnswers) {
+            this.category = category;
+            this.questionsAnswered = questionsAnswered;
+            this.correctAnswers = correctAnswers;
+            this.accuracy = ratio(correctAnswers, questionsAnswered);
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public int getQuestionsAnswered() {
+            return questionsAnswered;
+        }
+
+        public int getCorrectAnswers() {
+            return correctAnswers;
+        }
+
+        public double getAccuracy() {
+            return accuracy;
+        }
+    }
+}
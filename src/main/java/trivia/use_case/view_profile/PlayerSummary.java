@@ -0,0 +1,30 @@
+package trivia.use_case.view_profile;
+
+/**
+ * A player's score and number of finished attempts, read together by the data
+ * access layer, so a profile can be shown without loading the attempts themselves.
+ */
+public class PlayerSummary {
+
+    private final String playerName;
+    private final int score;
+    private final int attemptCount;
+
+    public PlayerSummary(String playerName, int score, int attemptCount) {
+        this.playerName = playerName;
+        this.score = score;
+        this.attemptCount = attemptCount;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+}
@@ -6,4 +6,18 @@ import java.util.List;
 public interface ViewProfileDataAccessInterface {
     Player loadPlayer(String playerName);
     List<Player> getAllPlayers();
-}
\ No newline at end of file
+
+    /** The player's score and attempt count, without copying any attempts; null if the player is unknown. */
+    PlayerSummary getSummary(String playerName);
+
+    /** 1-based position by score (ties by name), or -1 if the player is unknown. */
+    int getRank(String playerName);
+
+    int getPlayerCount();
+
+    /** The best {@code limit} players, highest score first. */
+    List<Player> getTopPlayers(int limit);
+
+    /** The player's precomputed statistics, or null if the player is unknown. */
+    PlayerStatistics getStatistics(String playerName);
+}
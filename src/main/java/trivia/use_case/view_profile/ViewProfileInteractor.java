@@ -1,9 +1,5 @@
 package trivia.use_case.view_profile;
 
-import trivia.entity.Player;
-import java.util.Comparator;
-import java.util.List;
-
 public class ViewProfileInteractor implements ViewProfileInputBoundary {
 
     private final ViewProfileDataAccessInterface dataAccess;
@@ -19,37 +15,29 @@ public class ViewProfileInteractor implements ViewProfileInputBoundary {
     public void execute(ViewProfileInputData inputData) {
         String playerName = inputData.getPlayerName();
 
-        // Load current player
-        Player player = dataAccess.loadPlayer(playerName);
-        if (player == null) {
+        // Score and attempt count only; the attempts themselves are never loaded here
+        PlayerSummary summary = dataAccess.getSummary(playerName);
+        if (summary == null) {
             presenter.present(new ViewProfileOutputData(playerName, 0, 0, -1, 0));
             return;
         }
 
-        // Calculate stats
-        int totalScore = player.getScore();
-        int totalAttempts = (player.getPastAttempts() == null) ? 0 : player.getPastAttempts().size();
-
-        // Calculate ranking
-        List<Player> allPlayers = dataAccess.getAllPlayers();
-        allPlayers.sort(Comparator.comparingInt(Player::getScore).reversed());
-
-        int rank = -1;
-        int position = 1;
-        for (Player p : allPlayers) {
-            if (p.getPlayerName().equalsIgnoreCase(playerName)) {
-                rank = position;
-                break;
-            }
-            position++;
-        }
+        int totalScore = summary.getScore();
+        int totalAttempts = summary.getAttemptCount();
+
+        // Ranking comes from the leaderboard kept by the data access layer
+        int rank = dataAccess.getRank(playerName);
+
+        // Statistics are kept up to date as attempts are saved, so nothing is rescanned here
+        PlayerStatistics statistics = dataAccess.getStatistics(playerName);
 
         ViewProfileOutputData outputData = new ViewProfileOutputData(
                 playerName,
                 totalScore,
                 totalAttempts,
                 rank,
-                allPlayers.size()
+                dataAccess.getPlayerCount(),
+                statistics != null ? statistics : PlayerStatistics.empty()
         );
 
         presenter.present(outputData);
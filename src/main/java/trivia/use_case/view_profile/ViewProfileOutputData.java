@@ -6,14 +6,21 @@ public class ViewProfileOutputData {
     private final int totalAttempts;
     private final int rank;
     private final int totalPlayers;
+    private final PlayerStatistics statistics;
 
     public ViewProfileOutputData(String playerName, int totalScore, int totalAttempts,
                                  int rank, int totalPlayers) {
+        this(playerName, totalScore, totalAttempts, rank, totalPlayers, PlayerStatistics.empty());
+    }
+
+    public ViewProfileOutputData(String playerName, int totalScore, int totalAttempts,
+                                 int rank, int totalPlayers, PlayerStatistics statistics) {
         this.playerName = playerName;
         this.totalScore = totalScore;
         this.totalAttempts = totalAttempts;
         this.rank = rank;
         this.totalPlayers = totalPlayers;
+        this.statistics = statistics;
     }
 
     public String getPlayerName() {
@@ -35,4 +42,8 @@ public class ViewProfileOutputData {
     public int getTotalPlayers() {
         return totalPlayers;
     }
-}
\ No newline at end of file
+
+    public PlayerStatistics getStatistics() {
+        return statistics;
+    }
+}
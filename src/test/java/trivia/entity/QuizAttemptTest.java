@@ -0,0 +1,74 @@
+package trivia.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the compact answer representation of QuizAttempt and Question.
+ */
+class QuizAttemptTest {
+
+    private Quiz sampleQuiz() {
+        List<Question> questions = new ArrayList<>();
+        questions.add(new Question("q1", "2 + 2?", Arrays.asList("3", "4", "5", "6"), "4", "Math", "easy"));
+        questions.add(new Question("q2", "Capital of France?", Arrays.asList("Rome", "Paris", "Oslo", "Bern"),
+                "Paris", "Geography", "easy"));
+        return new Quiz("quiz-1", "Sample", "Mixed", "easy", "alice", questions);
+    }
+
+    @Test
+    void questionPrecomputesCorrectIndexAndInternsLabels() {
+        Question q = new Question("q", "?", Arrays.asList("a", "b", "c"), "c",
+                new String("Sports"), new String("easy"));
+
+        assertEquals(2, q.getCorrectOptionIndex());
+        assertSame("Sports", q.getCategory());
+        assertSame("easy", q.getDifficulty());
+        assertEquals(Arrays.asList("a", "b", "c"), q.getOptions());
+        assertThrows(UnsupportedOperationException.class, () -> q.getOptions().set(0, "x"));
+        assertEquals(-1, new Question("q", "?", Arrays.asList("a", "b"), "z", "c", "d").getCorrectOptionIndex());
+    }
+
+    @Test
+    void answersMatchingTheOptionsAreDerivedFromTheIndices() {
+        QuizAttempt attempt = new QuizAttempt("a1", sampleQuiz(), 2, "alice", "2024-01-01T10:00",
+                Arrays.asList("4", "Rome"), 1);
+        attempt.setSelectedOptionIndices(Arrays.asList(1, 0));
+        attempt.compactAnswers();
+
+        assertEquals(Arrays.asList("4", "Rome"), attempt.getUserAnswers());
+        assertEquals(Arrays.asList(1, 0), attempt.getSelectedOptionIndices());
+
+        // an edit changes the indices, and the answers follow them
+        attempt.setSelectedOptionIndices(Arrays.asList(1, 1));
+        assertEquals(Arrays.asList("4", "Paris"), attempt.getUserAnswers());
+    }
+
+    @Test
+    void answersThatAreNotOptionsAreKept() {
+        QuizAttempt attempt = new QuizAttempt("a1", sampleQuiz(), 2, "alice", "2024-01-01T10:00",
+                Arrays.asList("four", ""), 0);
+        attempt.setSelectedOptionIndices(Arrays.asList(-1, null));
+        attempt.compactAnswers();
+
+        assertEquals(Arrays.asList("four", ""), attempt.getUserAnswers());
+        assertEquals(Arrays.asList(-1, -1), attempt.getSelectedOptionIndices());
+    }
+
+    @Test
+    void replacingTheQuizKeepsAnswersReadFromTheOldOne() {
+        QuizAttempt attempt = new QuizAttempt("a1", sampleQuiz(), 2, "alice", "2024-01-01T10:00",
+                Arrays.asList("4", "Rome"), 1);
+        attempt.setSelectedOptionIndices(Arrays.asList(1, 0));
+        attempt.compactAnswers();
+
+        attempt.setQuiz(null);
+
+        assertEquals(Arrays.asList("4", "Rome"), attempt.getUserAnswers());
+    }
+}
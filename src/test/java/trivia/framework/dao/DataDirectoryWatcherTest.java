@@ -0,0 +1,38 @@
+package trivia.framework.dao;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the watcher that tells the DAOs about changes by other processes.
+ */
+class DataDirectoryWatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void listenersRunForTheirFileOnly() throws IOException, InterruptedException {
+        DataDirectoryWatcher watcher = new DataDirectoryWatcher(tempDir);
+        CountDownLatch players = new CountDownLatch(1);
+        CountDownLatch journal = new CountDownLatch(1);
+        watcher.onChange("player.json", players::countDown);
+        watcher.onChange("quiz_attempts.journal", journal::countDown);
+        try {
+            Files.writeString(tempDir.resolve("player.json"), "[]");
+
+            assertTrue(players.await(20, TimeUnit.SECONDS));
+            assertEquals(1, journal.getCount());
+        } finally {
+            watcher.close();
+        }
+    }
+}
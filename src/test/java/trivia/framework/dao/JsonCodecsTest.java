@@ -0,0 +1,110 @@
+package trivia.framework.dao;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import trivia.entity.Player;
+import trivia.entity.Question;
+import trivia.entity.Quiz;
+import trivia.entity.QuizAttempt;
+
+import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the streaming entity adapters registered by JsonCodecs.
+ */
+class JsonCodecsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final Type PLAYER_LIST = new TypeToken<List<Player>>() {}.getType();
+
+    private Player samplePlayer() {
+        List<Question> questions = new ArrayList<>();
+        questions.add(new Question("q1", "2 + 2?", Arrays.asList("3", "4", "5", "6"), "4", "Math", "easy"));
+        Quiz quiz = new Quiz("quiz-1", "Sample", "Math", "easy", "alice", questions);
+
+        Player player = new Player("alice", "secret");
+        player.setScore(7);
+        player.addAttempt(new QuizAttempt("a1", quiz, 1, "alice", "2024-01-01T10:00", Arrays.asList("4"), 1));
+        return player;
+    }
+
+    @Test
+    void playersRoundTripThroughStreamingAdapters() {
+        Gson gson = JsonCodecs.create(new QuestionTable(tempDir.resolve("questions.journal").toString()));
+
+        String json = gson.toJson(Arrays.asList(samplePlayer()), PLAYER_LIST);
+        List<Player> loaded = gson.fromJson(json, PLAYER_LIST);
+
+        assertFalse(json.contains("\n"), "output should be compact by default");
+        Player player = loaded.get(0);
+        assertEquals("alice", player.getPlayerName());
+        assertTrue(player.verifyPassword("secret"));
+        assertEquals(7, player.getScore());
+        assertEquals(1, player.getPastAttempts().size());
+        assertEquals("Sample", player.getPastAttempts().get(0).getQuiz().getTitle());
+    }
+
+    @Test
+    void prettyPrintedReflectiveFilesAreStillReadable() {
+        String legacy = new GsonBuilder().setPrettyPrinting().create()
+                .toJson(Arrays.asList(samplePlayer()), PLAYER_LIST);
+
+        Gson gson = JsonCodecs.create(new QuestionTable(tempDir.resolve("questions.journal").toString()));
+        List<Player> loaded = gson.fromJson(legacy, PLAYER_LIST);
+
+        QuizAttempt attempt = loaded.get(0).getPastAttempts().get(0);
+        assertEquals("quiz-1", attempt.getQuizId());
+        assertEquals(Arrays.asList("4"), attempt.getUserAnswers());
+        assertEquals("4", attempt.getQuiz().getQuestions().get(0).getCorrectAnswer());
+    }
+
+    @Test
+    void questionsKeepAllFields() {
+        Gson gson = JsonCodecs.create(new QuestionTable(tempDir.resolve("questions.journal").toString()));
+        Question question = new Question("q9", "Pick one", Arrays.asList("a", null, "c"), "c", null, "hard");
+
+        Question loaded = gson.fromJson(gson.toJson(question), Question.class);
+
+        assertEquals("q9", loaded.getId());
+        assertEquals(Arrays.asList("a", null, "c"), loaded.getOptions());
+        assertNull(loaded.getCategory());
+        assertEquals("hard", loaded.getDifficulty());
+    }
+
+    @Test
+    void quizReadWithTheTablesHeaderSharesItsInstance() {
+        Gson gson = JsonCodecs.create(new QuestionTable(tempDir.resolve("questions.journal").toString()));
+        String json = gson.toJson(samplePlayer().getPastAttempts().get(0).getQuiz(), Quiz.class);
+
+        Quiz first = gson.fromJson(json, Quiz.class);
+
+        assertSame(first, gson.fromJson(json, Quiz.class));
+    }
+
+    @Test
+    void quizReadWithADifferentHeaderReplacesTheTablesVersion() {
+        QuestionTable table = new QuestionTable(tempDir.resolve("questions.journal").toString());
+        Gson gson = JsonCodecs.create(table);
+        Quiz quiz = samplePlayer().getPastAttempts().get(0).getQuiz();
+        String json = gson.toJson(quiz, Quiz.class);
+        gson.toJson(new Quiz("quiz-1", "Renamed", "Math", "easy", "bob", new ArrayList<>()), Quiz.class);
+
+        Quiz loaded = gson.fromJson(json, Quiz.class);
+
+        assertEquals("Sample", loaded.getTitle());
+        assertEquals("alice", loaded.getCreatorName());
+        assertEquals(1, loaded.getQuestions().size());
+        assertSame(loaded, table.resolveQuiz("quiz-1"));
+    }
+}
@@ -0,0 +1,70 @@
+package trivia.framework.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the order-statistic Leaderboard.
+ */
+class LeaderboardTest {
+
+    @Test
+    void ranksByScoreThenName() {
+        Leaderboard board = new Leaderboard();
+        board.update("carol", 30);
+        board.update("Bob", 50);
+        board.update("alice", 30);
+
+        assertEquals(1, board.rankOf("bob"));
+        assertEquals(2, board.rankOf("Alice"));
+        assertEquals(3, board.rankOf("carol"));
+        assertEquals(-1, board.rankOf("dave"));
+        assertEquals(List.of("Bob", "alice"), board.top(2));
+        assertEquals(3, board.top(10).size());
+    }
+
+    @Test
+    void updatingAScoreMovesThePlayer() {
+        Leaderboard board = new Leaderboard();
+        board.update("alice", 10);
+        board.update("bob", 20);
+
+        board.update("alice", 25);
+        assertEquals(1, board.rankOf("alice"));
+        assertEquals(2, board.size());
+
+        board.remove("bob");
+        assertEquals(-1, board.rankOf("bob"));
+        assertEquals(List.of("alice"), board.top(5));
+    }
+
+    @Test
+    void matchesAFullSortAfterManyUpdates() {
+        Leaderboard board = new Leaderboard();
+        Random random = new Random(7);
+        int[] scores = new int[500];
+        for (int step = 0; step < 5000; step++) {
+            int player = random.nextInt(scores.length);
+            scores[player] = random.nextInt(100);
+            board.update("p" + player, scores[player]);
+        }
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < scores.length; i++) {
+            expected.add("p" + i);
+        }
+        expected.sort(Comparator.<String>comparingInt(n -> -scores[Integer.parseInt(n.substring(1))])
+                .thenComparing(Comparator.naturalOrder()));
+
+        assertEquals(expected, board.top(scores.length));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i + 1, board.rankOf(expected.get(i)));
+        }
+    }
+}
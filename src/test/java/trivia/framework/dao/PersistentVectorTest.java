@@ -0,0 +1,59 @@
+package trivia.framework.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the immutable list behind SnapshotStore snapshots.
+ */
+class PersistentVectorTest {
+
+    private static PersistentVector<Integer> vectorOf(int size) {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < size; i++) {
+            vector = vector.plus(i);
+        }
+        return vector;
+    }
+
+    @Test
+    void appendsKeepOrderAcrossSeveralTreeLevels() {
+        // 32 * 32 + 33 elements need a root two levels above the leaves
+        PersistentVector<Integer> vector = vectorOf(32 * 32 + 33);
+
+        assertEquals(32 * 32 + 33, vector.size());
+        for (int i = 0; i < vector.size(); i++) {
+            assertEquals(i, vector.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(vector.size()));
+    }
+
+    @Test
+    void changesLeaveEarlierVersionsUntouched() {
+        PersistentVector<Integer> before = vectorOf(100);
+        List<Integer> expected = new ArrayList<>(before);
+
+        PersistentVector<Integer> replaced = before.with(5, -5).with(99, -99);
+        PersistentVector<Integer> appended = before.plus(100);
+
+        assertEquals(expected, before);
+        assertEquals(-5, replaced.get(5));
+        assertEquals(-99, replaced.get(99));
+        assertEquals(101, appended.size());
+        assertEquals(100, appended.get(100));
+        assertThrows(UnsupportedOperationException.class, () -> before.add(1));
+    }
+
+    @Test
+    void withoutRemovesOneElement() {
+        PersistentVector<Integer> vector = vectorOf(40).without(0).without(38);
+
+        assertEquals(38, vector.size());
+        assertEquals(1, vector.get(0));
+        assertEquals(38, vector.get(37));
+    }
+}
@@ -0,0 +1,92 @@
+package trivia.framework.dao;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import trivia.entity.Question;
+import trivia.entity.Quiz;
+import trivia.entity.QuizAttempt;
+import trivia.use_case.view_profile.PlayerStatistics;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the incrementally maintained profile statistics.
+ */
+class PlayerStatsIndexTest {
+
+    private PlayerStatsIndex index;
+    private Quiz quiz;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerStatsIndex();
+        quiz = new Quiz("quiz-1", "Sample", "Mixed", "easy", "alice", Arrays.asList(
+                new Question("q1", "2 + 2?", Arrays.asList("3", "4", "5", "6"), "4", "Math", "easy"),
+                new Question("q2", "Capital of France?", Arrays.asList("Rome", "Paris", "Oslo", "Bern"),
+                        "Paris", "Geography", "easy")));
+    }
+
+    private QuizAttempt attempt(String id, String completedAt, int score, Integer... selected) {
+        QuizAttempt attempt = new QuizAttempt(id, quiz, 2, "alice", completedAt, List.of(), score);
+        attempt.setSelectedOptionIndices(Arrays.asList(selected));
+        return attempt;
+    }
+
+    @Test
+    void accuracyAndStreaksAreRolledUpAcrossAttempts() {
+        index.put(attempt("a1", "2024-01-01T10:00", 1, 1, 0));   // q1 right, q2 wrong
+        index.put(attempt("a2", "2024-01-02T09:00", 2, 1, 1));   // both right
+        index.put(attempt("a3", "2024-01-02T18:00", 1, 1, 0));
+        index.put(attempt("a4", "2024-01-05T12:00", 0, 0, 0));
+
+        PlayerStatistics stats = index.snapshot();
+
+        assertEquals(8, stats.getQuestionsAnswered());
+        assertEquals(4, stats.getCorrectAnswers());
+        assertEquals("Math", stats.getBestCategory());
+        assertEquals("Geography", stats.getWorstCategory());
+        assertEquals(2, stats.getLongestStreakDays());
+        assertEquals(1, stats.getCurrentStreakDays());
+        assertEquals(2.0, stats.getAverageQuizLength());
+    }
+
+    @Test
+    void editingAnAttemptOnlyReplacesItsOwnShare() {
+        QuizAttempt a1 = attempt("a1", "2024-01-01T10:00", 0, 0, 0);
+        index.put(a1);
+        index.put(attempt("a2", "2024-01-02T10:00", 1, 1, 0));
+
+        a1.setSelectedOptionIndices(Arrays.asList(1, 1));
+        index.put(a1);
+
+        PlayerStatistics stats = index.snapshot();
+        assertEquals(4, stats.getQuestionsAnswered());
+        assertEquals(3, stats.getCorrectAnswers());
+        assertEquals(2, stats.getCurrentStreakDays());
+
+        index.remove("a2");
+        assertEquals(1.0, index.snapshot().getAccuracy());
+        assertEquals(1, index.snapshot().getLongestStreakDays());
+    }
+
+    @Test
+    void recordRestoresTheSameFiguresAndDetectsStaleAttempts() {
+        QuizAttempt a1 = attempt("a1", "2024-01-01T10:00", 1, 1, 0);
+        QuizAttempt a2 = attempt("a2", "2024-01-02T10:00", 2, 1, 1);
+        index.put(a1);
+        index.put(a2);
+
+        PlayerStatsIndex restored = PlayerStatsIndex.fromRecord(index.toRecord());
+
+        assertNotNull(restored);
+        assertTrue(restored.covers(List.of(a1, a2)));
+        assertFalse(restored.covers(List.of(a1)));
+        assertFalse(restored.covers(List.of(a1, attempt("a2", "2024-01-02T10:00", 0, 0, 0))));
+        assertEquals(index.snapshot().getCorrectAnswers(), restored.snapshot().getCorrectAnswers());
+        assertEquals(2, restored.snapshot().getCurrentStreakDays());
+        assertEquals(2, restored.snapshot().getCategories().size());
+    }
+}
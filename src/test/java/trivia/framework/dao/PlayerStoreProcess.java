@@ -0,0 +1,61 @@
+package trivia.framework.dao;
+
+import trivia.entity.Player;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A player store in a process of its own, driven one command per line on stdin,
+ * so tests can run two of them against one data directory. Every command answers
+ * with one line starting with "> "; everything else on stdout is the DAO's logging.
+ *
+ * Commands: register NAME, score NAME VALUE, edit NAME VALUE, flush, show NAME.
+ * "edit" changes the score on the loaded players without saving them.
+ */
+public final class PlayerStoreProcess {
+
+    private PlayerStoreProcess() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        PlayerDataAccessObject players = new PlayerDataAccessObject();
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = in.readLine()) != null) {
+            String[] command = line.trim().split(" ");
+            switch (command[0]) {
+                case "register":
+                    players.savePlayer(new Player(command[1], "pw"));
+                    System.out.println("> ok");
+                    break;
+                case "score":
+                    // a change that is not a finished quiz, as a screen would make it
+                    Player player = players.loadPlayer(command[1]);
+                    player.setScore(Integer.parseInt(command[2]));
+                    players.savePlayer(player);
+                    System.out.println("> ok");
+                    break;
+                case "edit":
+                    players.loadPlayer(command[1]).setScore(Integer.parseInt(command[2]));
+                    for (Player listed : players.getAllPlayers()) {
+                        listed.setScore(Integer.parseInt(command[2]));
+                    }
+                    System.out.println("> ok");
+                    break;
+                case "flush":
+                    PlayerDataAccessObject.flush();
+                    System.out.println("> ok");
+                    break;
+                case "show":
+                    Player shown = players.loadPlayer(command[1]);
+                    System.out.println("> " + (shown == null ? "missing" : String.valueOf(shown.getScore())));
+                    break;
+                default:
+                    System.out.println("> unknown command " + command[0]);
+            }
+            System.out.flush();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package trivia.framework.dao;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Player stores in processes of their own, mostly two sharing one data directory.
+ */
+class PlayerStoreSharingTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @Timeout(60)
+    void scoreChangedByAnotherProcessSurvivesOurNextFlush() throws IOException {
+        try (Store first = new Store(tempDir)) {
+            first.send("register alice");
+            first.send("flush");
+
+            try (Store second = new Store(tempDir)) {
+                assertEquals("0", second.send("show alice"));
+
+                // the first process changes the score without finishing a quiz
+                first.send("score alice 10");
+                first.send("flush");
+
+                // the second one writes for an unrelated reason and must not undo it
+                second.send("register bob");
+                second.send("flush");
+                assertEquals("10", second.send("show alice"));
+            }
+        }
+
+        try (Store fresh = new Store(tempDir)) {
+            assertEquals("10", fresh.send("show alice"));
+            assertEquals("0", fresh.send("show bob"));
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void changingALoadedPlayerDoesNotChangeTheStore() throws IOException {
+        try (Store store = new Store(tempDir)) {
+            store.send("register alice");
+            store.send("score alice 10");
+
+            store.send("edit alice 99");
+
+            assertEquals("10", store.send("show alice"));
+        }
+    }
+
+    /** A PlayerStoreProcess on the given data directory, with watching off so merges happen on flush. */
+    private static final class Store implements AutoCloseable {
+        private final Process process;
+        private final Writer commands;
+        private final BufferedReader output;
+
+        Store(Path dataDir) throws IOException {
+            String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+            process = new ProcessBuilder(java,
+                    "-D" + DataDirectory.PROPERTY + "=" + dataDir,
+                    "-D" + DataDirectoryWatcher.PROPERTY + "=false",
+                    "-cp", System.getProperty("java.class.path"),
+                    PlayerStoreProcess.class.getName())
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            commands = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8);
+            output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        String send(String command) throws IOException {
+            commands.write(command + "\n");
+            commands.flush();
+            String line;
+            while ((line = output.readLine()) != null) {
+                if (line.startsWith("> ")) {
+                    return line.substring(2);
+                }
+            }
+            fail("Player store process exited while running: " + command);
+            return null;
+        }
+
+        @Override
+        public void close() {
+            process.destroy();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package trivia.framework.dao;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import trivia.entity.Question;
+import trivia.entity.Quiz;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the content-addressed question table.
+ */
+class QuestionTableTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static Quiz quiz(String title, Question... questions) {
+        return new Quiz("quiz-1", title, "Math", "easy", "alice", Arrays.asList(questions));
+    }
+
+    private static Question question(String text, String answer) {
+        return new Question(null, text, List.of("1", "2", "3", "4"), answer, "Math", "easy");
+    }
+
+    @Test
+    void quizEditedByAnotherWriterResolvesToTheNewVersionAfterCatchUp() throws IOException {
+        String journal = tempDir.resolve("questions.journal").toString();
+        QuestionTable ours = new QuestionTable(journal);
+        ours.putQuiz(quiz("Sums", question("1 + 1?", "2")));
+        QuestionTable theirs = new QuestionTable(journal);
+        assertEquals("Sums", ours.resolveQuiz("quiz-1").getTitle());
+
+        theirs.putQuiz(quiz("Harder sums", question("1 + 1?", "2"), question("1 + 2?", "3")));
+        ours.catchUp();
+
+        Quiz resolved = ours.resolveQuiz("quiz-1");
+        assertEquals("Harder sums", resolved.getTitle());
+        assertEquals(2, resolved.getQuestions().size());
+    }
+
+    @Test
+    void failedAppendLeavesNothingBehindAndIsThrown() throws IOException {
+        // a journal whose directory is a plain file cannot be locked or written
+        Path blocker = Files.createFile(tempDir.resolve("blocker"));
+        QuestionTable table = new QuestionTable(blocker.resolve("questions.journal").toString());
+        Question question = question("1 + 1?", "2");
+
+        assertThrows(IOException.class, () -> table.putQuiz(quiz("Sums", question)));
+
+        assertNull(table.getQuestion(QuestionTable.fingerprint(question)));
+        assertNull(table.resolveQuiz("quiz-1"));
+    }
+}
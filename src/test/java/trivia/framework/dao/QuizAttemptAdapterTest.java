@@ -0,0 +1,106 @@
+package trivia.framework.dao;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import trivia.entity.Question;
+import trivia.entity.Quiz;
+import trivia.entity.QuizAttempt;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the normalized attempt format backed by the QuestionTable.
+ */
+class QuizAttemptAdapterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Gson gsonFor(QuestionTable table) {
+        return JsonCodecs.create(table);
+    }
+
+    private Quiz sampleQuiz() {
+        List<Question> questions = new ArrayList<>();
+        questions.add(new Question("q1", "2 + 2?", Arrays.asList("3", "4", "5", "6"), "4", "Math", "easy"));
+        questions.add(new Question("q2", "Capital of France?", Arrays.asList("Rome", "Paris", "Oslo", "Bern"),
+                "Paris", "Geography", "easy"));
+        return new Quiz("quiz-1", "Sample", "Mixed", "easy", "alice", questions);
+    }
+
+    @Test
+    void attemptIsStoredAsQuizIdAndAnswerIndices() {
+        String journal = tempDir.resolve("questions.journal").toString();
+        Quiz quiz = sampleQuiz();
+        QuizAttempt attempt = new QuizAttempt("a1", quiz, 2, "alice", "2024-01-01T10:00",
+                Arrays.asList("4", "Rome"), 1);
+
+        String json = gsonFor(new QuestionTable(journal)).toJson(attempt);
+        JsonObject stored = JsonParser.parseString(json).getAsJsonObject();
+
+        assertFalse(stored.has("quiz"));
+        assertFalse(stored.has("userAnswers"));
+        assertEquals("quiz-1", stored.get("quizId").getAsString());
+        assertEquals("[1,0]", stored.get("answers").toString());
+
+        // a fresh table replays the journal and rebuilds the quiz
+        QuizAttempt loaded = gsonFor(new QuestionTable(journal)).fromJson(json, QuizAttempt.class);
+        assertEquals("quiz-1", loaded.getQuizId());
+        assertEquals("Sample", loaded.getQuiz().getTitle());
+        assertEquals(2, loaded.getQuiz().getQuestions().size());
+        assertEquals(Arrays.asList("4", "Rome"), loaded.getUserAnswers());
+        assertEquals(Arrays.asList(1, 0), loaded.getSelectedOptionIndices());
+        assertEquals(1, loaded.getScore());
+    }
+
+    @Test
+    void legacyAttemptWithEmbeddedQuizIsStillReadable() {
+        QuizAttempt legacy = new QuizAttempt("a1", sampleQuiz(), 2, "alice", "2024-01-01T10:00",
+                Arrays.asList("4", "Paris"), 2);
+        String legacyJson = new Gson().toJson(legacy);
+
+        QuizAttempt loaded = gsonFor(new QuestionTable(tempDir.resolve("questions.journal").toString()))
+                .fromJson(legacyJson, QuizAttempt.class);
+
+        assertEquals("quiz-1", loaded.getQuizId());
+        assertEquals("Paris", loaded.getQuiz().getQuestions().get(1).getCorrectAnswer());
+        assertEquals(Arrays.asList("4", "Paris"), loaded.getUserAnswers());
+        assertEquals(Arrays.asList(1, 1), loaded.getSelectedOptionIndices());
+    }
+
+    @Test
+    void attemptsOfTheSameQuizShareOneQuizInstance() {
+        QuestionTable table = new QuestionTable(tempDir.resolve("questions.journal").toString());
+        Gson gson = gsonFor(table);
+        QuizAttempt first = new QuizAttempt("a1", sampleQuiz(), 2, "alice", "t1", Arrays.asList("4", "Paris"), 2);
+        QuizAttempt second = new QuizAttempt("a2", sampleQuiz(), 2, "bob", "t2", Arrays.asList("3", "Oslo"), 0);
+        String json = gson.toJson(Arrays.asList(first, second));
+
+        QuestionTable reloaded = new QuestionTable(tempDir.resolve("questions.journal").toString());
+        QuizAttempt[] loaded = gsonFor(reloaded).fromJson(json, QuizAttempt[].class);
+
+        assertSame(loaded[0].getQuiz(), loaded[1].getQuiz());
+        assertEquals(Arrays.asList("3", "Oslo"), loaded[1].getUserAnswers());
+    }
+
+    @Test
+    void answersThatAreNotOptionsAreKeptVerbatim() {
+        QuestionTable table = new QuestionTable(tempDir.resolve("questions.journal").toString());
+        QuizAttempt attempt = new QuizAttempt("a1", sampleQuiz(), 2, "alice", "t1",
+                Arrays.asList("four", ""), 0);
+
+        Gson gson = gsonFor(table);
+        QuizAttempt loaded = gson.fromJson(gson.toJson(attempt), QuizAttempt.class);
+
+        assertEquals(Arrays.asList("four", ""), loaded.getUserAnswers());
+        assertEquals(Arrays.asList(-1, -1), loaded.getSelectedOptionIndices());
+    }
+}
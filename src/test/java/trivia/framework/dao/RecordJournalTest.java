@@ -0,0 +1,119 @@
+package trivia.framework.dao;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the append-only RecordJournal used by QuizDataAccessObject.
+ */
+class RecordJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void appendedRecordsAreReplayedInOrder() throws IOException {
+        Path file = tempDir.resolve("attempts.journal");
+        RecordJournal journal = new RecordJournal(file.toString());
+
+        journal.append("{\"attemptId\":\"a1\"}");
+        journal.append("{\"attemptId\":\"a2\"}");
+        journal.append("{\"attemptId\":\"a1\",\"score\":3}");
+        journal.close();
+
+        RecordJournal reopened = new RecordJournal(file.toString());
+        List<String> records = reopened.replay();
+
+        assertEquals(3, records.size());
+        assertEquals("{\"attemptId\":\"a1\"}", records.get(0));
+        assertEquals("{\"attemptId\":\"a1\",\"score\":3}", records.get(2));
+        assertEquals(3, reopened.getRecordCount());
+    }
+
+    @Test
+    void tornTailIsDroppedAndLaterAppendsStillReplay() throws IOException {
+        Path file = tempDir.resolve("attempts.journal");
+        RecordJournal journal = new RecordJournal(file.toString());
+        journal.append("first");
+        journal.append("second");
+        journal.close();
+
+        // simulate a crash halfway through a third append
+        Files.write(file, new byte[]{0, 0, 0, 50, 'x', 'y'}, StandardOpenOption.APPEND);
+
+        RecordJournal recovered = new RecordJournal(file.toString());
+        assertEquals(List.of("first", "second"), recovered.replay());
+
+        recovered.append("third");
+        recovered.close();
+
+        assertEquals(List.of("first", "second", "third"),
+                new RecordJournal(file.toString()).replay());
+    }
+
+    @Test
+    void resetEmptiesTheJournal() throws IOException {
+        Path file = tempDir.resolve("attempts.journal");
+        RecordJournal journal = new RecordJournal(file.toString());
+        journal.append("one");
+        journal.reset();
+
+        assertEquals(0, journal.getRecordCount());
+        assertTrue(journal.replay().isEmpty());
+    }
+
+    @Test
+    void readNewReturnsOnlyWhatOtherWritersAppended() throws IOException {
+        Path file = tempDir.resolve("attempts.journal");
+        // two instances on one file behave like two processes sharing it
+        RecordJournal mine = new RecordJournal(file.toString());
+        RecordJournal theirs = new RecordJournal(file.toString());
+        mine.append("mine-1");
+        theirs.replay();
+
+        theirs.append("theirs-1");
+        theirs.append("theirs-2");
+        RecordJournal.Tail tail = mine.readNew();
+
+        assertFalse(tail.isReset());
+        assertEquals(List.of("theirs-1", "theirs-2"), tail.getRecords());
+        assertTrue(mine.readNew().getRecords().isEmpty());
+        assertEquals(3, mine.getRecordCount());
+
+        mine.append("mine-2");
+        assertEquals(List.of("mine-2"), theirs.readNew().getRecords());
+    }
+
+    @Test
+    void resetByAnotherWriterStartsANewGeneration() throws IOException {
+        Path file = tempDir.resolve("attempts.journal");
+        RecordJournal mine = new RecordJournal(file.toString());
+        RecordJournal theirs = new RecordJournal(file.toString());
+        mine.append("old-1");
+        mine.append("old-2");
+        theirs.replay();
+
+        theirs.reset();
+        theirs.append("new");
+        RecordJournal.Tail tail = mine.readNew();
+
+        assertTrue(tail.isReset());
+        assertEquals(List.of("new"), tail.getRecords());
+        assertEquals(1, mine.getRecordCount());
+        assertEquals(List.of("new"), new RecordJournal(file.toString()).replay());
+    }
+
+    @Test
+    void missingFileReplaysAsEmpty() {
+        RecordJournal journal = new RecordJournal(tempDir.resolve("none.journal").toString());
+        assertTrue(journal.replay().isEmpty());
+    }
+}
@@ -0,0 +1,109 @@
+package trivia.framework.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the snapshot-isolated store behind QuizDataAccessObject.
+ */
+class SnapshotStoreTest {
+
+    /** Mutable like the entities the store holds. */
+    private static final class Entry {
+        final String id;
+        String owner;
+
+        Entry(String id, String owner) {
+            this.id = id;
+            this.owner = owner;
+        }
+    }
+
+    private final SnapshotStore<Entry> store = new SnapshotStore<>(entry -> entry.id, entry -> entry.owner);
+
+    @Test
+    void snapshotsDoNotSeeLaterWrites() {
+        store.put(new Entry("a", "alice"));
+        List<Entry> all = store.all();
+        List<Entry> alices = store.group("alice");
+
+        store.put(new Entry("b", "alice"));
+        Entry replacement = new Entry("a", "alice");
+        store.put(replacement);
+
+        assertEquals(1, all.size());
+        assertEquals(1, alices.size());
+        assertNotSame(replacement, all.get(0));
+        assertEquals(2, store.size());
+        assertSame(replacement, store.get("a"));
+        assertSame(replacement, store.group("alice").get(0));
+    }
+
+    @Test
+    void replacingWithANewGroupMovesTheEntry() {
+        store.put(new Entry("a", "alice"));
+        store.put(new Entry("b", "alice"));
+        store.put(new Entry("c", "alice"));
+
+        store.put(new Entry("a", "bob"));
+        store.put(new Entry("c", "alice"));
+
+        assertEquals(List.of("b", "c"), ids(store.group("alice")));
+        assertEquals(List.of("a"), ids(store.group("bob")));
+        assertEquals(List.of("a", "b", "c"), ids(store.all()));
+        assertTrue(store.group("nobody").isEmpty());
+        assertNull(store.get(null));
+    }
+
+    @Test
+    void concurrentWritersLoseNoEntries() throws Exception {
+        int threads = 8;
+        int perThread = 500;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String owner = "p" + (t % 3);
+            int thread = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    store.put(new Entry(thread + "-" + i, owner));
+                    // every thread also rewrites one shared id
+                    store.put(new Entry("shared", owner));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(threads * perThread + 1, store.size());
+        int grouped = 0;
+        for (int g = 0; g < 3; g++) {
+            grouped += store.group("p" + g).size();
+        }
+        assertEquals(threads * perThread + 1, grouped);
+        assertNotNull(store.get("7-499"));
+    }
+
+    private static List<String> ids(List<Entry> entries) {
+        List<String> ids = new ArrayList<>();
+        for (Entry entry : entries) {
+            ids.add(entry.id);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,103 @@
+package trivia.framework.dao;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the atomic, group-committing StorageWriter.
+ */
+class StorageWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<String> listDir() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.map(p -> p.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    void writeReplacesFileWithoutLeavingTempFiles() throws IOException {
+        StorageWriter writer = new StorageWriter(1);
+        Path file = tempDir.resolve("player.json");
+        Files.writeString(file, "old");
+
+        writer.write(file, "[{\"playerName\":\"é\"}]");
+
+        assertEquals("[{\"playerName\":\"é\"}]", Files.readString(file, StandardCharsets.UTF_8));
+        assertEquals(List.of("player.json"), listDir());
+    }
+
+    @Test
+    void concurrentWritesAreCoalescedIntoFewerCommits() throws Exception {
+        StorageWriter writer = new StorageWriter(20);
+        Path file = tempDir.resolve("player.json");
+        int writers = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+
+        for (int i = 0; i < writers; i++) {
+            String content = "version-" + i;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    writer.write(file, content);
+                } catch (Throwable t) {
+                    synchronized (failures) {
+                        failures.add(t);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(failures.isEmpty(), "no write should fail: " + failures);
+        assertTrue(writer.getGroupCommits() < writers,
+                "expected fewer commits than writers but got " + writer.getGroupCommits());
+        assertTrue(Files.readString(file).startsWith("version-"));
+    }
+
+    @Test
+    void journalForceMakesAppendsDurable() throws IOException {
+        StorageWriter writer = new StorageWriter(1);
+        RecordJournal journal = new RecordJournal(tempDir.resolve("attempts.journal").toString());
+
+        journal.append("one");
+        writer.force(journal);
+        journal.close();
+
+        assertEquals(List.of("one"), new RecordJournal(tempDir.resolve("attempts.journal").toString()).replay());
+    }
+
+    @Test
+    void quarantineMovesUnreadableFileAside() throws IOException {
+        Path file = tempDir.resolve("player.json");
+        Files.writeString(file, "[{\"playerName\": ");
+
+        Path moved = StorageWriter.quarantine(file);
+
+        assertNotNull(moved);
+        assertFalse(Files.exists(file));
+        assertEquals("[{\"playerName\": ", Files.readString(moved));
+        assertTrue(moved.getFileName().toString().startsWith("player.json.corrupt-"));
+    }
+}
@@ -0,0 +1,112 @@
+package trivia.framework.dao;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import trivia.entity.Player;
+import trivia.entity.Quiz;
+import trivia.entity.QuizAttempt;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the synthetic data directory writer.
+ */
+class SyntheticDataGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private SyntheticDataGenerator generator(long seed) {
+        return new SyntheticDataGenerator(seed)
+                .setPlayers(40)
+                .setQuizzesPerPlayer(2)
+                .setAttemptsPerPlayer(10)
+                .setQuestionsPerQuiz(5);
+    }
+
+    private <T> List<T> read(Gson gson, Path file, Type type) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, type);
+        }
+    }
+
+    @Test
+    void writesFilesTheCodecsCanLoad() throws IOException {
+        assertEquals(400, generator(1).write(tempDir));
+
+        Gson gson = JsonCodecs.create(new QuestionTable(tempDir.resolve("questions.journal").toString()));
+        List<Quiz> quizzes = read(gson, tempDir.resolve("custom_quizzes.json"), new TypeToken<List<Quiz>>() {}.getType());
+        List<Player> players = read(gson, tempDir.resolve("player.json"), new TypeToken<List<Player>>() {}.getType());
+        List<QuizAttempt> attempts = read(gson, tempDir.resolve("quiz_attempts.json"),
+                new TypeToken<List<QuizAttempt>>() {}.getType());
+
+        assertEquals(80, quizzes.size());
+        assertEquals(5, quizzes.get(0).getQuestions().size());
+        assertEquals(40, players.size());
+        assertEquals(400, attempts.size());
+
+        int attemptsOnPlayers = 0;
+        for (Player player : players) {
+            int score = 0;
+            for (QuizAttempt attempt : player.getPastAttempts()) {
+                assertNotNull(attempt.getQuiz(), "attempt quiz resolves from the question table");
+                assertEquals(5, attempt.getSelectedOptionIndices().size());
+                score += attempt.getScore();
+            }
+            assertEquals(score, player.getScore());
+            attemptsOnPlayers += player.getPastAttempts().size();
+        }
+        assertEquals(400, attemptsOnPlayers);
+    }
+
+    @Test
+    void sameSeedWritesIdenticalFiles() throws IOException {
+        Path first = tempDir.resolve("first");
+        Path second = tempDir.resolve("second");
+        generator(7).write(first);
+        generator(7).write(second);
+
+        for (String file : new String[] {"player.json", "custom_quizzes.json", "quiz_attempts.json", "questions.journal"}) {
+            assertArrayEquals(Files.readAllBytes(first.resolve(file)), Files.readAllBytes(second.resolve(file)), file);
+        }
+    }
+
+    @Test
+    void refusesToWriteOverAnExistingDataDirectory() throws IOException {
+        Files.writeString(tempDir.resolve("quiz_attempts.journal"), "left over");
+
+        assertThrows(DirectoryNotEmptyException.class, () -> generator(1).write(tempDir));
+        assertFalse(Files.exists(tempDir.resolve("player.json")));
+    }
+
+    @Test
+    void activityIsSkewedTowardsLowRanks() {
+        SyntheticDataGenerator.Zipf zipf = new SyntheticDataGenerator.Zipf(100, 1.0);
+        Random random = new Random(3);
+        int[] counts = new int[100];
+        for (int i = 0; i < 100_000; i++) {
+            counts[zipf.sample(random)]++;
+        }
+        assertTrue(counts[0] > 10 * counts[99], "rank 0 should be far busier than rank 99");
+        assertTrue(counts[0] > counts[1] && counts[1] > counts[9]);
+
+        SyntheticDataGenerator.Zipf uniform = new SyntheticDataGenerator.Zipf(100, 0.0);
+        int[] flat = new int[100];
+        for (int i = 0; i < 100_000; i++) {
+            flat[uniform.sample(random)]++;
+        }
+        assertTrue(flat[0] < 2 * flat[99]);
+    }
+}
@@ -0,0 +1,103 @@
+package trivia.framework.dao;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import trivia.entity.Question;
+import trivia.entity.Quiz;
+import trivia.entity.QuizAttempt;
+import trivia.use_case.generate_from_wrong.WrongQuestionRecord;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the incrementally maintained wrong-question index.
+ */
+class WrongQuestionIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private WrongQuestionIndex index;
+    private Quiz quiz;
+
+    @BeforeEach
+    void setUp() {
+        index = new WrongQuestionIndex(new QuestionTable(tempDir.resolve("questions.journal").toString()));
+        quiz = new Quiz("quiz-1", "Sample", "Mixed", "easy", "alice", Arrays.asList(
+                new Question("q1", "2 + 2?", Arrays.asList("3", "4", "5", "6"), "4", "Math", "easy"),
+                new Question("q2", "Capital of France?", Arrays.asList("Rome", "Paris", "Oslo", "Bern"),
+                        "Paris", "Geography", "easy")));
+    }
+
+    private QuizAttempt attempt(String id, String completedAt, Integer... selected) {
+        QuizAttempt attempt = new QuizAttempt(id, quiz, 2, "alice", completedAt, List.of(), 0);
+        attempt.setSelectedOptionIndices(Arrays.asList(selected));
+        return attempt;
+    }
+
+    @Test
+    void missesAcrossAttemptsAreCountedPerQuestion() {
+        index.put(attempt("a1", "2024-01-01T10:00", 0, 1));   // misses q1
+        index.put(attempt("a2", "2024-01-02T10:00", 2, 0));   // misses q1 and q2
+
+        List<WrongQuestionRecord> records = index.getRecords();
+
+        assertEquals(2, records.size());
+        WrongQuestionRecord first = records.get(0);
+        assertEquals("2 + 2?", first.getQuestionText());
+        assertEquals(2, first.getMissCount());
+        assertEquals("2024-01-02T10:00", first.getLastMissed());
+        assertNotNull(first.getFingerprint());
+        assertEquals(1, records.get(1).getMissCount());
+    }
+
+    @Test
+    void editingAnAttemptOnlyAdjustsItsOwnMisses() {
+        QuizAttempt a1 = attempt("a1", "2024-01-01T10:00", 0, 0);  // misses both
+        index.put(a1);
+        index.put(attempt("a2", "2024-01-02T10:00", 0, 1));        // misses q1
+
+        a1.setSelectedOptionIndices(Arrays.asList(1, 0));           // q1 fixed, q2 still wrong
+        index.put(a1);
+
+        List<WrongQuestionRecord> records = index.getRecords();
+        assertEquals(2, records.size());
+        assertEquals(1, records.get(0).getMissCount());
+        assertEquals(1, records.get(1).getMissCount());
+
+        index.remove("a2");
+        assertEquals(1, index.size());
+        assertEquals("Capital of France?", index.getRecords().get(0).getQuestionText());
+    }
+
+    @Test
+    void answerTextIsUsedWhenNoOptionWasRecorded() {
+        QuizAttempt legacy = new QuizAttempt("a1", quiz, 2, "alice", "t", List.of("4", "Rome"), 1);
+
+        index.put(legacy);
+
+        assertEquals(1, index.size());
+        assertEquals("Paris", index.getRecords().get(0).getCorrectAnswer());
+    }
+
+    @Test
+    void answerTextIsUsedWhereNoValidOptionWasRecorded() {
+        // as a legacy attempt is read back when its texts could not be matched to options
+        QuizAttempt legacy = new QuizAttempt("a1", quiz, 2, "alice", "t", List.of("4", "Rome"), 1);
+        legacy.setSelectedOptionIndices(Arrays.asList(-1, -1));
+
+        index.put(legacy);
+
+        assertEquals(1, index.size());
+        assertEquals("Paris", index.getRecords().get(0).getCorrectAnswer());
+
+        // an unanswered question of a current attempt is still a miss
+        index.put(attempt("a2", "t", -1, 1));
+        assertEquals(2, index.size());
+    }
+}
@@ -0,0 +1,43 @@
+package trivia.framework.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bucketing and percentile estimates of LatencyHistogram.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void everyValueFallsInABucketThatCoversIt() {
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 1000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(value <= LatencyHistogram.upperBound(index), "upper bound of " + value);
+            if (index > 0) {
+                assertTrue(value > LatencyHistogram.upperBound(index - 1), "lower bound of " + value);
+            }
+        }
+    }
+
+    @Test
+    void percentilesAreWithinOneBucketOfTheTrueValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        // sub-buckets are an eighth of their power of two wide, so estimates are at most 12.5% high
+        assertEquals(50_000, histogram.percentile(0.50), 50_000 * 0.125);
+        assertEquals(99_000, histogram.percentile(0.99), 99_000 * 0.125);
+        assertEquals(99_900, histogram.percentile(0.999), 99_900 * 0.125);
+        assertTrue(histogram.percentile(0.50) >= 50_000);
+    }
+
+    @Test
+    void emptyHistogramReportsZero() {
+        assertEquals(0, new LatencyHistogram().percentile(0.99));
+    }
+}
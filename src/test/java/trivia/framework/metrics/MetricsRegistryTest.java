@@ -0,0 +1,89 @@
+package trivia.framework.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the instrumenting proxies and the JMX view of MetricsRegistry.
+ */
+class MetricsRegistryTest {
+
+    /** Stand-in for a DAO: reads some bytes, or fails when asked to. */
+    static class Store implements Supplier<String>, Runnable {
+        private final MetricsRegistry metrics;
+
+        Store(MetricsRegistry metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public String get() {
+            metrics.recordBytesRead(100);
+            return "value";
+        }
+
+        @Override
+        public void run() {
+            throw new IllegalStateException("disk full");
+        }
+    }
+
+    @Test
+    void proxyCountsCallsAndErrorsAndPassesResultsThrough() {
+        MetricsRegistry metrics = new MetricsRegistry("trivia-test-calls", true);
+        Store store = new Store(metrics);
+        @SuppressWarnings("unchecked")
+        Supplier<String> supplier = metrics.instrument(store, Supplier.class);
+        Runnable runnable = metrics.instrument(store, Runnable.class);
+
+        assertEquals("value", supplier.get());
+        assertEquals("value", supplier.get());
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, runnable::run);
+        assertEquals("disk full", thrown.getMessage());
+
+        OperationMetrics get = metrics.operation("Store", "get");
+        assertEquals(2, get.getCalls());
+        assertEquals(0, get.getErrors());
+        assertEquals(200, get.getBytesRead());
+        assertEquals(1, metrics.operation("Store", "run").getErrors());
+        // one proxy per target, whatever interface it is asked for
+        assertSame(supplier, runnable);
+        assertTrue(metrics.dump().contains("Store.get"));
+    }
+
+    @Test
+    void operationsAreReadableOverJmx() throws Exception {
+        MetricsRegistry metrics = new MetricsRegistry("trivia-test-jmx", true);
+        @SuppressWarnings("unchecked")
+        Supplier<String> supplier = metrics.instrument(new Store(metrics), Supplier.class);
+        supplier.get();
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("trivia-test-jmx:type=Operation,component=\"Store\",name=\"get\"");
+        assertEquals(1L, server.getAttribute(name, "Calls"));
+        assertEquals(100L, server.getAttribute(name, "BytesRead"));
+        assertTrue((Long) server.getAttribute(name, "P99Micros") >= 0);
+    }
+
+    @Test
+    void bytesOutsideAnOperationAreChargedToBackgroundStorage() {
+        MetricsRegistry metrics = new MetricsRegistry("trivia-test-background", true);
+        metrics.recordBytesWritten(42);
+
+        assertEquals(42, metrics.operation("storage", "background").getBytesWritten());
+    }
+
+    @Test
+    void disabledRegistryReturnsTheTargetItself() {
+        MetricsRegistry metrics = new MetricsRegistry("trivia-test-disabled", false);
+        Store store = new Store(metrics);
+
+        assertSame(store, metrics.instrument(store, Runnable.class));
+    }
+}
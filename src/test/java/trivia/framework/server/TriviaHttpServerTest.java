@@ -0,0 +1,230 @@
+package trivia.framework.server;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import trivia.entity.Player;
+import trivia.entity.Question;
+import trivia.framework.ServerFactory;
+import trivia.framework.metrics.MetricsRegistry;
+import trivia.interface_adapter.presenter.JsonPresenter;
+import trivia.use_case.complete_quiz.CompleteQuizInputBoundary;
+import trivia.use_case.complete_quiz.CompleteQuizInputData;
+import trivia.use_case.complete_quiz.CompleteQuizOutputData;
+import trivia.use_case.register_player.RegisterPlayerDataAccessInterface;
+import trivia.use_case.review_quiz.ReviewQuizInputBoundary;
+import trivia.use_case.review_quiz.ReviewQuizRequestModel;
+import trivia.use_case.review_quiz.ReviewQuizResponseModel;
+import trivia.use_case.select_quiz.SelectQuizInputBoundary;
+import trivia.use_case.select_quiz.SelectQuizOutputData;
+import trivia.use_case.view_profile.ViewProfileInputBoundary;
+import trivia.use_case.view_profile.ViewProfileOutputData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for request parsing, routing and responses of the headless server.
+ * The factory is mocked, so no DAO or data file is involved.
+ */
+class TriviaHttpServerTest {
+
+    private ServerFactory factory;
+    private MetricsRegistry metrics;
+    private TriviaHttpServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+        factory = mock(ServerFactory.class);
+        metrics = new MetricsRegistry("trivia-test-server", true);
+        server = new TriviaHttpServer(factory, metrics).start("127.0.0.1", 0, 4, 8);
+    }
+
+    @AfterEach
+    void stop() {
+        server.stop();
+    }
+
+    /** Sends the request and returns {status, body}. */
+    private String[] call(String method, String path, String body) throws IOException {
+        return call(method, path, body, null);
+    }
+
+    /** Sends the request with the session token, if any, and returns {status, body}. */
+    private String[] call(String method, String path, String body, String token) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection)
+                new URL("http://127.0.0.1:" + server.getPort() + path).openConnection();
+        connection.setRequestMethod(method);
+        if (token != null) {
+            connection.setRequestProperty("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int status = connection.getResponseCode();
+        InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        in.transferTo(bytes);
+        in.close();
+        return new String[]{String.valueOf(status), bytes.toString(StandardCharsets.UTF_8)};
+    }
+
+    /** The server records a request after its response is sent, so give it a moment. */
+    private long awaitCalls(String route, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        long calls = metrics.operation("TriviaHttpServer", route).getCalls();
+        while (calls < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            calls = metrics.operation("TriviaHttpServer", route).getCalls();
+        }
+        return calls;
+    }
+
+    /** Signs alice in and returns her session token. */
+    private String signIn() throws IOException {
+        RegisterPlayerDataAccessInterface players = mock(RegisterPlayerDataAccessInterface.class);
+        when(players.loadPlayer("alice")).thenReturn(new Player("Alice", "secret"));
+        when(factory.getPlayerData()).thenReturn(players);
+
+        String[] response = call("POST", "/api/sessions", "{\"playerName\":\"alice\",\"password\":\"secret\"}");
+        assertEquals("201", response[0]);
+        JsonObject session = JsonParser.parseString(response[1]).getAsJsonObject();
+        assertEquals("Alice", session.get("playerName").getAsString());
+        return session.get("token").getAsString();
+    }
+
+    @Test
+    void profileIsPresentedAsJson() throws Exception {
+        when(factory.createViewProfileInteractor(any())).thenAnswer(invocation -> {
+            JsonPresenter presenter = invocation.getArgument(0);
+            return (ViewProfileInputBoundary) input ->
+                    presenter.present(new ViewProfileOutputData(input.getPlayerName(), 42, 7, 3, 10));
+        });
+
+        String[] response = call("GET", "/api/profile?player=ali%20ce", null);
+
+        assertEquals("200", response[0]);
+        JsonObject json = JsonParser.parseString(response[1]).getAsJsonObject();
+        assertEquals("ali ce", json.get("playerName").getAsString());
+        assertEquals(42, json.get("totalScore").getAsInt());
+        assertEquals(1, awaitCalls("GET /api/profile", 1));
+    }
+
+    @Test
+    void completedQuizIsGradedAgainstTheQuestionsTheServerIssued() throws IOException {
+        Question question = new Question("opentdb-1", "2+2?", Arrays.asList("3", "4"), "4", "Math", "easy");
+        SelectQuizInputBoundary select = mock(SelectQuizInputBoundary.class);
+        when(factory.createSelectQuizInteractor(any())).thenAnswer(invocation -> {
+            JsonPresenter presenter = invocation.getArgument(0);
+            doAnswer(call -> {
+                presenter.presentSuccess(new SelectQuizOutputData(Collections.singletonList(question)));
+                return null;
+            }).when(select).execute(any());
+            return select;
+        });
+        CompleteQuizInputBoundary interactor = mock(CompleteQuizInputBoundary.class);
+        when(factory.createCompleteQuizInteractor(any())).thenAnswer(invocation -> {
+            JsonPresenter presenter = invocation.getArgument(0);
+            doAnswer(call -> {
+                presenter.present(new CompleteQuizOutputData(1, 1));
+                return null;
+            }).when(interactor).execute(any());
+            return interactor;
+        });
+        String token = signIn();
+
+        String[] selected = call("POST", "/api/select-quiz", "{\"amount\":1}", token);
+        assertEquals("200", selected[0]);
+        JsonObject issued = JsonParser.parseString(selected[1]).getAsJsonObject()
+                .getAsJsonArray("questions").get(0).getAsJsonObject();
+        assertFalse(issued.has("correctAnswer"));
+        String id = issued.get("id").getAsString();
+
+        String[] response = call("POST", "/api/attempts", "{\"questionIds\":[\"" + id + "\"],"
+                + "\"selectedOptionIndices\":[1]}", token);
+
+        assertEquals("201", response[0]);
+        ArgumentCaptor<CompleteQuizInputData> input = ArgumentCaptor.forClass(CompleteQuizInputData.class);
+        verify(interactor).execute(input.capture());
+        assertEquals("Alice", input.getValue().getPlayerName());
+        assertSame(question, input.getValue().getQuestions().get(0));
+        assertEquals(Arrays.asList("4"), input.getValue().getUserAnswers());
+
+        // an issued question is answered once
+        assertEquals("409", call("POST", "/api/attempts", "{\"questionIds\":[\"" + id + "\"],"
+                + "\"selectedOptionIndices\":[1]}", token)[0]);
+        verify(interactor, times(1)).execute(any());
+    }
+
+    @Test
+    void requestsActingForAPlayerNeedTheirSession() throws IOException {
+        String token = signIn();
+
+        assertEquals("401", call("POST", "/api/attempts", "{\"questionIds\":[\"q1\"],"
+                + "\"selectedOptionIndices\":[0]}")[0]);
+        assertEquals("401", call("PUT", "/api/attempts/a-1", "{\"selectedOptionIndices\":[0]}", "made-up")[0]);
+        assertEquals("403", call("POST", "/api/practice", "{\"playerName\":\"bob\",\"requestedNumber\":3}",
+                token)[0]);
+        assertEquals("409", call("POST", "/api/attempts", "{\"questionIds\":[\"q1\"],"
+                + "\"selectedOptionIndices\":[0]}", token)[0]);
+        assertEquals("401", call("POST", "/api/sessions", "{\"playerName\":\"alice\",\"password\":\"guess\"}")[0]);
+        verify(factory, never()).createCompleteQuizInteractor(any());
+        verify(factory, never()).createReviewQuizInteractor(any());
+        verify(factory, never()).createGenerateFromWrongInteractor(any());
+    }
+
+    @Test
+    void rejectedEditIsReportedWithTheInteractorsMessage() throws IOException {
+        ReviewQuizInputBoundary interactor = mock(ReviewQuizInputBoundary.class);
+        when(factory.createReviewQuizInteractor(any())).thenAnswer(invocation -> {
+            JsonPresenter presenter = invocation.getArgument(0);
+            doAnswer(call -> {
+                ReviewQuizResponseModel model = new ReviewQuizResponseModel();
+                model.setMessage("Editing is restricted.");
+                presenter.presentSaveResult(model);
+                return null;
+            }).when(interactor).saveEditedAnswers(any());
+            return interactor;
+        });
+        String token = signIn();
+
+        String[] response = call("PUT", "/api/attempts/a-1", "{\"selectedOptionIndices\":[0,2]}", token);
+
+        assertEquals("422", response[0]);
+        assertTrue(response[1].contains("Editing is restricted."));
+        ArgumentCaptor<ReviewQuizRequestModel> request = ArgumentCaptor.forClass(ReviewQuizRequestModel.class);
+        verify(interactor).saveEditedAnswers(request.capture());
+        assertEquals("a-1", request.getValue().getAttemptId());
+        // the interactor checks the attempt belongs to the signed-in player
+        assertEquals("Alice", request.getValue().getPlayerName());
+        assertEquals(Arrays.asList(0, 2), request.getValue().getUpdatedSelectedOptionIndices());
+    }
+
+    @Test
+    void badRequestsNeverReachAUseCase() throws Exception {
+        assertEquals("400", call("POST", "/api/players", "{not json")[0]);
+        assertEquals("400", call("GET", "/api/profile", null)[0]);
+        assertEquals("401", call("POST", "/api/attempts", "{\"playerName\":\"alice\"}")[0]);
+        assertEquals("404", call("GET", "/api/nothing/here", null)[0]);
+        assertEquals("404", call("DELETE", "/api/quizzes", null)[0]);
+        verifyNoInteractions(factory);
+        assertEquals(2, awaitCalls("unmatched", 2));
+    }
+}
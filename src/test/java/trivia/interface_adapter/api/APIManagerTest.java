@@ -0,0 +1,127 @@
+package trivia.interface_adapter.api;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import trivia.entity.Question;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs APIManager against a local stub of the Open Trivia DB endpoint.
+ */
+class APIManagerTest {
+
+    private static final String BODY = "{\"response_code\":0,\"results\":["
+            + "{\"type\":\"multiple\",\"difficulty\":\"easy\",\"category\":\"Sports\","
+            + "\"question\":\"Who won &quot;the&quot; cup?\",\"correct_answer\":\"Fish &amp; Co\","
+            + "\"incorrect_answers\":[\"A\",\"B\",\"It&#039;s C\"]},"
+            + "{\"type\":\"multiple\",\"difficulty\":\"easy\",\"category\":\"Sports\","
+            + "\"question\":\"Second?\",\"correct_answer\":\"Yes\",\"incorrect_answers\":[\"No\",\"Maybe\",\"Never\"]}]}";
+
+    private HttpServer server;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger gzipResponses = new AtomicInteger();
+    private APIManager api;
+
+    @BeforeAll
+    static void disableNagle() {
+        // the stub writes headers and body separately; without this each request waits on delayed ACKs
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    @BeforeEach
+    void startServer() throws IOException {
+        byte[] plain = BODY.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream zipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(zipped)) {
+            gzip.write(plain);
+        }
+        byte[] compressed = zipped.toByteArray();
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api.php", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            String accept = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            byte[] body = plain;
+            if (accept != null && accept.contains("gzip")) {
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                gzipResponses.incrementAndGet();
+                body = compressed;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        api = new APIManager("http://127.0.0.1:" + server.getAddress().getPort() + "/api.php", 2000, 2000);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void decodesGzipResponseIntoQuestions() {
+        List<Question> questions = api.fetchQuestions("21", "easy", 2);
+
+        assertEquals(2, questions.size());
+        Question first = questions.get(0);
+        assertEquals("Who won \"the\" cup?", first.getQuestionText());
+        assertEquals("Fish & Co", first.getCorrectAnswer());
+        assertEquals(4, first.getOptions().size());
+        assertTrue(first.getOptions().contains("It's C"));
+        assertEquals("Sports", first.getCategory());
+        assertEquals(1, gzipResponses.get());
+    }
+
+    @Test
+    void reusesOneConnectionAcrossRequests() {
+        for (int i = 0; i < 20; i++) {
+            assertEquals(2, api.fetchQuestions("21", "easy", 2).size());
+        }
+        assertEquals(1, clientPorts.size(), "expected keep-alive, saw client ports " + clientPorts);
+    }
+
+    @Test
+    void nonJsonOrErrorStatusYieldsEmptyList() throws IOException {
+        server.createContext("/broken", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        APIManager broken = new APIManager("http://127.0.0.1:" + server.getAddress().getPort() + "/broken", 2000, 2000);
+
+        assertTrue(broken.fetchQuestions("21", "easy", 2).isEmpty());
+    }
+
+    @Test
+    void fetchBatchSurfacesRateLimitResponseCode() {
+        server.createContext("/limited", exchange -> {
+            byte[] body = "{\"response_code\":5,\"results\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        APIManager limited = new APIManager("http://127.0.0.1:" + server.getAddress().getPort() + "/limited", 2000, 2000);
+
+        OpenTdbException e = assertThrows(OpenTdbException.class, () -> limited.fetchBatch("21", "easy", 2));
+        assertEquals(OpenTdbException.RATE_LIMIT, e.getResponseCode());
+    }
+}
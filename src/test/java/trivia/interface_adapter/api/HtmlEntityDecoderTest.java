@@ -0,0 +1,44 @@
+package trivia.interface_adapter.api;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HtmlEntityDecoderTest {
+
+    @Test
+    void decodesNamedEntities() {
+        assertEquals("Who said \"Veni, vidi, vici\" & why?",
+                HtmlEntityDecoder.decode("Who said &quot;Veni, vidi, vici&quot; &amp; why?"));
+        assertEquals("Pokémon — 90° < 100° ½", HtmlEntityDecoder.decode("Pok&eacute;mon &mdash; 90&deg; &lt; 100&deg; &frac12;"));
+        assertEquals("It's", HtmlEntityDecoder.decode("It&apos;s"));
+    }
+
+    @Test
+    void decodesNumericEntities() {
+        assertEquals("It's", HtmlEntityDecoder.decode("It&#039;s"));
+        assertEquals("It's", HtmlEntityDecoder.decode("It&#x27;s"));
+        assertEquals("😀", HtmlEntityDecoder.decode("&#x1F600;"));
+        assertEquals("�", HtmlEntityDecoder.decode("&#xD800;"));
+    }
+
+    @Test
+    void decodesInASinglePass() {
+        assertEquals("&quot;", HtmlEntityDecoder.decode("&amp;quot;"));
+    }
+
+    @Test
+    void leavesUnknownOrUnterminatedReferencesAlone() {
+        assertEquals("AT&T", HtmlEntityDecoder.decode("AT&T"));
+        assertEquals("&nosuch; &amp", HtmlEntityDecoder.decode("&nosuch; &amp"));
+        assertEquals("&#; &#x; &#12", HtmlEntityDecoder.decode("&#; &#x; &#12"));
+        assertEquals("a & b", HtmlEntityDecoder.decode("a & b"));
+        assertNull(HtmlEntityDecoder.decode(null));
+    }
+
+    @Test
+    void returnsTheSameStringWhenThereIsNothingToDecode() {
+        String plain = "Plain question?";
+        assertSame(plain, HtmlEntityDecoder.decode(plain));
+    }
+}
@@ -0,0 +1,93 @@
+package trivia.interface_adapter.api;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import trivia.entity.Question;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the local OpenTDB stand-in and APIManager's record/replay modes.
+ */
+class OpenTdbStandInServerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private OpenTdbStandInServer server;
+
+    @AfterEach
+    void stop() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    private static List<String> texts(List<Question> questions) {
+        return questions.stream().map(Question::getQuestionText).collect(Collectors.toList());
+    }
+
+    @Test
+    void recordedResponsesReplayWithoutAServer() throws Exception {
+        server = new OpenTdbStandInServer(tempDir.resolve("empty"), 1).start(0);
+        ResponseRecordings recordings = new ResponseRecordings(tempDir.resolve("recordings"));
+        APIManager recorder = new APIManager(server.getBaseUrl(), 2000, 2000, APIManager.Mode.RECORD, recordings);
+
+        List<Question> live = recorder.fetchBatch("9", "easy", 5);
+        assertEquals(5, live.size());
+        assertTrue(live.get(0).getQuestionText().startsWith("Stand-in question #0 \""));
+        server.stop();
+        server = null;
+
+        APIManager replayer = new APIManager("http://127.0.0.1:1/unused", 2000, 2000,
+                APIManager.Mode.REPLAY, recordings);
+        assertEquals(texts(live), texts(replayer.fetchBatch("9", "easy", 5)));
+        assertThrows(IOException.class, () -> replayer.fetchBatch("21", "hard", 5));
+    }
+
+    @Test
+    void servesQuestionsFromARecordedCorpus() throws Exception {
+        server = new OpenTdbStandInServer(tempDir.resolve("empty"), 1).start(0);
+        ResponseRecordings recordings = new ResponseRecordings(tempDir.resolve("corpus"));
+        new APIManager(server.getBaseUrl(), 2000, 2000, APIManager.Mode.RECORD, recordings)
+                .fetchBatch("23", "medium", 3);
+        server.stop();
+
+        server = new OpenTdbStandInServer(recordings.getDirectory(), 1).start(0);
+        APIManager api = new APIManager(server.getBaseUrl(), 2000, 2000);
+
+        List<Question> first = api.fetchBatch("23", "medium", 3);
+        List<Question> again = api.fetchBatch("23", "medium", 3);
+        assertEquals(texts(first), texts(again), "a three-question corpus is served in a cycle");
+    }
+
+    @Test
+    void injectsRateLimitAndHttp429Faults() throws Exception {
+        server = new OpenTdbStandInServer(tempDir, 1).setRateLimitRate(1.0).start(0);
+        APIManager api = new APIManager(server.getBaseUrl(), 2000, 2000);
+
+        OpenTdbException e = assertThrows(OpenTdbException.class, () -> api.fetchBatch("9", "easy", 5));
+        assertEquals(OpenTdbException.RATE_LIMIT, e.getResponseCode());
+
+        server.setRateLimitRate(0).setHttp429Rate(1.0);
+        IOException http = assertThrows(IOException.class, () -> api.fetchBatch("9", "easy", 5));
+        assertTrue(http.getMessage().contains("429"));
+        assertTrue(api.fetchQuestions("9", "easy", 5).isEmpty());
+    }
+
+    @Test
+    void injectsLatency() throws Exception {
+        server = new OpenTdbStandInServer(tempDir, 1).setLatency(150, 0).start(0);
+        APIManager api = new APIManager(server.getBaseUrl(), 2000, 2000);
+
+        long start = System.nanoTime();
+        assertEquals(2, api.fetchBatch("9", "easy", 2).size());
+        assertTrue(System.nanoTime() - start >= 150_000_000L);
+    }
+}
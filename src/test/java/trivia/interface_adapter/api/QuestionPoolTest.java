@@ -0,0 +1,102 @@
+package trivia.interface_adapter.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import trivia.entity.Question;
+import trivia.use_case.select_quiz.SelectQuizAPIDataAccessInterface;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the prefetching QuestionPool.
+ */
+class QuestionPoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    /** Hands out a fresh, numbered batch of questions on every call. */
+    private static class CountingSource implements SelectQuizAPIDataAccessInterface {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger next = new AtomicInteger();
+
+        @Override
+        public List<Question> fetchQuestions(String categoryId, String difficulty, int amount) {
+            calls.incrementAndGet();
+            List<Question> batch = new ArrayList<>();
+            for (int i = 0; i < amount; i++) {
+                int n = next.getAndIncrement();
+                batch.add(new Question("id-" + n, "Question " + n + "?",
+                        List.of("a", "b", "c", "d"), "a", categoryId, difficulty));
+            }
+            return batch;
+        }
+    }
+
+    private QuestionPool newPool(CountingSource source) {
+        return new QuestionPool(source, tempDir.resolve("question_pool.json").toString());
+    }
+
+    @Test
+    void servesFromMemoryAfterTheFirstRefill() {
+        CountingSource source = new CountingSource();
+        QuestionPool pool = newPool(source);
+
+        assertEquals(5, pool.fetchQuestions("9", "easy", 5).size());
+        assertEquals(1, source.calls.get());
+
+        assertEquals(5, pool.fetchQuestions("9", "easy", 5).size());
+        assertEquals(1, source.calls.get());
+        assertEquals(QuestionPool.REFILL_AMOUNT - 10, pool.getPoolSize("9", "easy"));
+    }
+
+    @Test
+    void doesNotRepeatQuestionsForTheSamePlayer() {
+        QuestionPool pool = newPool(new CountingSource());
+        Set<String> seen = new HashSet<>();
+
+        for (int round = 0; round < 8; round++) {
+            for (Question q : pool.fetchQuestions("9", "easy", 5, "alice")) {
+                assertTrue(seen.add(q.getQuestionText()), "repeated " + q.getQuestionText());
+            }
+        }
+    }
+
+    @Test
+    void refillsInTheBackgroundBelowTheWatermark() throws InterruptedException {
+        CountingSource source = new CountingSource();
+        QuestionPool pool = newPool(source);
+        int take = QuestionPool.REFILL_AMOUNT - QuestionPool.LOW_WATERMARK + 1;
+
+        pool.fetchQuestions("9", "easy", take);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (source.calls.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, source.calls.get());
+    }
+
+    @Test
+    void poolSurvivesARestart() {
+        CountingSource source = new CountingSource();
+        QuestionPool pool = newPool(source);
+        pool.fetchQuestions("23", "hard", 5, "bob");
+        pool.flush();
+
+        CountingSource second = new CountingSource();
+        QuestionPool reloaded = newPool(second);
+
+        assertEquals(QuestionPool.REFILL_AMOUNT - 5, reloaded.getPoolSize("23", "hard"));
+        List<Question> next = reloaded.fetchQuestions("23", "hard", 5, "bob");
+        assertEquals(0, second.calls.get());
+        assertEquals("Question 5?", next.get(0).getQuestionText());
+    }
+}
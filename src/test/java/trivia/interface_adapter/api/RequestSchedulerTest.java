@@ -0,0 +1,147 @@
+package trivia.interface_adapter.api;
+
+import org.junit.jupiter.api.Test;
+import trivia.entity.Question;
+import trivia.use_case.select_quiz.SelectQuizAPIDataAccessInterface;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the rate-limited, coalescing RequestScheduler.
+ */
+class RequestSchedulerTest {
+
+    private static List<Question> questions(int amount) {
+        List<Question> batch = new ArrayList<>();
+        for (int i = 0; i < amount; i++) {
+            batch.add(new Question("id-" + i, "Q" + i + "?", List.of("a", "b"), "a", "Sports", "easy"));
+        }
+        return batch;
+    }
+
+    private static RequestScheduler scheduler(QuestionBatchSource upstream,
+                                              SelectQuizAPIDataAccessInterface fallback) {
+        return new RequestScheduler(upstream, fallback, new TokenBucket(1, 0), new CircuitBreaker(3, 60_000));
+    }
+
+    @Test
+    void largeRequestsAreSplitIntoBatchesOfFifty() {
+        List<Integer> sizes = Collections.synchronizedList(new ArrayList<>());
+        RequestScheduler scheduler = scheduler((c, d, amount) -> {
+            sizes.add(amount);
+            return questions(amount);
+        }, null);
+
+        assertEquals(120, scheduler.fetchQuestions("21", "easy", 120).size());
+        assertEquals(List.of(50, 50, 20), sizes);
+    }
+
+    @Test
+    void identicalRequestsInFlightShareOneCall() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RequestScheduler scheduler = scheduler((c, d, amount) -> {
+            calls.incrementAndGet();
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return questions(amount);
+        }, null);
+
+        List<List<Question>> results = Collections.synchronizedList(new ArrayList<>());
+        Thread first = new Thread(() -> results.add(scheduler.fetchQuestions("21", "easy", 5)));
+        Thread second = new Thread(() -> results.add(scheduler.fetchQuestions("21", "easy", 5)));
+        first.start();
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        second.start();
+        Thread.sleep(100);
+        release.countDown();
+        first.join();
+        second.join();
+
+        assertEquals(1, calls.get());
+        assertEquals(2, results.size());
+        assertEquals(5, results.get(1).size());
+    }
+
+    @Test
+    void rateLimitResponseIsRetriedWithTheNextToken() {
+        AtomicInteger calls = new AtomicInteger();
+        RequestScheduler scheduler = scheduler((c, d, amount) -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new OpenTdbException(OpenTdbException.RATE_LIMIT);
+            }
+            return questions(amount);
+        }, null);
+
+        assertEquals(5, scheduler.fetchQuestions("21", "easy", 5).size());
+        assertEquals(2, calls.get());
+        assertEquals(CircuitBreaker.State.CLOSED, scheduler.getCircuitState());
+    }
+
+    @Test
+    void notEnoughQuestionsIsRetriedWithSmallerAmounts() {
+        List<Integer> sizes = Collections.synchronizedList(new ArrayList<>());
+        RequestScheduler scheduler = scheduler((c, d, amount) -> {
+            sizes.add(amount);
+            if (amount > 12) {
+                throw new OpenTdbException(OpenTdbException.NO_RESULTS);
+            }
+            return questions(amount);
+        }, null);
+
+        assertEquals(12, scheduler.fetchQuestions("21", "easy", 50).size());
+        assertEquals(List.of(50, 25, 12), sizes);
+
+        // the next refill of the combination asks for what it could serve right away
+        assertEquals(12, scheduler.fetchQuestions("21", "easy", 50).size());
+        assertEquals(List.of(50, 25, 12, 12), sizes);
+        assertEquals(CircuitBreaker.State.CLOSED, scheduler.getCircuitState());
+    }
+
+    @Test
+    void persistentRateLimitIsReportedInsteadOfAnEmptyList() {
+        RequestScheduler scheduler = scheduler((c, d, amount) -> {
+            throw new OpenTdbException(OpenTdbException.RATE_LIMIT);
+        }, null);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> scheduler.fetchQuestions("21", "easy", 5));
+        assertTrue(e.getMessage().contains("too many requests"));
+    }
+
+    @Test
+    void openCircuitServesLocalQuestionsWithoutCallingUpstream() {
+        AtomicInteger calls = new AtomicInteger();
+        RequestScheduler scheduler = scheduler((c, d, amount) -> {
+            calls.incrementAndGet();
+            throw new IOException("connection refused");
+        }, (c, d, amount) -> questions(2));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(2, scheduler.fetchQuestions("21", "easy", 5).size());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, scheduler.getCircuitState());
+
+        assertEquals(2, scheduler.fetchQuestions("21", "easy", 5).size());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void tokenBucketPacesCallers() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1, 50);
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            bucket.acquire();
+        }
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(95));
+    }
+}
@@ -31,6 +31,21 @@ class CompleteQuizInteractorTest {
         }
     }
 
+    /**
+     * Player store that records every completion credited to a player.
+     */
+    private static class RecordingPlayerProgress implements PlayerProgressDataAccessInterface {
+        private final List<QuizAttempt> credited = new ArrayList<>();
+        private int points;
+
+        @Override
+        public boolean applyCompletion(String playerName, QuizAttempt attempt, int scoreDelta) {
+            credited.add(attempt);
+            points += scoreDelta;
+            return true;
+        }
+    }
+
     /**
      * Test presenter that stores the last output data for assertions.
      */
@@ -65,8 +80,9 @@ class CompleteQuizInteractorTest {
     void execute_savesAttemptAndCallsPresenter_withCorrectScore() {
         // Arrange
         InMemoryQuizAttemptRepo repo = new InMemoryQuizAttemptRepo();
+        RecordingPlayerProgress players = new RecordingPlayerProgress();
         TestPresenter presenter = new TestPresenter();
-        CompleteQuizInteractor interactor = new CompleteQuizInteractor(repo, presenter);
+        CompleteQuizInteractor interactor = new CompleteQuizInteractor(repo, players, presenter);
 
         String playerName = "test-player";
 
@@ -103,6 +119,8 @@ class CompleteQuizInteractorTest {
         assertEquals(playerName, attempt.getUserName(), "Player name should be stored in attempt.");
         assertEquals(2, attempt.getScore(), "Score should be 2 (2 correct out of 3).");
         assertEquals(userAnswers, attempt.getUserAnswers(), "User answers should be stored as given.");
+        assertEquals(List.of(attempt), players.credited, "The player should be credited with the attempt.");
+        assertEquals(2, players.points, "The player should get the attempt's points.");
 
         // Assert: presenter should receive correct output data
         CompleteQuizOutputData output = presenter.getLastOutput();
@@ -115,8 +133,9 @@ class CompleteQuizInteractorTest {
     void execute_allWrongAnswers_resultsInZeroScore() {
         // Arrange
         InMemoryQuizAttemptRepo repo = new InMemoryQuizAttemptRepo();
+        RecordingPlayerProgress players = new RecordingPlayerProgress();
         TestPresenter presenter = new TestPresenter();
-        CompleteQuizInteractor interactor = new CompleteQuizInteractor(repo, presenter);
+        CompleteQuizInteractor interactor = new CompleteQuizInteractor(repo, players, presenter);
 
         String playerName = "another-player";
 
@@ -154,4 +173,45 @@ class CompleteQuizInteractorTest {
         assertEquals(0, output.getScore(), "Output score should be 0.");
         assertEquals(2, output.getTotal(), "Output total should be 2.");
     }
+
+    @Test
+    void execute_withSelectedIndices_commitsQuizAttemptAndScoreTogether() {
+        // Arrange: a repo that records the whole unit of work
+        List<QuizCompletion> completions = new ArrayList<>();
+        QuizAttemptDataAccessInterface repo = new QuizAttemptDataAccessInterface() {
+            @Override
+            public void saveAttempt(QuizAttempt attempt) {
+                fail("Completion should be committed as a single unit of work.");
+            }
+
+            @Override
+            public void commitCompletion(QuizCompletion completion, PlayerProgressDataAccessInterface players) {
+                completions.add(completion);
+            }
+        };
+        RecordingPlayerProgress players = new RecordingPlayerProgress();
+        TestPresenter presenter = new TestPresenter();
+        CompleteQuizInteractor interactor = new CompleteQuizInteractor(repo, players, presenter);
+
+        List<String> options = List.of("A", "B", "C", "D");
+        List<Question> questions = List.of(
+                createQuestion("Q1", options, "A"),
+                createQuestion("Q2", options, "C"));
+
+        // second question left unanswered
+        CompleteQuizInputData inputData = new CompleteQuizInputData(
+                "indexed-player", questions, List.of("A", ""), List.of(0, -1));
+
+        // Act
+        interactor.execute(inputData);
+
+        // Assert
+        assertEquals(1, completions.size(), "Exactly one completion should be committed.");
+        QuizCompletion completion = completions.get(0);
+        assertEquals("indexed-player", completion.getPlayerName());
+        assertEquals(1, completion.getScoreDelta(), "Only the first answer is correct.");
+        assertSame(completion.getQuiz(), completion.getAttempt().getQuiz());
+        assertEquals(List.of(0, -1), completion.getAttempt().getSelectedOptionIndices());
+        assertEquals(1, presenter.getLastOutput().getScore());
+    }
 }
@@ -10,7 +10,9 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -107,6 +109,120 @@ class ReviewQuizInteractorTest {
         assertEquals(5, presenter.lastResponse.getPastQuizzes().size());
     }
 
+    @Test
+    void testViewPastQuizzesPagesNewestFirstWithCursor() {
+        List<QuizAttempt> attempts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            attempts.add(createAttemptCompletedOnDay(i));
+        }
+        attemptDataAccess.attempts = attempts;
+        quizDataAccess.quiz = createTestQuiz();
+
+        interactor.viewPastQuizzes("player", null, 2);
+
+        ReviewQuizResponseModel first = presenter.lastResponse;
+        assertEquals(5, first.getTotalPastQuizzes());
+        assertEquals(Arrays.asList(4, 3), scoresOf(first));
+        assertNotNull(first.getNextPastQuizCursor());
+
+        // a new attempt arriving between pages does not shift the next page
+        attempts.add(createAttemptCompletedOnDay(9));
+        interactor.viewPastQuizzes("player", first.getNextPastQuizCursor(), 2);
+        ReviewQuizResponseModel second = presenter.lastResponse;
+        assertEquals(Arrays.asList(2, 1), scoresOf(second));
+
+        interactor.viewPastQuizzes("player", second.getNextPastQuizCursor(), 2);
+        assertEquals(Arrays.asList(0), scoresOf(presenter.lastResponse));
+        assertNull(presenter.lastResponse.getNextPastQuizCursor());
+    }
+
+    @Test
+    void testViewPastQuizzesCursorSurvivesRemovedAndMergedAttempts() {
+        List<QuizAttempt> attempts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            attempts.add(createAttemptCompletedOnDay(i));
+        }
+        attemptDataAccess.attempts = attempts;
+        quizDataAccess.quiz = createTestQuiz();
+
+        interactor.viewPastQuizzes("player", null, 2);
+        String cursor = presenter.lastResponse.getNextPastQuizCursor();
+
+        // the last attempt shown is removed and an older one from elsewhere lands at the front
+        attempts.remove(3);
+        attempts.add(0, createAttemptCompletedOnDay("merged", 2));
+        interactor.viewPastQuizzes("player", cursor, 10);
+
+        assertEquals(Arrays.asList(2, 2, 1, 0), scoresOf(presenter.lastResponse));
+        assertNull(presenter.lastResponse.getNextPastQuizCursor());
+    }
+
+    @Test
+    void testViewPastQuizzesListsNewestByCompletionTimeNotStorageOrder() {
+        attemptDataAccess.attempts = new ArrayList<>(Arrays.asList(
+                createAttemptCompletedOnDay(3), createAttemptCompletedOnDay(7), createAttemptCompletedOnDay(5)));
+        quizDataAccess.quiz = createTestQuiz();
+
+        interactor.viewPastQuizzes("player", null, 3);
+
+        assertEquals(Arrays.asList(7, 5, 3), scoresOf(presenter.lastResponse));
+        assertNull(presenter.lastResponse.getNextPastQuizCursor());
+    }
+
+    @Test
+    void testViewPastQuizzesRejectsMalformedCursor() {
+        attemptDataAccess.attempts = Arrays.asList(createTestAttempt(createTestQuiz()));
+
+        interactor.viewPastQuizzes("player", "not-a-cursor", 10);
+
+        assertEquals("Invalid page cursor.", presenter.lastResponse.getMessage());
+        assertTrue(presenter.lastResponse.getPastQuizzes().isEmpty());
+    }
+
+    @Test
+    void testViewPastQuizzesListsAttemptsOfMissingQuizzesUnderPlaceholderTitle() {
+        attemptDataAccess.attempts = Arrays.asList(createTestAttempt(createTestQuiz()));
+        quizDataAccess.quiz = null;
+
+        interactor.viewPastQuizzes("player");
+        assertEquals(ReviewQuizInteractor.UNKNOWN_QUIZ_TITLE,
+                presenter.lastResponse.getPastQuizzes().get(0).getQuizTitle());
+
+        interactor.viewPastQuizzes("player", null, 10);
+        assertEquals(ReviewQuizInteractor.UNKNOWN_QUIZ_TITLE,
+                presenter.lastResponse.getPastQuizzes().get(0).getQuizTitle());
+    }
+
+    @Test
+    void testSortedAndUnsortedPagesAgree() {
+        List<QuizAttempt> attempts = new ArrayList<>();
+        NavigableMap<PastQuizCursor, QuizAttempt> byPosition = new TreeMap<>();
+        for (int i = 0; i < 7; i++) {
+            QuizAttempt attempt = createAttemptCompletedOnDay("a" + i, (i * 5) % 7);
+            attempts.add(attempt);
+            byPosition.put(PastQuizCursor.of(attempt), attempt);
+        }
+
+        PastQuizCursor cursor = null;
+        for (int page = 0; page < 4; page++) {
+            List<QuizAttempt> sorted = PastQuizCursor.pageAfter(byPosition, cursor, 2);
+            assertEquals(PastQuizCursor.pageAfter(attempts, cursor, 2), sorted);
+            if (sorted.isEmpty()) {
+                break;
+            }
+            cursor = PastQuizCursor.of(sorted.get(sorted.size() - 1));
+        }
+        assertTrue(PastQuizCursor.pageAfter(byPosition, cursor, 2).isEmpty());
+    }
+
+    private static List<Integer> scoresOf(ReviewQuizResponseModel response) {
+        List<Integer> scores = new ArrayList<>();
+        for (ReviewQuizResponseModel.PastQuizSummary summary : response.getPastQuizzes()) {
+            scores.add(summary.getScore());
+        }
+        return scores;
+    }
+
     // ========================================================================
     //  openAttempt() Tests - COMPLETE Coverage
     // ========================================================================
@@ -257,7 +373,7 @@ class ReviewQuizInteractorTest {
         
         attemptDataAccess.attemptToReturn = Optional.of(attempt);
         ReviewQuizRequestModel request = new ReviewQuizRequestModel(
-                attempt.getAttemptId(), "player", Arrays.asList(0, 1));
+                attempt.getAttemptId(), "testPlayer", Arrays.asList(0, 1));
 
         interactor.saveEditedAnswers(request);
 
@@ -268,6 +384,23 @@ class ReviewQuizInteractorTest {
         assertFalse(attemptDataAccess.updateAttemptCalled);
     }
 
+    @Test
+    void testSaveEditedAnswersOfAnotherPlayerIsRefused() {
+        Quiz quiz = createTestQuiz();
+        QuizAttempt attempt = createTestAttempt(quiz);
+
+        attemptDataAccess.attemptToReturn = Optional.of(attempt);
+        quizDataAccess.quiz = quiz;
+        ReviewQuizRequestModel request = new ReviewQuizRequestModel(
+                attempt.getAttemptId(), "mallory", Arrays.asList(0, 1));
+
+        interactor.saveEditedAnswers(request);
+
+        assertEquals("You can only edit your own quiz attempts.", presenter.lastResponse.getMessage());
+        assertNull(presenter.lastResponse.getAttemptId());
+        assertFalse(attemptDataAccess.updateAttemptCalled);
+    }
+
     @Test
     void testSaveEditedAnswersAllCorrect() {
         Quiz quiz = createTestQuiz();
@@ -277,7 +410,7 @@ class ReviewQuizInteractorTest {
         quizDataAccess.quiz = quiz;
         
         ReviewQuizRequestModel request = new ReviewQuizRequestModel(
-                attempt.getAttemptId(), "player", Arrays.asList(0, 1));
+                attempt.getAttemptId(), "testPlayer", Arrays.asList(0, 1));
 
         interactor.saveEditedAnswers(request);
 
@@ -299,7 +432,7 @@ class ReviewQuizInteractorTest {
         quizDataAccess.quiz = quiz;
         
         ReviewQuizRequestModel request = new ReviewQuizRequestModel(
-                attempt.getAttemptId(), "player", Arrays.asList(0, 0));
+                attempt.getAttemptId(), "testPlayer", Arrays.asList(0, 0));
 
         interactor.saveEditedAnswers(request);
 
@@ -316,7 +449,7 @@ class ReviewQuizInteractorTest {
         quizDataAccess.quiz = quiz;
         
         ReviewQuizRequestModel request = new ReviewQuizRequestModel(
-                attempt.getAttemptId(), "player", Arrays.asList(2, 2));
+                attempt.getAttemptId(), "testPlayer", Arrays.asList(2, 2));
 
         interactor.saveEditedAnswers(request);
 
@@ -333,7 +466,7 @@ class ReviewQuizInteractorTest {
         quizDataAccess.quiz = quiz;
         
         ReviewQuizRequestModel request = new ReviewQuizRequestModel(
-                attempt.getAttemptId(), "player", new ArrayList<>());
+                attempt.getAttemptId(), "testPlayer", new ArrayList<>());
 
         interactor.saveEditedAnswers(request);
 
@@ -352,7 +485,7 @@ class ReviewQuizInteractorTest {
         
         // Only 1 answer for 2 questions
         ReviewQuizRequestModel request = new ReviewQuizRequestModel(
-                attempt.getAttemptId(), "player", Arrays.asList(0));
+                attempt.getAttemptId(), "testPlayer", Arrays.asList(0));
 
         interactor.saveEditedAnswers(request);
 
@@ -372,7 +505,7 @@ class ReviewQuizInteractorTest {
         
         // 3 answers for 2 questions (extra answer should be ignored)
         ReviewQuizRequestModel request = new ReviewQuizRequestModel(
-                attempt.getAttemptId(), "player", Arrays.asList(0, 1, 2));
+                attempt.getAttemptId(), "testPlayer", Arrays.asList(0, 1, 2));
 
         interactor.saveEditedAnswers(request);
 
@@ -392,7 +525,7 @@ class ReviewQuizInteractorTest {
         
         // Mix of correct and incorrect
         ReviewQuizRequestModel request = new ReviewQuizRequestModel(
-                attempt.getAttemptId(), "player", 
+                attempt.getAttemptId(), "testPlayer", 
                 Arrays.asList(0, 1, 0, 1, 0)); // Pattern: correct, correct, wrong, wrong, wrong
 
         interactor.saveEditedAnswers(request);
@@ -536,6 +669,16 @@ class ReviewQuizInteractorTest {
         return new Quiz("null-quiz", "Null Questions Quiz", "Test", "easy", "creator", null);
     }
 
+    /** An attempt completed on the given day of January 2024, scored with the day's number. */
+    private QuizAttempt createAttemptCompletedOnDay(int day) {
+        return createAttemptCompletedOnDay("attempt-" + day, day);
+    }
+
+    private QuizAttempt createAttemptCompletedOnDay(String attemptId, int day) {
+        return new QuizAttempt(attemptId, createTestQuiz(), 0, "testPlayer",
+                LocalDateTime.of(2024, 1, 1 + day, 12, 0).toString(), new ArrayList<>(), day);
+    }
+
     private QuizAttempt createTestAttempt(Quiz quiz) {
         return createTestAttemptWithScore(quiz, 1);
     }
@@ -581,6 +724,21 @@ class ReviewQuizInteractorTest {
             return attempts;
         }
 
+        @Override
+        public int getAttemptCount(String playerName) {
+            return attempts.size();
+        }
+
+        @Override
+        public List<QuizAttempt> getAttemptsAfter(String playerName, PastQuizCursor cursor, int limit) {
+            // sorted the way the player store keeps each player's attempts
+            NavigableMap<PastQuizCursor, QuizAttempt> byPosition = new TreeMap<>();
+            for (QuizAttempt attempt : attempts) {
+                byPosition.put(PastQuizCursor.of(attempt), attempt);
+            }
+            return PastQuizCursor.pageAfter(byPosition, cursor, limit);
+        }
+
         @Override
         public Optional<QuizAttempt> getAttemptById(String attemptId) {
             return attemptToReturn;
@@ -0,0 +1,106 @@
+package trivia.use_case.select_quiz;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import trivia.entity.Question;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelectQuizInteractorAsyncTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static class RecordingPresenter implements SelectQuizOutputBoundary {
+        final AtomicReference<Object> result = new AtomicReference<>();
+        final CountDownLatch presented = new CountDownLatch(1);
+
+        @Override
+        public void presentSuccess(SelectQuizOutputData outputData) {
+            result.set(outputData.getQuestions());
+            presented.countDown();
+        }
+
+        @Override
+        public void presentFailure(String errorMessage) {
+            result.set(errorMessage);
+            presented.countDown();
+        }
+    }
+
+    @Test
+    void executeAsync_presentsResultFromWorkerThread() throws Exception {
+        Question q = new Question("1", "Q?", List.of("a", "b"), "a", "9", "easy");
+        AtomicReference<String> fetchThread = new AtomicReference<>();
+        SelectQuizAPIDataAccessInterface api = (category, difficulty, amount) -> {
+            fetchThread.set(Thread.currentThread().getName());
+            return List.of(q);
+        };
+        RecordingPresenter presenter = new RecordingPresenter();
+
+        Future<?> future = new SelectQuizInteractor(api, presenter, executor)
+                .executeAsync(new SelectQuizInputData("9", "easy", 1, "alice"));
+        future.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(q), presenter.result.get());
+        assertNotEquals(Thread.currentThread().getName(), fetchThread.get());
+    }
+
+    @Test
+    void executeAsync_cancelledRequestPresentsNothing() throws Exception {
+        CountDownLatch fetching = new CountDownLatch(1);
+        SelectQuizAPIDataAccessInterface api = (category, difficulty, amount) -> {
+            fetching.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                // cancelled; the fetch gives up like APIManager does on failure
+            }
+            return List.of();
+        };
+        RecordingPresenter presenter = new RecordingPresenter();
+
+        Future<?> future = new SelectQuizInteractor(api, presenter, executor)
+                .executeAsync(new SelectQuizInputData("9", "easy", 5));
+        assertTrue(fetching.await(5, TimeUnit.SECONDS));
+        assertTrue(future.cancel(true));
+
+        assertFalse(presenter.presented.await(300, TimeUnit.MILLISECONDS));
+        assertNull(presenter.result.get());
+    }
+
+    @Test
+    void executeAsync_resultCancelledBeforeItsHandOverIsDropped() throws Exception {
+        Question q = new Question("1", "Q?", List.of("a", "b"), "a", "9", "easy");
+        SelectQuizAPIDataAccessInterface api = (category, difficulty, amount) -> List.of(q);
+        // stands in for the event queue: hand-offs wait until the test runs them
+        BlockingQueue<Runnable> handOvers = new LinkedBlockingQueue<>();
+        RecordingPresenter presenter = new RecordingPresenter();
+
+        Future<?> future = new SelectQuizInteractor(api, presenter, executor, handOvers::add)
+                .executeAsync(new SelectQuizInputData("9", "easy", 1));
+        future.get(5, TimeUnit.SECONDS);
+        Runnable handOver = handOvers.poll(5, TimeUnit.SECONDS);
+        assertNotNull(handOver);
+
+        // the fetch already finished, yet cancelling still withdraws its result
+        future.cancel(true);
+        handOver.run();
+
+        assertNull(presenter.result.get());
+    }
+}
@@ -0,0 +1,57 @@
+package trivia.use_case.view_profile;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ViewProfileInteractorTest {
+
+    @Test
+    void execute_usesRankAndSummaryWithoutLoadingPlayers() {
+        ViewProfileDataAccessInterface dataAccess = mock(ViewProfileDataAccessInterface.class);
+        ViewProfileOutputBoundary presenter = mock(ViewProfileOutputBoundary.class);
+        when(dataAccess.getSummary("alice")).thenReturn(new PlayerSummary("alice", 40, 6));
+        when(dataAccess.getRank("alice")).thenReturn(3);
+        when(dataAccess.getPlayerCount()).thenReturn(12);
+
+        new ViewProfileInteractor(dataAccess, presenter).execute(new ViewProfileInputData("alice"));
+
+        verify(presenter).present(argThat(out ->
+                out.getRank() == 3 && out.getTotalPlayers() == 12 && out.getTotalScore() == 40
+                        && out.getTotalAttempts() == 6));
+        verify(dataAccess, never()).getAllPlayers();
+        verify(dataAccess, never()).loadPlayer(any());
+    }
+
+    @Test
+    void execute_unknownPlayerIsUnranked() {
+        ViewProfileDataAccessInterface dataAccess = mock(ViewProfileDataAccessInterface.class);
+        ViewProfileOutputBoundary presenter = mock(ViewProfileOutputBoundary.class);
+
+        new ViewProfileInteractor(dataAccess, presenter).execute(new ViewProfileInputData("ghost"));
+
+        verify(presenter).present(argThat(out -> out.getRank() == -1 && out.getTotalPlayers() == 0));
+    }
+
+    @Test
+    void execute_passesPrecomputedStatisticsThrough() {
+        ViewProfileDataAccessInterface dataAccess = mock(ViewProfileDataAccessInterface.class);
+        ViewProfileOutputBoundary presenter = mock(ViewProfileOutputBoundary.class);
+        when(dataAccess.getSummary("alice")).thenReturn(new PlayerSummary("alice", 0, 0));
+        PlayerStatistics statistics = new PlayerStatistics(4, 3,
+                List.of(new PlayerStatistics.CategoryStatistics("Math", 2, 2),
+                        new PlayerStatistics.CategoryStatistics("Science", 2, 1)), 2, 5, 4.0);
+        when(dataAccess.getStatistics("alice")).thenReturn(statistics);
+
+        new ViewProfileInteractor(dataAccess, presenter).execute(new ViewProfileInputData("alice"));
+
+        verify(presenter).present(argThat(out -> out.getStatistics() == statistics));
+        assertEquals(0.75, statistics.getAccuracy());
+        assertEquals("Math", statistics.getBestCategory());
+        assertEquals("Science", statistics.getWorstCategory());
+    }
+}